@@ -0,0 +1,129 @@
+package com.zen.ala.application.id;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares product inserts keyed by UUIDv7 with inserts keyed by random UUIDv4.
+ *
+ * <p>Each invocation inserts a batch of rows into a table shaped like {@code products} and commits.
+ * The table keeps growing over the trial, so the primary key index eventually outgrows the buffer
+ * cache and random keys start paying for page splits and cache misses. When the trial ends, the
+ * row count and the primary key index size are printed; on Postgres the index size exposes the
+ * half-empty pages left behind by random inserts.
+ *
+ * <p>Runs against an embedded H2 database by default. Point it at Postgres with {@code ./gradlew
+ * jmh -Pbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/bench -Pbenchmark.jdbc.user=...
+ * -Pbenchmark.jdbc.password=...}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ProductIdInsertBenchmark {
+
+  private static final int BATCH_SIZE = 1000;
+  private static final String TABLE = "products_id_benchmark";
+
+  @Param({"UUID_V7", "RANDOM"})
+  IdGeneratorType generatorType;
+
+  private final BigDecimal price = new BigDecimal("19.99");
+
+  private IdGenerator generator;
+  private Connection connection;
+  private PreparedStatement insert;
+
+  @Setup(Level.Trial)
+  public void setup() throws SQLException {
+    generator =
+        switch (generatorType) {
+          case UUID_V7 -> new UuidV7Generator();
+          case RANDOM -> new RandomUuidGenerator();
+        };
+
+    connection =
+        DriverManager.getConnection(
+            System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:ids;DB_CLOSE_DELAY=-1"),
+            System.getProperty("benchmark.jdbc.user", "sa"),
+            System.getProperty("benchmark.jdbc.password", ""));
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS " + TABLE);
+      statement.execute(
+          "CREATE TABLE "
+              + TABLE
+              + " (id UUID PRIMARY KEY, name VARCHAR(255), price NUMERIC(38, 2))");
+    }
+    connection.setAutoCommit(false);
+    insert = connection.prepareStatement("INSERT INTO " + TABLE + " VALUES (?, ?, ?)");
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void insertBatch() throws SQLException {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      insert.setObject(1, generator.generate());
+      insert.setString(2, "Product");
+      insert.setBigDecimal(3, price);
+      insert.addBatch();
+    }
+    insert.executeBatch();
+    connection.commit();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      System.out.printf(
+          "%n%s: %d rows, primary key index %s%n",
+          generatorType, rowCount(statement), primaryKeyIndexSize(statement));
+      statement.execute("DROP TABLE " + TABLE);
+    }
+    connection.commit();
+    connection.close();
+  }
+
+  private static long rowCount(Statement statement) throws SQLException {
+    try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + TABLE)) {
+      rs.next();
+      return rs.getLong(1);
+    }
+  }
+
+  private String primaryKeyIndexSize(Statement statement) throws SQLException {
+    if (!connection.getMetaData().getDatabaseProductName().equals("PostgreSQL")) {
+      return "size n/a";
+    }
+    try (ResultSet rs =
+        statement.executeQuery(
+            "SELECT pg_size_pretty(pg_relation_size(indexrelid)) FROM pg_index"
+                + " WHERE indrelid = '"
+                + TABLE
+                + "'::regclass AND indisprimary")) {
+      rs.next();
+      return rs.getString(1);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.zen.ala.domain.service;
+
+import com.zen.ala.domain.service.discount.DiscountStrategy;
+import com.zen.ala.domain.service.discount.PercentageDiscount;
+import com.zen.ala.domain.service.discount.QuantityDiscount;
+import com.zen.ala.domain.service.discount.dict.DiscountPolicy;
+import com.zen.ala.domain.service.discount.dict.DiscountType;
+import com.zen.ala.domain.service.discount.dict.PricingMode;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link PriceCalculatorService#calculatePrice} for every discount strategy in both
+ * pricing modes.
+ *
+ * <p>The service is configured like the default {@code pricing.discount} settings. Unit prices
+ * and quantities are drawn from pre-generated tables, so every strategy sees the same mix of
+ * prices and quantity tiers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceCalculatorBenchmark {
+
+  private static final int INPUTS = 1024;
+
+  @Param({"QUANTITY", "PERCENTAGE", "BOTH"})
+  DiscountType discountType;
+
+  @Param({"CUMULATIVE", "HIGHEST"})
+  DiscountPolicy discountPolicy;
+
+  @Param({"BIG_DECIMAL", "FIXED_POINT"})
+  PricingMode mode;
+
+  private final BigDecimal[] unitPrices = new BigDecimal[INPUTS];
+  private final int[] quantities = new int[INPUTS];
+  private int next;
+
+  private PriceCalculatorService priceCalculatorService;
+  private DiscountStrategy strategy;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    TreeMap<Integer, BigDecimal> thresholds = new TreeMap<>();
+    thresholds.put(10, new BigDecimal("0.05"));
+    thresholds.put(20, new BigDecimal("0.10"));
+    thresholds.put(50, new BigDecimal("0.15"));
+    priceCalculatorService =
+        new PriceCalculatorService(
+            List.of(PercentageDiscount.of(new BigDecimal("0.10")), QuantityDiscount.of(thresholds)),
+            mode,
+            2,
+            RoundingMode.HALF_EVEN);
+    strategy = new DiscountStrategy(discountType, discountPolicy);
+
+    Random random = new Random(42);
+    for (int i = 0; i < INPUTS; i++) {
+      unitPrices[i] = BigDecimal.valueOf(100 + random.nextInt(1_000_000), 2);
+      quantities[i] = 1 + random.nextInt(100);
+    }
+  }
+
+  @Benchmark
+  public BigDecimal calculatePrice() {
+    int i = next++ & (INPUTS - 1);
+    return priceCalculatorService.calculatePrice(unitPrices[i], quantities[i], strategy);
+  }
+}
@@ -0,0 +1,100 @@
+package com.zen.ala.domain.service.discount;
+
+import java.math.BigDecimal;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the array-backed {@link QuantityDiscount} with the previous {@link TreeMap} lookup.
+ *
+ * <p>Quantities are drawn from a pre-generated table spanning the whole tier range, so both
+ * implementations see the same mix of tier hits and misses.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuantityDiscountBenchmark {
+
+  private static final int QUANTITIES = 1024;
+
+  @Param({"3", "100", "10000"})
+  int tiers;
+
+  private final BigDecimal basePrice = new BigDecimal("1999.99");
+  private final int[] quantities = new int[QUANTITIES];
+  private int next;
+
+  private BasisPointDiscount arrayDiscount;
+  private TreeMapQuantityDiscount treeMapDiscount;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    NavigableMap<Integer, BigDecimal> thresholds = new TreeMap<>();
+    for (int i = 1; i <= tiers; i++) {
+      // rates from 0.01% up to 50%, one tier every 10 items
+      thresholds.put(i * 10, BigDecimal.valueOf(1 + (i * 4999L) / tiers, 4));
+    }
+    arrayDiscount = (BasisPointDiscount) QuantityDiscount.of(thresholds);
+    treeMapDiscount = new TreeMapQuantityDiscount(thresholds);
+
+    Random random = new Random(42);
+    for (int i = 0; i < QUANTITIES; i++) {
+      quantities[i] = random.nextInt(tiers * 10 + 20);
+    }
+  }
+
+  @Benchmark
+  public BigDecimal treeMap() {
+    return treeMapDiscount.apply(basePrice, nextQuantity());
+  }
+
+  @Benchmark
+  public BigDecimal array() {
+    return arrayDiscount.apply(basePrice, nextQuantity());
+  }
+
+  @Benchmark
+  public int arrayBasisPoints() {
+    return arrayDiscount.retainedBasisPoints(nextQuantity());
+  }
+
+  private int nextQuantity() {
+    return quantities[next++ & (QUANTITIES - 1)];
+  }
+
+  /** The previous implementation: two boxed floorEntry lookups per call. */
+  static final class TreeMapQuantityDiscount {
+
+    private final NavigableMap<Integer, BigDecimal> quantityThresholds;
+
+    TreeMapQuantityDiscount(NavigableMap<Integer, BigDecimal> quantityThresholds) {
+      this.quantityThresholds = quantityThresholds;
+    }
+
+    BigDecimal apply(BigDecimal basePrice, int quantity) {
+      BigDecimal discountRate =
+          quantityThresholds.floorEntry(quantity) != null
+              ? quantityThresholds.floorEntry(quantity).getValue()
+              : BigDecimal.ZERO;
+
+      return basePrice.subtract(basePrice.multiply(discountRate));
+    }
+  }
+}
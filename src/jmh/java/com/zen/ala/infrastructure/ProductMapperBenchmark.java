@@ -0,0 +1,114 @@
+package com.zen.ala.infrastructure;
+
+import com.zen.ala.domain.model.PriceQuote;
+import com.zen.ala.domain.model.PriceQuoteRequest;
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.infrastructure.persistance.entity.ProductEntity;
+import com.zen.ala.infrastructure.persistance.mapper.ProductEntityMapper;
+import com.zen.ala.infrastructure.persistance.mapper.ProductEntityMapperImpl;
+import com.zen.ala.infrastructure.web.dto.PriceQuoteRequestDto;
+import com.zen.ala.infrastructure.web.dto.PriceQuoteResponseDto;
+import com.zen.ala.infrastructure.web.dto.ProductRequestDto;
+import com.zen.ala.infrastructure.web.dto.ProductResponseDto;
+import com.zen.ala.infrastructure.web.mapper.PriceQuoteDtoMapper;
+import com.zen.ala.infrastructure.web.mapper.PriceQuoteDtoMapperImpl;
+import com.zen.ala.infrastructure.web.mapper.ProductRequestDtoMapper;
+import com.zen.ala.infrastructure.web.mapper.ProductRequestDtoMapperImpl;
+import com.zen.ala.infrastructure.web.mapper.ProductResponseDtoMapper;
+import com.zen.ala.infrastructure.web.mapper.ProductResponseDtoMapperImpl;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the generated MapStruct mappers on the paths every request takes.
+ *
+ * <p>Single products are mapped between the entity, the domain model and the web DTOs; price
+ * quotes are mapped as a {@code calculate-prices} body of 100 lines.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductMapperBenchmark {
+
+  private static final int QUOTE_LINES = 100;
+
+  private final ProductEntityMapper productEntityMapper = new ProductEntityMapperImpl();
+  private final ProductResponseDtoMapper productResponseDtoMapper =
+      new ProductResponseDtoMapperImpl();
+  private final ProductRequestDtoMapper productRequestDtoMapper = new ProductRequestDtoMapperImpl();
+  private final PriceQuoteDtoMapper priceQuoteDtoMapper = new PriceQuoteDtoMapperImpl();
+
+  private ProductEntity entity;
+  private Product product;
+  private ProductRequestDto request;
+  private List<PriceQuoteRequestDto> quoteRequests;
+  private List<PriceQuote> quotes;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    UUID id = UUID.randomUUID();
+    entity = new ProductEntity(id, "Product", new BigDecimal("1999.99"), 3L);
+    product = new Product(id, "Product", new BigDecimal("1999.99"), 3L);
+    request = new ProductRequestDto("Product", new BigDecimal("1999.99"), 3L);
+
+    quoteRequests = new ArrayList<>(QUOTE_LINES);
+    quotes = new ArrayList<>(QUOTE_LINES);
+    for (int i = 0; i < QUOTE_LINES; i++) {
+      PriceQuoteRequestDto line =
+          new PriceQuoteRequestDto(UUID.randomUUID(), i + 1, "BOTH", "CUMULATIVE");
+      quoteRequests.add(line);
+      quotes.add(
+          PriceQuote.priced(
+              new PriceQuoteRequest(
+                  line.productId(), line.quantity(), line.discountType(), line.discountPolicy()),
+              BigDecimal.valueOf(1999 * (i + 1L), 2)));
+    }
+  }
+
+  @Benchmark
+  public Product entityToDomain() {
+    return productEntityMapper.toDomain(entity);
+  }
+
+  @Benchmark
+  public ProductEntity domainToEntity() {
+    return productEntityMapper.toEntity(product);
+  }
+
+  @Benchmark
+  public ProductResponseDto domainToResponse() {
+    return productResponseDtoMapper.toDto(product);
+  }
+
+  @Benchmark
+  public Product requestToDomain() {
+    return productRequestDtoMapper.toDomain(request);
+  }
+
+  @Benchmark
+  public List<PriceQuoteRequest> quoteRequestsToDomain() {
+    return priceQuoteDtoMapper.toDomain(quoteRequests);
+  }
+
+  @Benchmark
+  public List<PriceQuoteResponseDto> quotesToResponse() {
+    return priceQuoteDtoMapper.toDto(quotes);
+  }
+}
@@ -0,0 +1,100 @@
+package com.zen.ala.infrastructure.metrics;
+
+import com.zen.ala.ShoppingPlatformApplication;
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.domain.port.in.ProductInboundPort;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures the cost of the catalog metrics on the {@code calculate-price} hot path.
+ *
+ * <p>The application is started once with {@code catalog.metrics.enabled} off and once with it on.
+ * {@code request} sends the whole {@code calculate-price} request over HTTP, which is the path the
+ * overhead budget of 2% applies to; {@code port} makes its two inbound port calls directly, to
+ * show the fixed cost of the decorators, the timers and the quote counter per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+public class PortMetricsBenchmark {
+
+  @Param({"false", "true"})
+  boolean metered;
+
+  private ConfigurableApplicationContext context;
+  private ProductInboundPort productInboundPort;
+  private HttpClient httpClient;
+  private HttpRequest request;
+  private UUID id;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    context =
+        SpringApplication.run(
+            ShoppingPlatformApplication.class,
+            "--server.port=0",
+            "--spring.main.banner-mode=off",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--catalog.metrics.enabled=" + metered);
+    productInboundPort = context.getBean(ProductInboundPort.class);
+    Product product = new Product(null, "Product", new BigDecimal("199.99"));
+    id = productInboundPort.saveProduct(product).getId();
+
+    int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+    httpClient = HttpClient.newHttpClient();
+    request =
+        HttpRequest.newBuilder(
+                URI.create(
+                    "http://localhost:"
+                        + port
+                        + "/v1/products/"
+                        + id
+                        + "/calculate-price?quantity=25&discountType=BOTH"
+                        + "&discountPolicy=CUMULATIVE"))
+            .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    httpClient.close();
+    context.close();
+  }
+
+  @Benchmark
+  public String request() throws IOException, InterruptedException {
+    return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+  }
+
+  @Benchmark
+  public BigDecimal port() {
+    BigDecimal unitPrice = productInboundPort.getProductPrice(id);
+    return productInboundPort.calculateDiscountedPrice(unitPrice, 25, "BOTH", "CUMULATIVE");
+  }
+}
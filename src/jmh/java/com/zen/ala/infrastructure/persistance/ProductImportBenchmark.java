@@ -0,0 +1,112 @@
+package com.zen.ala.infrastructure.persistance;
+
+import com.zen.ala.ShoppingPlatformApplication;
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.infrastructure.persistance.repository.ProductRepository;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures the import throughput of {@link ProductRepositoryAdapter} in rows per second.
+ *
+ * <p>Every invocation stores one chunk of {@value #CHUNK_SIZE} new products, the chunk size used
+ * by the bulk import. {@code saveProducts} is the bulk import path, one transaction per chunk with
+ * JDBC batching of {@code jdbcBatchSize} inserts; {@code saveProductOneByOne} stores the same rows
+ * with one {@code saveProduct} call each, as clients did before the bulk endpoint existed. A
+ * {@code jdbcBatchSize} of 1 turns JDBC batching off. The table is emptied after every iteration.
+ *
+ * <p>Runs against an embedded H2 database by default. Point it at Postgres with {@code ./gradlew
+ * jmh -Pjmh.includes=ProductImportBenchmark
+ * -Pbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/bench -Pbenchmark.jdbc.user=...
+ * -Pbenchmark.jdbc.password=...}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProductImportBenchmark {
+
+  private static final int CHUNK_SIZE = 1000;
+
+  @Param({"1", "500"})
+  int jdbcBatchSize;
+
+  private final BigDecimal price = new BigDecimal("19.99");
+
+  private ConfigurableApplicationContext context;
+  private ProductRepositoryAdapter adapter;
+  private ProductRepository productRepository;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    context =
+        SpringApplication.run(
+            ShoppingPlatformApplication.class,
+            "--spring.main.web-application-type=none",
+            "--spring.main.banner-mode=off",
+            "--spring.datasource.url="
+                + System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:import-benchmark"),
+            "--spring.datasource.username=" + System.getProperty("benchmark.jdbc.user", "sa"),
+            "--spring.datasource.password=" + System.getProperty("benchmark.jdbc.password", ""),
+            "--spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize,
+            "--logging.level.root=WARN");
+    adapter = context.getBean(ProductRepositoryAdapter.class);
+    productRepository = context.getBean(ProductRepository.class);
+  }
+
+  @TearDown(Level.Iteration)
+  public void deleteProducts() {
+    productRepository.deleteAllInBatch();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(CHUNK_SIZE)
+  public Map<UUID, String> saveProducts() {
+    return adapter.saveProducts(chunk());
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(CHUNK_SIZE)
+  public Product saveProductOneByOne() {
+    Product last = null;
+    for (Product product : chunk()) {
+      last = adapter.saveProduct(product);
+    }
+    return last;
+  }
+
+  private List<Product> chunk() {
+    List<Product> chunk = new ArrayList<>(CHUNK_SIZE);
+    for (int i = 0; i < CHUNK_SIZE; i++) {
+      chunk.add(new Product(UUID.randomUUID(), "Imported product", price));
+    }
+    return chunk;
+  }
+}
@@ -0,0 +1,116 @@
+package com.zen.ala.infrastructure.persistance;
+
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.infrastructure.persistance.entity.ProductEntity;
+import com.zen.ala.infrastructure.persistance.mapper.ProductEntityMapper;
+import com.zen.ala.infrastructure.persistance.mapper.ProductEntityMapperImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the two ways of reading a unit price for {@code calculate-price}.
+ *
+ * <p>{@code loadEntity} is the previous path: a managed {@link ProductEntity} is loaded, mapped to
+ * a {@link Product} and dirty-checked when the transaction commits. {@code selectPrice} is the
+ * projection query behind {@code ProductRepository#findPriceById}. Each invocation runs in its own
+ * transaction, as a repository call does. Run with {@code -prof gc} to compare the allocation per
+ * lookup next to the latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductPriceLookupBenchmark {
+
+  private static final int PRODUCTS = 10_000;
+
+  private final UUID[] ids = new UUID[PRODUCTS];
+  private final ProductEntityMapper productEntityMapper = new ProductEntityMapperImpl();
+  private EntityManagerFactory entityManagerFactory;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    entityManagerFactory =
+        new Configuration()
+            .addAnnotatedClass(ProductEntity.class)
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:prices;DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.connection.username", "sa")
+            .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+            .setProperty("hibernate.jdbc.batch_size", "500")
+            .buildSessionFactory();
+
+    EntityManager entityManager = entityManagerFactory.createEntityManager();
+    entityManager.getTransaction().begin();
+    for (int i = 0; i < PRODUCTS; i++) {
+      ids[i] = UUID.randomUUID();
+      entityManager.persist(
+          new ProductEntity(ids[i], "Product " + i, BigDecimal.valueOf(100 + i, 2), null));
+    }
+    entityManager.getTransaction().commit();
+    entityManager.close();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    entityManagerFactory.close();
+  }
+
+  @State(Scope.Thread)
+  public static class Lookup {
+    private final Random random = new Random(42);
+
+    UUID next(UUID[] ids) {
+      return ids[random.nextInt(ids.length)];
+    }
+  }
+
+  @Benchmark
+  public BigDecimal loadEntity(Lookup lookup) {
+    EntityManager entityManager = entityManagerFactory.createEntityManager();
+    try {
+      entityManager.getTransaction().begin();
+      ProductEntity entity = entityManager.find(ProductEntity.class, lookup.next(ids));
+      Product product = productEntityMapper.toDomain(entity);
+      entityManager.getTransaction().commit();
+      return product.getPrice();
+    } finally {
+      entityManager.close();
+    }
+  }
+
+  @Benchmark
+  public BigDecimal selectPrice(Lookup lookup) {
+    EntityManager entityManager = entityManagerFactory.createEntityManager();
+    try {
+      entityManager.getTransaction().begin();
+      BigDecimal price =
+          entityManager
+              .createQuery("select p.price from ProductEntity p where p.id = :id", BigDecimal.class)
+              .setParameter("id", lookup.next(ids))
+              .getSingleResult();
+      entityManager.getTransaction().commit();
+      return price;
+    } finally {
+      entityManager.close();
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package com.zen.ala.infrastructure.persistance;
+
+import com.zen.ala.ShoppingPlatformApplication;
+import com.zen.ala.domain.model.Product;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures the reads of {@link ProductRepositoryAdapter} against an embedded H2 database.
+ *
+ * <p>The adapter is taken from the application context, with its transactions, product cache and
+ * id filter, and the catalog is seeded with {@value #PRODUCTS} products. With {@code cached} off
+ * every read goes to the database; with it on, the ids are read once before measuring, so the
+ * results show the cost of a cache hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductRepositoryAdapterBenchmark {
+
+  private static final int PRODUCTS = 10_000;
+  private static final int LOOKUP_IDS = 100;
+  private static final int PAGE_SIZE = 100;
+
+  @Param({"false", "true"})
+  boolean cached;
+
+  private final UUID[] ids = new UUID[PRODUCTS];
+  private ConfigurableApplicationContext context;
+  private ProductRepositoryAdapter adapter;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    context =
+        SpringApplication.run(
+            ShoppingPlatformApplication.class,
+            "--spring.main.web-application-type=none",
+            "--spring.main.banner-mode=off",
+            "--spring.datasource.url=jdbc:h2:mem:adapter-benchmark",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--catalog.cache.enabled=" + cached);
+    adapter = context.getBean(ProductRepositoryAdapter.class);
+
+    List<Product> chunk = new ArrayList<>();
+    for (int i = 0; i < PRODUCTS; i++) {
+      ids[i] = UUID.randomUUID();
+      chunk.add(new Product(ids[i], "Product " + i, BigDecimal.valueOf(100 + i, 2)));
+      if (chunk.size() == 1000) {
+        adapter.saveProducts(chunk);
+        chunk = new ArrayList<>();
+      }
+    }
+    if (cached) {
+      adapter.findProductsByIds(List.of(ids));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @State(Scope.Thread)
+  public static class Lookup {
+    private final Random random = new Random(42);
+
+    UUID next(UUID[] ids) {
+      return ids[random.nextInt(ids.length)];
+    }
+
+    List<UUID> next(UUID[] ids, int count) {
+      List<UUID> lookup = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        lookup.add(next(ids));
+      }
+      return lookup;
+    }
+  }
+
+  @Benchmark
+  public Product findProductById(Lookup lookup) {
+    return adapter.findProductById(lookup.next(ids));
+  }
+
+  @Benchmark
+  public BigDecimal findPriceById(Lookup lookup) {
+    return adapter.findPriceById(lookup.next(ids));
+  }
+
+  @Benchmark
+  public List<Product> findProductsByIds(Lookup lookup) {
+    return adapter.findProductsByIds(lookup.next(ids, LOOKUP_IDS));
+  }
+
+  @Benchmark
+  public List<Product> findProductsAfter(Lookup lookup) {
+    return adapter.findProductsAfter(lookup.next(ids), PAGE_SIZE);
+  }
+}
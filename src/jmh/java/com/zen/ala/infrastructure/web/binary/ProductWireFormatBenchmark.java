@@ -0,0 +1,98 @@
+package com.zen.ala.infrastructure.web.binary;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zen.ala.infrastructure.web.dto.ProductResponseDto;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link ProductBinaryCodec} format with Jackson JSON for a product list response.
+ *
+ * <p>Encode benchmarks write the list to a reused buffer, decode benchmarks read a pre-encoded
+ * response. The size of the response in either format is printed once per trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductWireFormatBenchmark {
+
+  private static final TypeReference<List<ProductResponseDto>> PRODUCT_LIST =
+      new TypeReference<>() {};
+
+  @Param({"1", "100"})
+  int products;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1 << 16);
+  private List<ProductResponseDto> page;
+  private byte[] json;
+  private byte[] binary;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    Random random = new Random(42);
+    page = new ArrayList<>(products);
+    for (int i = 0; i < products; i++) {
+      page.add(
+          new ProductResponseDto(
+              UUID.randomUUID(),
+              "Product " + i,
+              BigDecimal.valueOf(random.nextInt(1_000_000), 2),
+              (long) random.nextInt(10)));
+    }
+    json = objectMapper.writeValueAsBytes(page);
+    binary = encodeBinary();
+    System.out.printf(
+        "%n%d products: JSON %d bytes, binary %d bytes%n", products, json.length, binary.length);
+  }
+
+  @Benchmark
+  public byte[] encodeJson() throws IOException {
+    buffer.reset();
+    objectMapper.writeValue(buffer, page);
+    return buffer.toByteArray();
+  }
+
+  @Benchmark
+  public byte[] encodeBinary() throws IOException {
+    buffer.reset();
+    ProductBinaryCodec.writeProducts(new DataOutputStream(buffer), page);
+    return buffer.toByteArray();
+  }
+
+  @Benchmark
+  public List<ProductResponseDto> decodeJson() throws IOException {
+    return objectMapper.readValue(json, PRODUCT_LIST);
+  }
+
+  @Benchmark
+  public List<ProductResponseDto> decodeBinary() throws IOException {
+    return ProductBinaryCodec.readProducts(
+        new DataInputStream(new ByteArrayInputStream(binary)));
+  }
+}
@@ -1,12 +1,30 @@
 package com.zen.ala;
 
+import com.zen.ala.infrastructure.config.FlightRecorderProperties;
 import com.zen.ala.infrastructure.config.PricingProperties;
+import com.zen.ala.infrastructure.config.ProductCacheProperties;
+import com.zen.ala.infrastructure.config.ProductHttpCacheProperties;
+import com.zen.ala.infrastructure.config.ProductIdFilterProperties;
+import com.zen.ala.infrastructure.config.ProductIdProperties;
+import com.zen.ala.infrastructure.config.ProductJsonCacheProperties;
+import com.zen.ala.infrastructure.config.ReactiveProperties;
+import com.zen.ala.infrastructure.config.VirtualThreadProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(PricingProperties.class)
+@EnableConfigurationProperties({
+  PricingProperties.class,
+  ProductCacheProperties.class,
+  ProductIdProperties.class,
+  ProductIdFilterProperties.class,
+  ProductHttpCacheProperties.class,
+  ProductJsonCacheProperties.class,
+  VirtualThreadProperties.class,
+  FlightRecorderProperties.class,
+  ReactiveProperties.class
+})
 public class ShoppingPlatformApplication {
 
   public static void main(String[] args) {
@@ -0,0 +1,19 @@
+package com.zen.ala.application.id;
+
+import java.util.UUID;
+
+/**
+ * Generates identifiers for new products.
+ *
+ * <p>Implementations must be thread-safe. Identifiers only need to be unique; lookups never depend
+ * on how an identifier was generated, so products created with different generators coexist.
+ */
+public interface IdGenerator {
+
+  /**
+   * Generates a new identifier.
+   *
+   * @return a unique identifier
+   */
+  UUID generate();
+}
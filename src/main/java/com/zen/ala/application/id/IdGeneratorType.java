@@ -0,0 +1,9 @@
+package com.zen.ala.application.id;
+
+/** Available product identifier generators. */
+public enum IdGeneratorType {
+  /** Time-ordered identifiers, see {@link UuidV7Generator}. */
+  UUID_V7,
+  /** Fully random identifiers, see {@link RandomUuidGenerator}. */
+  RANDOM
+}
@@ -0,0 +1,12 @@
+package com.zen.ala.application.id;
+
+import java.util.UUID;
+
+/** Generates random version 4 UUIDs with {@link UUID#randomUUID()}. */
+public class RandomUuidGenerator implements IdGenerator {
+
+  @Override
+  public UUID generate() {
+    return UUID.randomUUID();
+  }
+}
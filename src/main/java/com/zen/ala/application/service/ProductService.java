@@ -1,7 +1,16 @@
 package com.zen.ala.application.service;
 
+import com.zen.ala.application.id.IdGenerator;
 import com.zen.ala.domain.error.InvalidDiscountStrategyException;
+import com.zen.ala.domain.error.InvalidLookupRequestException;
+import com.zen.ala.domain.model.PriceQuote;
+import com.zen.ala.domain.model.PriceQuoteRequest;
 import com.zen.ala.domain.model.Product;
+import com.zen.ala.domain.model.ProductImportFailure;
+import com.zen.ala.domain.model.ProductImportResult;
+import com.zen.ala.domain.model.ProductImportRow;
+import com.zen.ala.domain.model.ProductLookup;
+import com.zen.ala.domain.model.ProductPage;
 import com.zen.ala.domain.port.in.ProductInboundPort;
 import com.zen.ala.domain.port.out.ProductOutboundPort;
 import com.zen.ala.domain.service.PriceCalculatorService;
@@ -9,23 +18,42 @@ import com.zen.ala.domain.service.discount.DiscountStrategy;
 import com.zen.ala.domain.service.discount.dict.DiscountPolicy;
 import com.zen.ala.domain.service.discount.dict.DiscountType;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 /**
  * ProductService is responsible for managing products and calculating discounted prices.
  *
  * <p>This service implements the ProductInboundPort interface and uses the ProductOutboundPort
- * interface to interact with the product repository.
+ * interface to interact with the product repository. The {@code reactive} profile replaces it with
+ * {@link ReactiveProductService}.
  */
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class ProductService implements ProductInboundPort {
 
+  /** Number of imported products persisted per transaction. */
+  static final int IMPORT_CHUNK_SIZE = 1000;
+
+  /** Maximum number of ids in a single lookup. */
+  public static final int MAX_LOOKUP_IDS = 10_000;
+
   private final ProductOutboundPort productOutboundPort;
   private final PriceCalculatorService priceCalculatorService;
+  private final IdGenerator idGenerator;
 
   /**
    * Retrieves a product by its ID.
@@ -38,6 +66,94 @@ public class ProductService implements ProductInboundPort {
     return productOutboundPort.findProductById(id);
   }
 
+  /**
+   * Retrieves the unit price of a product.
+   *
+   * @param id the UUID of the product
+   * @return the unit price
+   */
+  @Override
+  public BigDecimal getProductPrice(UUID id) {
+    return productOutboundPort.findPriceById(id);
+  }
+
+  /**
+   * Retrieves the latest known version of a product without loading it.
+   *
+   * @param id the UUID of the product
+   * @return the version, or null if it is not known
+   */
+  @Override
+  public Long getKnownProductVersion(UUID id) {
+    return productOutboundPort.findKnownVersion(id);
+  }
+
+  /**
+   * Retrieves the version of the whole catalog.
+   *
+   * @return an opaque token that changes whenever a product is written
+   */
+  @Override
+  public String getCatalogVersion() {
+    return productOutboundPort.findCatalogVersion();
+  }
+
+  /**
+   * Retrieves many products by their IDs with a single outbound lookup.
+   *
+   * @param ids the UUIDs of the products, duplicates are looked up once
+   * @return the found products in request order and the ids without a product
+   * @throws InvalidLookupRequestException if no ids or more than {@value #MAX_LOOKUP_IDS} are given
+   */
+  @Override
+  public ProductLookup getProductsByIds(List<UUID> ids) {
+    Set<UUID> uniqueIds = lookupIds(ids);
+    return toLookup(uniqueIds, productOutboundPort.findProductsByIds(uniqueIds));
+  }
+
+  /**
+   * Removes duplicate and null ids from a lookup request.
+   *
+   * @param ids the requested ids
+   * @return the distinct ids in request order
+   * @throws InvalidLookupRequestException if no ids or more than {@value #MAX_LOOKUP_IDS} remain
+   */
+  static Set<UUID> lookupIds(List<UUID> ids) {
+    Set<UUID> uniqueIds = new LinkedHashSet<>(ids);
+    uniqueIds.remove(null);
+    if (uniqueIds.isEmpty() || uniqueIds.size() > MAX_LOOKUP_IDS) {
+      throw new InvalidLookupRequestException(
+          "Between 1 and " + MAX_LOOKUP_IDS + " ids must be given: " + uniqueIds.size());
+    }
+    return uniqueIds;
+  }
+
+  /**
+   * Orders the products found by a lookup as requested and collects the missing ids.
+   *
+   * @param uniqueIds the distinct requested ids in request order
+   * @param foundProducts the products found, in any order
+   * @return the lookup result
+   */
+  static ProductLookup toLookup(Set<UUID> uniqueIds, Iterable<Product> foundProducts) {
+    Map<UUID, Product> found = new HashMap<>(uniqueIds.size() * 2);
+    for (Product product : foundProducts) {
+      found.put(product.getId(), product);
+    }
+
+    List<Product> products = new ArrayList<>(found.size());
+    List<UUID> missingIds = new ArrayList<>();
+    for (UUID id : uniqueIds) {
+      Product product = found.get(id);
+      if (product != null) {
+        products.add(product);
+      } else {
+        missingIds.add(id);
+      }
+    }
+    return new ProductLookup(products, missingIds);
+  }
+
   /**
    * Retrieves all products.
    *
@@ -49,20 +165,100 @@ public class ProductService implements ProductInboundPort {
   }
 
   /**
-   * Saves a new product.
+   * Retrieves a page of products using keyset pagination on the product id.
+   *
+   * <p>One extra product is fetched to find out whether another page follows, so every page costs
+   * a single indexed range scan regardless of its depth.
+   *
+   * @param after the id to continue after, null for the first page
+   * @param limit the maximum number of products on the page
+   * @return the page of products
+   */
+  @Override
+  public ProductPage getProductPage(UUID after, int limit) {
+    List<Product> products = productOutboundPort.findProductsAfter(after, limit + 1);
+    if (products.size() <= limit) {
+      return new ProductPage(products, null);
+    }
+    List<Product> page = products.subList(0, limit);
+    return new ProductPage(page, page.get(limit - 1).getId());
+  }
+
+  /**
+   * Exports all products, one at a time.
+   *
+   * @param consumer receives every product once
+   */
+  @Override
+  public void exportProducts(Consumer<Product> consumer) {
+    productOutboundPort.forEachProduct(consumer);
+  }
+
+  /**
+   * Saves a new product with an id from the configured {@link IdGenerator}.
    *
    * @param product the product to save
    * @return the saved product
    */
   @Override
   public Product saveProduct(Product product) {
-    product.setId(UUID.randomUUID());
+    product.setId(idGenerator.generate());
+    product.setVersion(null);
     return productOutboundPort.saveProduct(product);
   }
 
+  /**
+   * Imports many new products.
+   *
+   * <p>Rows are validated and handed to the outbound port in chunks of {@value
+   * #IMPORT_CHUNK_SIZE}, each persisted in its own transaction, so only one chunk is held in
+   * memory at a time. Invalid rows and rows the repository rejects are reported as failures
+   * without aborting the rest of the import.
+   *
+   * @param rows the rows to import
+   * @return the number of imported products and the failed rows, in payload order
+   */
+  @Override
+  public ProductImportResult importProducts(Iterator<ProductImportRow> rows) {
+    long imported = 0;
+    List<ProductImportFailure> failures = new ArrayList<>();
+    List<Product> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+    Map<UUID, Long> rowNumbers = new HashMap<>();
+
+    while (rows.hasNext()) {
+      ProductImportRow row = rows.next();
+      String error = row.error() != null ? row.error() : validate(row.product());
+      if (error != null) {
+        failures.add(new ProductImportFailure(row.row(), error));
+        continue;
+      }
+
+      Product product = row.product();
+      product.setId(idGenerator.generate());
+      product.setVersion(null);
+      chunk.add(product);
+      rowNumbers.put(product.getId(), row.row());
+
+      if (chunk.size() == IMPORT_CHUNK_SIZE) {
+        imported += saveChunk(chunk, rowNumbers, failures);
+        chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        rowNumbers.clear();
+      }
+    }
+    if (!chunk.isEmpty()) {
+      imported += saveChunk(chunk, rowNumbers, failures);
+    }
+
+    failures.sort(Comparator.comparingLong(ProductImportFailure::row));
+    return new ProductImportResult(imported, failures);
+  }
+
   /**
    * Updates an existing product.
    *
+   * <p>If the product carries a version, the update is rejected when the stored product has moved
+   * on to another version.
+   *
    * @param product the product to update
    * @return the updated product
    */
@@ -95,6 +291,83 @@ public class ProductService implements ProductInboundPort {
   public BigDecimal calculateDiscountedPrice(
       BigDecimal unitPrice, int quantity, String discountType, String discountPolicy) {
 
+    DiscountStrategy strategy = toDiscountStrategy(discountType, discountPolicy);
+
+    return priceCalculatorService.calculatePrice(unitPrice, quantity, strategy);
+  }
+
+  /**
+   * Calculates discounted prices for many lines at once.
+   *
+   * <p>All products are fetched with a single lookup and priced in one pass. Lines for unknown
+   * products or with an invalid discount strategy are returned with an error instead of failing
+   * the whole request.
+   *
+   * @param requests the price quote lines
+   * @return one quote per line, in request order
+   */
+  @Override
+  public List<PriceQuote> calculateDiscountedPrices(List<PriceQuoteRequest> requests) {
+    Set<UUID> ids = new HashSet<>();
+    for (PriceQuoteRequest request : requests) {
+      if (request.productId() != null) {
+        ids.add(request.productId());
+      }
+    }
+
+    Map<UUID, BigDecimal> unitPrices = new HashMap<>();
+    for (Product product : productOutboundPort.findProductsByIds(ids)) {
+      unitPrices.put(product.getId(), product.getPrice());
+    }
+
+    List<PriceQuote> quotes = new ArrayList<>(requests.size());
+    for (PriceQuoteRequest request : requests) {
+      quotes.add(quote(priceCalculatorService, request, unitPrices.get(request.productId())));
+    }
+    return quotes;
+  }
+
+  private int saveChunk(
+      List<Product> chunk, Map<UUID, Long> rowNumbers, List<ProductImportFailure> failures) {
+    Map<UUID, String> errors = productOutboundPort.saveProducts(chunk);
+    errors.forEach(
+        (id, error) -> failures.add(new ProductImportFailure(rowNumbers.get(id), error)));
+    return chunk.size() - errors.size();
+  }
+
+  private static String validate(Product product) {
+    if (product.getName() == null || product.getName().isBlank()) {
+      return "Product name cannot be empty";
+    }
+    if (product.getPrice() == null || product.getPrice().signum() < 0) {
+      return "Product price must be zero or positive";
+    }
+    return null;
+  }
+
+  static PriceQuote quote(
+      PriceCalculatorService priceCalculatorService,
+      PriceQuoteRequest request,
+      BigDecimal unitPrice) {
+    if (unitPrice == null) {
+      return PriceQuote.failed(request, "Product with id " + request.productId() + " not found.");
+    }
+    try {
+      DiscountStrategy strategy =
+          toDiscountStrategy(request.discountType(), request.discountPolicy());
+      return PriceQuote.priced(
+          request, priceCalculatorService.calculatePrice(unitPrice, request.quantity(), strategy));
+    } catch (InvalidDiscountStrategyException e) {
+      return PriceQuote.failed(request, e.getMessage());
+    }
+  }
+
+  static DiscountStrategy toDiscountStrategy(String discountType, String discountPolicy) {
+    if (discountType == null || discountPolicy == null) {
+      throw new InvalidDiscountStrategyException(
+          "DiscountType and/or DiscountPolicy cannot be empty");
+    }
+
     DiscountType type;
     DiscountPolicy policy;
     try {
@@ -108,8 +381,6 @@ public class ProductService implements ProductInboundPort {
       throw new InvalidDiscountStrategyException("Invalid discount policy: " + discountPolicy);
     }
 
-    DiscountStrategy strategy = new DiscountStrategy(type, policy);
-
-    return priceCalculatorService.calculatePrice(unitPrice, quantity, strategy);
+    return new DiscountStrategy(type, policy);
   }
 }
@@ -0,0 +1,194 @@
+package com.zen.ala.application.service;
+
+import com.zen.ala.application.id.IdGenerator;
+import com.zen.ala.domain.model.PriceQuote;
+import com.zen.ala.domain.model.PriceQuoteRequest;
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.domain.model.ProductLookup;
+import com.zen.ala.domain.model.ProductPage;
+import com.zen.ala.domain.port.in.ReactiveProductInboundPort;
+import com.zen.ala.domain.port.out.ReactiveProductOutboundPort;
+import com.zen.ala.domain.service.PriceCalculatorService;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveProductService is the non-blocking counterpart of {@link ProductService}.
+ *
+ * <p>This service implements the ReactiveProductInboundPort interface on top of the
+ * ReactiveProductOutboundPort interface and shares id validation and pricing with {@link
+ * ProductService}, so both stacks answer the same requests the same way. It is only active with the
+ * {@code reactive} profile.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveProductService implements ReactiveProductInboundPort {
+
+  private final ReactiveProductOutboundPort productOutboundPort;
+  private final PriceCalculatorService priceCalculatorService;
+  private final IdGenerator idGenerator;
+
+  /**
+   * Retrieves a product by its ID.
+   *
+   * @param id the UUID of the product
+   * @return the product
+   */
+  @Override
+  public Mono<Product> getProductById(UUID id) {
+    return productOutboundPort.findProductById(id);
+  }
+
+  /**
+   * Retrieves many products by their IDs with a single outbound lookup.
+   *
+   * @param ids the UUIDs of the products, duplicates are looked up once
+   * @return the found products in request order and the ids without a product
+   */
+  @Override
+  public Mono<ProductLookup> getProductsByIds(List<UUID> ids) {
+    return Mono.fromCallable(() -> ProductService.lookupIds(ids))
+        .flatMap(
+            uniqueIds ->
+                productOutboundPort
+                    .findProductsByIds(uniqueIds)
+                    .collectList()
+                    .map(found -> ProductService.toLookup(uniqueIds, found)));
+  }
+
+  /**
+   * Retrieves all products as the subscriber requests them.
+   *
+   * @return the products
+   */
+  @Override
+  public Flux<Product> getAllProducts() {
+    return productOutboundPort.findAllProducts();
+  }
+
+  /**
+   * Retrieves a page of products using keyset pagination on the product id.
+   *
+   * @param after the id to continue after, null for the first page
+   * @param limit the maximum number of products on the page
+   * @return the page of products
+   */
+  @Override
+  public Mono<ProductPage> getProductPage(UUID after, int limit) {
+    return productOutboundPort
+        .findProductsAfter(after, limit + 1)
+        .collectList()
+        .map(
+            products -> {
+              if (products.size() <= limit) {
+                return new ProductPage(products, null);
+              }
+              List<Product> page = products.subList(0, limit);
+              return new ProductPage(page, page.get(limit - 1).getId());
+            });
+  }
+
+  /**
+   * Saves a new product with an id from the configured {@link IdGenerator}.
+   *
+   * @param product the product to save
+   * @return the saved product
+   */
+  @Override
+  public Mono<Product> saveProduct(Product product) {
+    product.setId(idGenerator.generate());
+    product.setVersion(null);
+    return productOutboundPort.saveProduct(product);
+  }
+
+  /**
+   * Updates an existing product.
+   *
+   * @param product the product to update
+   * @return the updated product
+   */
+  @Override
+  public Mono<Product> updateProduct(Product product) {
+    return productOutboundPort.updateProduct(product);
+  }
+
+  /**
+   * Deletes a product by its ID.
+   *
+   * @param id the UUID of the product
+   * @return completes once the product is deleted
+   */
+  @Override
+  public Mono<Void> deleteProduct(UUID id) {
+    return productOutboundPort.deleteProduct(id);
+  }
+
+  /**
+   * Calculates the discounted price of a product.
+   *
+   * <p>The discount strategy is validated before the price is read.
+   *
+   * @param id the UUID of the product
+   * @param quantity the quantity of the product
+   * @param discountType the discount type
+   * @param discountPolicy the discount policy
+   * @return the discounted price
+   */
+  @Override
+  public Mono<BigDecimal> calculateDiscountedPrice(
+      UUID id, int quantity, String discountType, String discountPolicy) {
+    return Mono.fromCallable(() -> ProductService.toDiscountStrategy(discountType, discountPolicy))
+        .flatMap(
+            strategy ->
+                productOutboundPort
+                    .findPriceById(id)
+                    .map(
+                        unitPrice ->
+                            priceCalculatorService.calculatePrice(unitPrice, quantity, strategy)));
+  }
+
+  /**
+   * Calculates discounted prices for many lines at once.
+   *
+   * @param requests the price quote lines
+   * @return one quote per line, in request order
+   * @see ProductService#calculateDiscountedPrices(List)
+   */
+  @Override
+  public Mono<List<PriceQuote>> calculateDiscountedPrices(List<PriceQuoteRequest> requests) {
+    Set<UUID> ids = new HashSet<>();
+    for (PriceQuoteRequest request : requests) {
+      if (request.productId() != null) {
+        ids.add(request.productId());
+      }
+    }
+
+    return productOutboundPort
+        .findProductsByIds(ids)
+        .collectMap(Product::getId, Product::getPrice, HashMap::new)
+        .map(unitPrices -> quote(requests, unitPrices));
+  }
+
+  private List<PriceQuote> quote(
+      List<PriceQuoteRequest> requests, Map<UUID, BigDecimal> unitPrices) {
+    List<PriceQuote> quotes = new ArrayList<>(requests.size());
+    for (PriceQuoteRequest request : requests) {
+      quotes.add(
+          ProductService.quote(
+              priceCalculatorService, request, unitPrices.get(request.productId())));
+    }
+    return quotes;
+  }
+}
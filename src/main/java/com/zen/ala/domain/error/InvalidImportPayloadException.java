@@ -0,0 +1,9 @@
+package com.zen.ala.domain.error;
+
+/** Exception thrown when a bulk import payload cannot be read at all. */
+public class InvalidImportPayloadException extends RuntimeException {
+
+  public InvalidImportPayloadException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,9 @@
+package com.zen.ala.domain.error;
+
+/** Exception thrown when products are looked up with an empty or too long list of ids. */
+public class InvalidLookupRequestException extends RuntimeException {
+
+  public InvalidLookupRequestException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,9 @@
+package com.zen.ala.domain.error;
+
+/** Exception thrown when a page of products is requested with an invalid limit or cursor. */
+public class InvalidPageRequestException extends RuntimeException {
+
+  public InvalidPageRequestException(String message) {
+    super(message);
+  }
+}
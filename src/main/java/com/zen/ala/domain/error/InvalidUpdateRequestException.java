@@ -0,0 +1,9 @@
+package com.zen.ala.domain.error;
+
+/** Exception thrown when the version of a product update is malformed or contradicts itself. */
+public class InvalidUpdateRequestException extends RuntimeException {
+
+  public InvalidUpdateRequestException(String message) {
+    super(message);
+  }
+}
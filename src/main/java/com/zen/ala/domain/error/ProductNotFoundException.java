@@ -6,10 +6,11 @@ import java.util.UUID;
  * Exception thrown when a product with a given ID is not found.
  *
  * <p>This exception is used to indicate that a product with the specified ID does not exist in the
- * system.
+ * system. It is an expected outcome of lookups by client supplied ids, so no stack trace is
+ * captured.
  */
 public class ProductNotFoundException extends RuntimeException {
   public ProductNotFoundException(UUID id) {
-    super("Product with id " + id + " not found.");
+    super("Product with id " + id + " not found.", null, false, false);
   }
 }
@@ -0,0 +1,15 @@
+package com.zen.ala.domain.error;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when a product is updated based on a version that is no longer current.
+ *
+ * <p>This exception is used to indicate that another writer changed the product in the meantime,
+ * so applying the update would lose that change.
+ */
+public class ProductVersionConflictException extends RuntimeException {
+  public ProductVersionConflictException(UUID id, long version) {
+    super("Product with id " + id + " is no longer at version " + version + ".");
+  }
+}
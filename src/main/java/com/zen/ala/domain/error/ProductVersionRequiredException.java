@@ -0,0 +1,18 @@
+package com.zen.ala.domain.error;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when a product is updated without the version the update is based on.
+ *
+ * <p>Without it the update could silently overwrite a change made by another writer since the
+ * client last read the product.
+ */
+public class ProductVersionRequiredException extends RuntimeException {
+  public ProductVersionRequiredException(UUID id) {
+    super(
+        "Update of product with id "
+            + id
+            + " must carry the version it is based on, in the body or in If-Match.");
+  }
+}
@@ -0,0 +1,46 @@
+package com.zen.ala.domain.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Price quote domain model.
+ *
+ * <p>A quote either carries the calculated price or, when the line could not be priced, an error
+ * message describing why.
+ *
+ * @param productId the UUID of the priced product
+ * @param quantity the quantity of the product
+ * @param discountType the requested discount type
+ * @param discountPolicy the requested discount policy
+ * @param price the calculated price, null if the line failed
+ * @param error the reason the line failed, null if it was priced
+ */
+public record PriceQuote(
+    UUID productId,
+    int quantity,
+    String discountType,
+    String discountPolicy,
+    BigDecimal price,
+    String error) {
+
+  public static PriceQuote priced(PriceQuoteRequest request, BigDecimal price) {
+    return new PriceQuote(
+        request.productId(),
+        request.quantity(),
+        request.discountType(),
+        request.discountPolicy(),
+        price,
+        null);
+  }
+
+  public static PriceQuote failed(PriceQuoteRequest request, String error) {
+    return new PriceQuote(
+        request.productId(),
+        request.quantity(),
+        request.discountType(),
+        request.discountPolicy(),
+        null,
+        error);
+  }
+}
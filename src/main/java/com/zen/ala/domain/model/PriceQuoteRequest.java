@@ -0,0 +1,14 @@
+package com.zen.ala.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Price quote request domain model.
+ *
+ * @param productId the UUID of the product to price
+ * @param quantity the quantity of the product
+ * @param discountType the discount type (e.g., "QUANTITY", "PERCENTAGE", "BOTH")
+ * @param discountPolicy the discount policy (e.g., "CUMULATIVE", "HIGHEST")
+ */
+public record PriceQuoteRequest(
+    UUID productId, int quantity, String discountType, String discountPolicy) {}
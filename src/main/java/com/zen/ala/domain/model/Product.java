@@ -5,16 +5,28 @@ import java.util.UUID;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
-/** Product domain model */
+/**
+ * Product domain model
+ *
+ * <p>The version is incremented on every update and is null for products that have not been
+ * saved yet or whose version is unknown.
+ */
 @Getter
 @Setter
+@NoArgsConstructor
 @AllArgsConstructor
 public class Product {
 
   private UUID id;
   private String name;
   private BigDecimal price;
+  private Long version;
+
+  public Product(UUID id, String name, BigDecimal price) {
+    this(id, name, price, null);
+  }
 }
@@ -0,0 +1,9 @@
+package com.zen.ala.domain.model;
+
+/**
+ * A row of a bulk product import that was not imported.
+ *
+ * @param row the 1-based position of the row in the import payload, see {@link ProductImportRow}
+ * @param error the reason the row was not imported
+ */
+public record ProductImportFailure(long row, String error) {}
@@ -0,0 +1,11 @@
+package com.zen.ala.domain.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk product import.
+ *
+ * @param imported the number of imported products
+ * @param failures the rows that were not imported, in payload order
+ */
+public record ProductImportResult(long imported, List<ProductImportFailure> failures) {}
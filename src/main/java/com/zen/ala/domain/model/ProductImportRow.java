@@ -0,0 +1,23 @@
+package com.zen.ala.domain.model;
+
+/**
+ * A single row of a bulk product import.
+ *
+ * <p>A row either carries the parsed product or, when the source row could not be parsed, an error
+ * message describing why.
+ *
+ * @param row the 1-based position of the row in the import payload, the array index for JSON and
+ *     the line number for CSV
+ * @param product the parsed product, null if the row could not be parsed
+ * @param error the reason the row could not be parsed, null if it was parsed
+ */
+public record ProductImportRow(long row, Product product, String error) {
+
+  public static ProductImportRow parsed(long row, Product product) {
+    return new ProductImportRow(row, product, null);
+  }
+
+  public static ProductImportRow unparsable(long row, String error) {
+    return new ProductImportRow(row, null, error);
+  }
+}
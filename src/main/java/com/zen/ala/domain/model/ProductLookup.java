@@ -0,0 +1,12 @@
+package com.zen.ala.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of looking up many products by id.
+ *
+ * @param products the found products, in the order their ids were requested
+ * @param missingIds the requested ids without a product, in request order
+ */
+public record ProductLookup(List<Product> products, List<UUID> missingIds) {}
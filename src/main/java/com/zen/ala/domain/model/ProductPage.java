@@ -0,0 +1,12 @@
+package com.zen.ala.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Product page domain model.
+ *
+ * @param products the products of the page, ordered by id
+ * @param nextCursor the id to continue after, null if this is the last page
+ */
+public record ProductPage(List<Product> products, UUID nextCursor) {}
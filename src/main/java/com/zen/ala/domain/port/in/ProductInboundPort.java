@@ -1,9 +1,17 @@
 package com.zen.ala.domain.port.in;
 
+import com.zen.ala.domain.model.PriceQuote;
+import com.zen.ala.domain.model.PriceQuoteRequest;
 import com.zen.ala.domain.model.Product;
+import com.zen.ala.domain.model.ProductImportResult;
+import com.zen.ala.domain.model.ProductImportRow;
+import com.zen.ala.domain.model.ProductLookup;
+import com.zen.ala.domain.model.ProductPage;
 import java.math.BigDecimal;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Product inbound port
@@ -20,6 +28,37 @@ public interface ProductInboundPort {
    */
   Product getProductById(UUID id);
 
+  /**
+   * Get the unit price of a product
+   *
+   * @param id - product id
+   * @return BigDecimal
+   */
+  BigDecimal getProductPrice(UUID id);
+
+  /**
+   * Get the latest known version of a product, if it can be told without loading the product
+   *
+   * @param id - product id
+   * @return Long - version, null if it is not known
+   */
+  Long getKnownProductVersion(UUID id);
+
+  /**
+   * Get the version of the whole catalog
+   *
+   * @return String - opaque token that changes whenever a product is written
+   */
+  String getCatalogVersion();
+
+  /**
+   * Get many products by id
+   *
+   * @param ids - product ids, duplicates are looked up once
+   * @return ProductLookup - found products in request order and the ids without a product
+   */
+  ProductLookup getProductsByIds(List<UUID> ids);
+
   /**
    * Get all products
    *
@@ -27,6 +66,22 @@ public interface ProductInboundPort {
    */
   List<Product> getAllProducts();
 
+  /**
+   * Get a page of products ordered by id
+   *
+   * @param after - id to continue after, null for the first page
+   * @param limit - maximum number of products on the page
+   * @return ProductPage
+   */
+  ProductPage getProductPage(UUID after, int limit);
+
+  /**
+   * Export all products
+   *
+   * @param consumer - receives every product once, in no particular order
+   */
+  void exportProducts(Consumer<Product> consumer);
+
   /**
    * Save product
    *
@@ -36,7 +91,15 @@ public interface ProductInboundPort {
   Product saveProduct(Product product);
 
   /**
-   * Update product
+   * Import many new products
+   *
+   * @param rows - rows to import, consumed once
+   * @return ProductImportResult - number of imported products and the rows that failed
+   */
+  ProductImportResult importProducts(Iterator<ProductImportRow> rows);
+
+  /**
+   * Update product, optimistically locked on its version when one is given
    *
    * @param product - product to update
    * @return Product
@@ -61,4 +124,12 @@ public interface ProductInboundPort {
    */
   BigDecimal calculateDiscountedPrice(
       BigDecimal unitPrice, int quantity, String discountType, String discountPolicy);
+
+  /**
+   * Calculate discounted prices for many products at once
+   *
+   * @param requests - price quote lines
+   * @return List<PriceQuote> - one quote per line, in request order
+   */
+  List<PriceQuote> calculateDiscountedPrices(List<PriceQuoteRequest> requests);
 }
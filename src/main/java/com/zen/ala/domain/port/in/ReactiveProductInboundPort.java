@@ -0,0 +1,98 @@
+package com.zen.ala.domain.port.in;
+
+import com.zen.ala.domain.model.PriceQuote;
+import com.zen.ala.domain.model.PriceQuoteRequest;
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.domain.model.ProductLookup;
+import com.zen.ala.domain.model.ProductPage;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive product inbound port
+ *
+ * <p>Non-blocking variant of {@link ProductInboundPort}, used to manage products from a reactive
+ * application
+ */
+public interface ReactiveProductInboundPort {
+
+  /**
+   * Get product by id
+   *
+   * @param id - product id
+   * @return Mono<Product>
+   */
+  Mono<Product> getProductById(UUID id);
+
+  /**
+   * Get many products by id
+   *
+   * @param ids - product ids, duplicates are looked up once
+   * @return Mono<ProductLookup> - found products in request order and the ids without a product
+   */
+  Mono<ProductLookup> getProductsByIds(List<UUID> ids);
+
+  /**
+   * Get all products, emitted as the subscriber requests them
+   *
+   * @return Flux<Product>
+   */
+  Flux<Product> getAllProducts();
+
+  /**
+   * Get a page of products ordered by id
+   *
+   * @param after - id to continue after, null for the first page
+   * @param limit - maximum number of products on the page
+   * @return Mono<ProductPage>
+   */
+  Mono<ProductPage> getProductPage(UUID after, int limit);
+
+  /**
+   * Save product
+   *
+   * @param product - product to save
+   * @return Mono<Product>
+   */
+  Mono<Product> saveProduct(Product product);
+
+  /**
+   * Update product, rejecting the update if the product has moved past the given version
+   *
+   * @param product - product to update
+   * @return Mono<Product>
+   */
+  Mono<Product> updateProduct(Product product);
+
+  /**
+   * Delete product
+   *
+   * @param id - product id
+   * @return Mono<Void>
+   */
+  Mono<Void> deleteProduct(UUID id);
+
+  /**
+   * Calculate the discounted price of a product
+   *
+   * @param id - product id
+   * @param quantity - quantity
+   * @param discountType - discount type
+   * @param discountPolicy - discount policy
+   * @return Mono<BigDecimal>
+   */
+  Mono<BigDecimal> calculateDiscountedPrice(
+      UUID id, int quantity, String discountType, String discountPolicy);
+
+  /**
+   * Calculate discounted prices for many lines with a single product lookup
+   *
+   * @param requests - price quote lines
+   * @return Mono<List<PriceQuote>> - one quote per line in request order, failed lines carry an
+   *     error
+   */
+  Mono<List<PriceQuote>> calculateDiscountedPrices(List<PriceQuoteRequest> requests);
+}
@@ -1,8 +1,12 @@
 package com.zen.ala.domain.port.out;
 
 import com.zen.ala.domain.model.Product;
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Product outbound port
@@ -19,6 +23,37 @@ public interface ProductOutboundPort {
    */
   Product findProductById(UUID id);
 
+  /**
+   * Find the price of a product without loading the whole product
+   *
+   * @param id - product id
+   * @return BigDecimal - unit price
+   */
+  BigDecimal findPriceById(UUID id);
+
+  /**
+   * Find the latest known version of a product without querying the database
+   *
+   * @param id - product id
+   * @return Long - version, null if it is not known
+   */
+  Long findKnownVersion(UUID id);
+
+  /**
+   * Find the version of the whole catalog without querying the database
+   *
+   * @return String - opaque token that changes whenever a product is written
+   */
+  String findCatalogVersion();
+
+  /**
+   * Find products by ids, in as few round-trips as the database allows
+   *
+   * @param ids - product ids
+   * @return List<Product> - found products in no particular order, unknown ids are skipped
+   */
+  List<Product> findProductsByIds(Collection<UUID> ids);
+
   /**
    * Find all products
    *
@@ -26,6 +61,22 @@ public interface ProductOutboundPort {
    */
   List<Product> findAllProducts();
 
+  /**
+   * Find a page of products ordered by id
+   *
+   * @param after - id to continue after, null for the first page
+   * @param limit - maximum number of products to return
+   * @return List<Product>
+   */
+  List<Product> findProductsAfter(UUID after, int limit);
+
+  /**
+   * Stream all products to a consumer without holding them in memory
+   *
+   * @param consumer - receives every product once, in no particular order
+   */
+  void forEachProduct(Consumer<Product> consumer);
+
   /**
    * Save product
    *
@@ -35,10 +86,19 @@ public interface ProductOutboundPort {
   Product saveProduct(Product product);
 
   /**
-   * Update product
+   * Save many new products in a single transaction, falling back to one transaction per product
+   * if the batch fails
+   *
+   * @param products - new products with their ids already assigned
+   * @return Map<UUID, String> - error message per id of every product that was not saved
+   */
+  Map<UUID, String> saveProducts(List<Product> products);
+
+  /**
+   * Update product without loading it, only if it is still at the given version when one is given
    *
    * @param product - product to update
-   * @return Product
+   * @return Product - updated product with its new version, null version if none was given
    */
   Product updateProduct(Product product);
 
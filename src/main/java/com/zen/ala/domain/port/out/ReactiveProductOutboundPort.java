@@ -0,0 +1,82 @@
+package com.zen.ala.domain.port.out;
+
+import com.zen.ala.domain.model.Product;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.UUID;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive product outbound port
+ *
+ * <p>Non-blocking variant of {@link ProductOutboundPort}, used to manage products from a reactive
+ * infrastructure
+ */
+public interface ReactiveProductOutboundPort {
+
+  /**
+   * Find product by id
+   *
+   * @param id - product id
+   * @return Mono<Product> - fails with ProductNotFoundException if the product does not exist
+   */
+  Mono<Product> findProductById(UUID id);
+
+  /**
+   * Find the price of a product without loading the whole product
+   *
+   * @param id - product id
+   * @return Mono<BigDecimal> - unit price, fails with ProductNotFoundException if the product does
+   *     not exist
+   */
+  Mono<BigDecimal> findPriceById(UUID id);
+
+  /**
+   * Find products by ids, in as few round-trips as the database allows
+   *
+   * @param ids - product ids
+   * @return Flux<Product> - found products in no particular order, unknown ids are skipped
+   */
+  Flux<Product> findProductsByIds(Collection<UUID> ids);
+
+  /**
+   * Find all products, emitted as the subscriber requests them
+   *
+   * @return Flux<Product> - every product once, in no particular order
+   */
+  Flux<Product> findAllProducts();
+
+  /**
+   * Find a page of products ordered by id
+   *
+   * @param after - id to continue after, null for the first page
+   * @param limit - maximum number of products to return
+   * @return Flux<Product>
+   */
+  Flux<Product> findProductsAfter(UUID after, int limit);
+
+  /**
+   * Save product
+   *
+   * @param product - product to save
+   * @return Mono<Product>
+   */
+  Mono<Product> saveProduct(Product product);
+
+  /**
+   * Update product without loading it, only if it is still at the given version when one is given
+   *
+   * @param product - product to update
+   * @return Mono<Product> - updated product with its new version, null version if none was given
+   */
+  Mono<Product> updateProduct(Product product);
+
+  /**
+   * Delete product
+   *
+   * @param id - product id
+   * @return Mono<Void> - completes once the product is deleted
+   */
+  Mono<Void> deleteProduct(UUID id);
+}
@@ -0,0 +1,114 @@
+package com.zen.ala.domain.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Allocation-free helpers for fixed-point pricing on {@code long} minor units.
+ *
+ * <p>Amounts are held as minor units of a currency (e.g. cents for a scale of 2) and discount rates
+ * as basis points. Every operation reports overflow or a non-representable result through the
+ * {@link #UNREPRESENTABLE} sentinel instead of throwing, so callers can fall back to {@link
+ * BigDecimal} arithmetic without paying for an exception.
+ */
+public final class FixedPointArithmetic {
+
+  /** Sentinel returned when a value cannot be represented exactly in a {@code long}. */
+  public static final long UNREPRESENTABLE = Long.MIN_VALUE;
+
+  /** Largest supported currency scale, bounded so that {@code 10^scale} fits in a long. */
+  public static final int MAX_SCALE = 18;
+
+  private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i <= MAX_SCALE; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  private FixedPointArithmetic() {}
+
+  /**
+   * Converts an amount to minor units of the given scale.
+   *
+   * @param amount the amount to convert
+   * @param scale the currency scale, e.g. 2 for cents
+   * @return the amount in minor units, or {@link #UNREPRESENTABLE} if the amount has more fraction
+   *     digits than the scale allows or does not fit in a long
+   */
+  public static long toMinorUnits(BigDecimal amount, int scale) {
+    BigDecimal normalized = amount;
+    if (normalized.scale() > scale) {
+      normalized = normalized.stripTrailingZeros();
+      if (normalized.scale() > scale) {
+        return UNREPRESENTABLE;
+      }
+    }
+    // integer digits + scale must stay below the 19 digits of a long
+    if (normalized.precision() - normalized.scale() + scale > MAX_SCALE) {
+      return UNREPRESENTABLE;
+    }
+    return normalized.movePointRight(scale).longValue();
+  }
+
+  /**
+   * Multiplies two longs.
+   *
+   * @return the product, or {@link #UNREPRESENTABLE} on overflow
+   */
+  public static long multiply(long a, long b) {
+    long high = Math.multiplyHigh(a, b);
+    long low = a * b;
+    if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+      return low;
+    }
+    return UNREPRESENTABLE;
+  }
+
+  /**
+   * Divides a numerator by a positive divisor applying the given rounding mode.
+   *
+   * @param numerator the numerator
+   * @param divisor the divisor, must be positive and below {@code 2^62}
+   * @param roundingMode the rounding mode to apply to the quotient
+   * @return the rounded quotient, or {@link #UNREPRESENTABLE} if rounding is required but the mode
+   *     is {@link RoundingMode#UNNECESSARY}
+   */
+  public static long divide(long numerator, long divisor, RoundingMode roundingMode) {
+    long quotient = numerator / divisor;
+    long remainder = numerator % divisor;
+    if (remainder == 0) {
+      return quotient;
+    }
+    if (roundingMode == RoundingMode.UNNECESSARY) {
+      return UNREPRESENTABLE;
+    }
+
+    int signum = numerator < 0 ? -1 : 1;
+    int half = Long.compare(Math.abs(remainder) * 2, divisor);
+    boolean increment =
+        switch (roundingMode) {
+          case UP -> true;
+          case DOWN -> false;
+          case CEILING -> signum > 0;
+          case FLOOR -> signum < 0;
+          case HALF_UP -> half >= 0;
+          case HALF_DOWN -> half > 0;
+          case HALF_EVEN -> half > 0 || (half == 0 && (quotient & 1) != 0);
+          case UNNECESSARY -> false; // handled above
+        };
+    return increment ? quotient + signum : quotient;
+  }
+
+  /**
+   * Returns {@code 10^exponent}.
+   *
+   * @param exponent the exponent, between 0 and {@link #MAX_SCALE}
+   * @return the power of ten
+   */
+  public static long powerOfTen(int exponent) {
+    return POWERS_OF_TEN[exponent];
+  }
+}
@@ -0,0 +1,39 @@
+package com.zen.ala.domain.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of one {@link PriceCalculatorService#calculatePrice} call.
+ *
+ * <p>The event is only created while a recording has it enabled; see {@link
+ * PriceCalculatorService}.
+ */
+@Name(PriceCalculationEvent.NAME)
+@Label("Price Calculation")
+@Category({"Catalog", "Pricing"})
+@Description("Price of a product quantity calculated with a discount strategy")
+@StackTrace(false)
+public final class PriceCalculationEvent extends Event {
+
+  public static final String NAME = "com.zen.ala.PriceCalculation";
+
+  @Label("Discount Type")
+  String discountType;
+
+  @Label("Discount Policy")
+  String discountPolicy;
+
+  @Label("Pricing Mode")
+  String pricingMode;
+
+  @Label("Quantity")
+  int quantity;
+
+  @Label("Discounts Evaluated")
+  int discountsEvaluated;
+}
@@ -4,10 +4,13 @@ import com.zen.ala.domain.service.discount.Discount;
 import com.zen.ala.domain.service.discount.DiscountStrategy;
 import com.zen.ala.domain.service.discount.PercentageDiscount;
 import com.zen.ala.domain.service.discount.QuantityDiscount;
+import com.zen.ala.domain.service.discount.dict.DiscountPolicy;
 import com.zen.ala.domain.service.discount.dict.DiscountType;
+import com.zen.ala.domain.service.discount.dict.PricingMode;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import jdk.jfr.EventType;
 
 /**
  * Service for calculating prices with discounts.
@@ -15,11 +18,45 @@ import lombok.RequiredArgsConstructor;
  * <p>This service provides methods to calculate the final price of a product based on its unit
  * price, quantity, and applicable discounts. It supports different discount strategies, including
  * cumulative and highest discount policies.
+ *
+ * <p>A {@link PricingPlan} is compiled for every {@link DiscountType} and {@link DiscountPolicy}
+ * combination when the service is created, so a calculation is a single table lookup followed by
+ * the pre-built discount chain.
+ *
+ * <p>In {@link PricingMode#FIXED_POINT} mode the chain runs on {@code long} minor units and basis
+ * point rates and the result is rounded to the configured scale. Whenever an amount or a rate does
+ * not fit, the calculation falls back to {@link BigDecimal} arithmetic with the same rounding, so
+ * both modes return the same rounded amounts.
+ *
+ * <p>Every price calculation emits a {@link PriceCalculationEvent} while a flight recording has
+ * the event enabled. Otherwise the event is never created, so the calculation pays for a single
+ * flag check and allocates nothing for it.
  */
-@RequiredArgsConstructor
 public class PriceCalculatorService {
 
-  private final List<Discount> discounts;
+  private static final int POLICY_COUNT = DiscountPolicy.values().length;
+  private static final EventType PRICE_CALCULATION =
+      EventType.getEventType(PriceCalculationEvent.class);
+
+  private final PricingPlan[] plans;
+  private final PricingMode pricingMode;
+  private final int scale;
+  private final RoundingMode roundingMode;
+
+  public PriceCalculatorService(List<Discount> discounts) {
+    this(discounts, PricingMode.BIG_DECIMAL, 2, RoundingMode.HALF_EVEN);
+  }
+
+  public PriceCalculatorService(
+      List<Discount> discounts, PricingMode pricingMode, int scale, RoundingMode roundingMode) {
+    if (scale < 0 || scale > FixedPointArithmetic.MAX_SCALE) {
+      throw new IllegalArgumentException("Unsupported pricing scale: " + scale);
+    }
+    this.plans = compilePlans(discounts);
+    this.pricingMode = pricingMode;
+    this.scale = scale;
+    this.roundingMode = roundingMode;
+  }
 
   /**
    * Calculates the final price based on the unit price, quantity, and discount strategy.
@@ -32,42 +69,109 @@ public class PriceCalculatorService {
   public BigDecimal calculatePrice(
       BigDecimal unitPrice, int quantity, DiscountStrategy discountStrategy) {
 
-    BigDecimal originalTotal = unitPrice.multiply(BigDecimal.valueOf(quantity));
+    PricingPlan plan =
+        planFor(discountStrategy.getDiscountType(), discountStrategy.getDiscountPolicy());
 
-    List<Discount> selectedDiscounts = selectDiscounts(discountStrategy.getDiscountType());
+    if (!PRICE_CALCULATION.isEnabled()) {
+      return calculatePrice(plan, unitPrice, quantity);
+    }
 
-    return switch (discountStrategy.getDiscountPolicy()) {
-      case CUMULATIVE -> calculateCumulativePrice(quantity, originalTotal, selectedDiscounts);
-      case HIGHEST -> calculateHighestPrice(quantity, originalTotal, selectedDiscounts);
-    };
+    PriceCalculationEvent event = new PriceCalculationEvent();
+    event.begin();
+    BigDecimal price = calculatePrice(plan, unitPrice, quantity);
+    event.discountType = discountStrategy.getDiscountType().name();
+    event.discountPolicy = discountStrategy.getDiscountPolicy().name();
+    event.pricingMode = pricingMode.name();
+    event.quantity = quantity;
+    event.discountsEvaluated = plan.getDiscountCount();
+    event.commit();
+    return price;
   }
 
-  private List<Discount> selectDiscounts(DiscountType discountType) {
-    return switch (discountType) {
-      case QUANTITY ->
-          discounts.stream().filter(policy -> policy instanceof QuantityDiscount).toList();
-      case PERCENTAGE ->
-          discounts.stream().filter(policy -> policy instanceof PercentageDiscount).toList();
-      case BOTH -> discounts;
-    };
+  /**
+   * Calculates the final price on minor units without allocating.
+   *
+   * <p>The result is rounded with the configured rounding mode. A result of {@link
+   * FixedPointArithmetic#UNREPRESENTABLE} means the calculation does not fit in a long or a
+   * discount rate is not a whole number of basis points; {@link #calculatePrice(BigDecimal, int,
+   * DiscountStrategy)} handles those cases.
+   *
+   * @param unitPriceMinorUnits the unit price of the product in minor units of the configured scale
+   * @param quantity the quantity of products
+   * @param discountStrategy the discount strategy to apply
+   * @return the final price in minor units, or {@link FixedPointArithmetic#UNREPRESENTABLE}
+   */
+  public long calculatePriceMinorUnits(
+      long unitPriceMinorUnits, int quantity, DiscountStrategy discountStrategy) {
+
+    PricingPlan plan =
+        planFor(discountStrategy.getDiscountType(), discountStrategy.getDiscountPolicy());
+
+    return plan.applyMinorUnits(
+        FixedPointArithmetic.multiply(unitPriceMinorUnits, quantity), quantity, roundingMode);
+  }
+
+  private BigDecimal calculatePrice(PricingPlan plan, BigDecimal unitPrice, int quantity) {
+    if (pricingMode == PricingMode.FIXED_POINT) {
+      return calculateFixedPointPrice(plan, unitPrice, quantity);
+    }
+
+    BigDecimal originalTotal = unitPrice.multiply(BigDecimal.valueOf(quantity));
+
+    return plan.apply(originalTotal, quantity);
   }
 
-  private BigDecimal calculateCumulativePrice(
-      int quantity, BigDecimal total, List<Discount> selectedDiscounts) {
+  private BigDecimal calculateFixedPointPrice(
+      PricingPlan plan, BigDecimal unitPrice, int quantity) {
 
-    BigDecimal result = total;
-    for (Discount discount : selectedDiscounts) {
-      result = discount.apply(result, quantity);
+    if (plan.isFixedPointSupported()) {
+      long unitPriceMinorUnits = FixedPointArithmetic.toMinorUnits(unitPrice, scale);
+      if (unitPriceMinorUnits != FixedPointArithmetic.UNREPRESENTABLE) {
+        long result =
+            plan.applyMinorUnits(
+                FixedPointArithmetic.multiply(unitPriceMinorUnits, quantity),
+                quantity,
+                roundingMode);
+        if (result != FixedPointArithmetic.UNREPRESENTABLE) {
+          return BigDecimal.valueOf(result, scale);
+        }
+      }
     }
-    return result;
+
+    BigDecimal originalTotal = unitPrice.multiply(BigDecimal.valueOf(quantity));
+    return plan.apply(originalTotal, quantity).setScale(scale, roundingMode);
+  }
+
+  private PricingPlan planFor(DiscountType discountType, DiscountPolicy discountPolicy) {
+    return plans[discountType.ordinal() * POLICY_COUNT + discountPolicy.ordinal()];
   }
 
-  private BigDecimal calculateHighestPrice(
-      int quantity, BigDecimal total, List<Discount> selectedDiscounts) {
+  private static PricingPlan[] compilePlans(List<Discount> discounts) {
+    DiscountType[] types = DiscountType.values();
+    DiscountPolicy[] policies = DiscountPolicy.values();
+
+    PricingPlan[] table = new PricingPlan[types.length * POLICY_COUNT];
+    for (DiscountType type : types) {
+      Discount[] selectedDiscounts = selectDiscounts(discounts, type);
+      for (DiscountPolicy policy : policies) {
+        table[type.ordinal() * POLICY_COUNT + policy.ordinal()] =
+            new PricingPlan(policy, selectedDiscounts);
+      }
+    }
+    return table;
+  }
 
-    return selectedDiscounts.stream()
-        .map(discount -> discount.apply(total, quantity))
-        .min(BigDecimal::compareTo)
-        .orElse(total);
+  private static Discount[] selectDiscounts(List<Discount> discounts, DiscountType discountType) {
+    return switch (discountType) {
+      case QUANTITY ->
+          discounts.stream()
+              .filter(policy -> policy instanceof QuantityDiscount)
+              .toArray(Discount[]::new);
+      case PERCENTAGE ->
+          discounts.stream()
+              .filter(policy -> policy instanceof PercentageDiscount)
+              .toArray(Discount[]::new);
+      case BOTH -> discounts.toArray(Discount[]::new);
+    };
   }
 }
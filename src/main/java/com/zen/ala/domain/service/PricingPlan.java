@@ -0,0 +1,159 @@
+package com.zen.ala.domain.service;
+
+import com.zen.ala.domain.service.discount.BasisPointDiscount;
+import com.zen.ala.domain.service.discount.Discount;
+import com.zen.ala.domain.service.discount.dict.DiscountPolicy;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Pre-built discount chain for a single discount type and discount policy combination.
+ *
+ * <p>Plans are compiled once by {@link PriceCalculatorService} and are immutable afterwards, so
+ * applying a plan does not filter, copy or allocate any collections.
+ */
+final class PricingPlan {
+
+  // 10_000^4 still fits in a long, which bounds the length of a fixed-point cumulative chain
+  private static final int MAX_FIXED_POINT_CHAIN = 4;
+
+  private final DiscountPolicy discountPolicy;
+  private final Discount[] discounts;
+  // the same discounts, or null if one of them is not a BasisPointDiscount
+  private final BasisPointDiscount[] basisPointDiscounts;
+  private final long cumulativeDivisor;
+
+  PricingPlan(DiscountPolicy discountPolicy, Discount[] discounts) {
+    this.discountPolicy = discountPolicy;
+    this.discounts = discounts;
+    this.basisPointDiscounts = basisPointDiscounts(discounts);
+
+    long divisor = 1;
+    for (int i = 0; i < Math.min(discounts.length, MAX_FIXED_POINT_CHAIN); i++) {
+      divisor *= Discount.BASIS_POINTS;
+    }
+    this.cumulativeDivisor = divisor;
+  }
+
+  /**
+   * Indicates whether the plan can be evaluated on long minor units.
+   *
+   * @return true if every discount of the plan is a {@link BasisPointDiscount}
+   */
+  boolean isFixedPointSupported() {
+    return basisPointDiscounts != null;
+  }
+
+  /**
+   * Counts the discounts the plan evaluates on every calculation.
+   *
+   * @return the number of discounts in the chain
+   */
+  int getDiscountCount() {
+    return discounts.length;
+  }
+
+  /**
+   * Applies the discounts of this plan to the given total.
+   *
+   * @param total the total price before discounts
+   * @param quantity the quantity of products
+   * @return the price after applying the discounts according to the plan's policy
+   */
+  BigDecimal apply(BigDecimal total, int quantity) {
+    return switch (discountPolicy) {
+      case CUMULATIVE -> applyCumulative(total, quantity);
+      case HIGHEST -> applyHighest(total, quantity);
+    };
+  }
+
+  private BigDecimal applyCumulative(BigDecimal total, int quantity) {
+    BigDecimal result = total;
+    for (Discount discount : discounts) {
+      result = discount.apply(result, quantity);
+    }
+    return result;
+  }
+
+  private BigDecimal applyHighest(BigDecimal total, int quantity) {
+    if (discounts.length == 0) {
+      return total;
+    }
+    // keeps the first candidate on ties, same as Stream#min
+    BigDecimal best = discounts[0].apply(total, quantity);
+    for (int i = 1; i < discounts.length; i++) {
+      BigDecimal candidate = discounts[i].apply(total, quantity);
+      if (candidate.compareTo(best) < 0) {
+        best = candidate;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Applies the discounts of this plan to a total held in minor units.
+   *
+   * <p>The result is rounded once, at the end, so it equals the {@link #apply(BigDecimal, int)}
+   * result rounded to the same scale with the same rounding mode.
+   *
+   * @param totalMinorUnits the total price before discounts in minor units
+   * @param quantity the quantity of products
+   * @param roundingMode the rounding mode applied to the final amount
+   * @return the discounted total in minor units, or {@link FixedPointArithmetic#UNREPRESENTABLE}
+   *     if the calculation does not fit in a long
+   */
+  long applyMinorUnits(long totalMinorUnits, int quantity, RoundingMode roundingMode) {
+    if (basisPointDiscounts == null || totalMinorUnits == FixedPointArithmetic.UNREPRESENTABLE) {
+      return FixedPointArithmetic.UNREPRESENTABLE;
+    }
+    return switch (discountPolicy) {
+      case CUMULATIVE -> applyCumulativeMinorUnits(totalMinorUnits, quantity, roundingMode);
+      case HIGHEST -> applyHighestMinorUnits(totalMinorUnits, quantity, roundingMode);
+    };
+  }
+
+  private long applyCumulativeMinorUnits(
+      long totalMinorUnits, int quantity, RoundingMode roundingMode) {
+    long numerator = totalMinorUnits;
+    for (BasisPointDiscount discount : basisPointDiscounts) {
+      numerator =
+          FixedPointArithmetic.multiply(numerator, discount.retainedBasisPoints(quantity));
+      if (numerator == FixedPointArithmetic.UNREPRESENTABLE) {
+        return FixedPointArithmetic.UNREPRESENTABLE;
+      }
+    }
+    return FixedPointArithmetic.divide(numerator, cumulativeDivisor, roundingMode);
+  }
+
+  private long applyHighestMinorUnits(
+      long totalMinorUnits, int quantity, RoundingMode roundingMode) {
+    if (basisPointDiscounts.length == 0) {
+      return totalMinorUnits;
+    }
+    // all candidates share the same divisor, so the smallest numerator is the lowest price
+    long best = Long.MAX_VALUE;
+    for (BasisPointDiscount discount : basisPointDiscounts) {
+      long candidate =
+          FixedPointArithmetic.multiply(totalMinorUnits, discount.retainedBasisPoints(quantity));
+      if (candidate == FixedPointArithmetic.UNREPRESENTABLE) {
+        return FixedPointArithmetic.UNREPRESENTABLE;
+      }
+      best = Math.min(best, candidate);
+    }
+    return FixedPointArithmetic.divide(best, Discount.BASIS_POINTS, roundingMode);
+  }
+
+  private static BasisPointDiscount[] basisPointDiscounts(Discount[] discounts) {
+    if (discounts.length > MAX_FIXED_POINT_CHAIN) {
+      return null;
+    }
+    BasisPointDiscount[] basisPointDiscounts = new BasisPointDiscount[discounts.length];
+    for (int i = 0; i < discounts.length; i++) {
+      if (!(discounts[i] instanceof BasisPointDiscount basisPointDiscount)) {
+        return null;
+      }
+      basisPointDiscounts[i] = basisPointDiscount;
+    }
+    return basisPointDiscounts;
+  }
+}
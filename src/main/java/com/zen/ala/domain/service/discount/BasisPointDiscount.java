@@ -0,0 +1,20 @@
+package com.zen.ala.domain.service.discount;
+
+/**
+ * A discount whose every rate is a whole number of basis points.
+ *
+ * <p>Only discounts of this type are evaluated by the fixed-point pricing mode; the factories of
+ * {@link PercentageDiscount} and {@link QuantityDiscount} return one whenever their rates allow.
+ */
+public interface BasisPointDiscount extends Discount {
+
+  /**
+   * Returns the share of the base price that remains after the discount, in basis points.
+   *
+   * <p>For a 5% discount this is 9 500.
+   *
+   * @param quantity the quantity of items purchased
+   * @return the retained share of the base price in basis points
+   */
+  int retainedBasisPoints(int quantity);
+}
@@ -0,0 +1,25 @@
+package com.zen.ala.domain.service.discount;
+
+import java.math.BigDecimal;
+import java.util.OptionalInt;
+
+/** Conversion of decimal discount rates to basis points. */
+final class BasisPoints {
+
+  private BasisPoints() {}
+
+  /**
+   * Converts a discount rate to the retained share of the price in basis points.
+   *
+   * @param discountRate the discount rate, e.g. 0.05 for 5%
+   * @return the retained basis points, or empty if the rate is not a whole number of basis points
+   */
+  static OptionalInt retainedOf(BigDecimal discountRate) {
+    try {
+      int rate = discountRate.movePointRight(4).intValueExact();
+      return OptionalInt.of(Discount.BASIS_POINTS - rate);
+    } catch (ArithmeticException e) {
+      return OptionalInt.empty();
+    }
+  }
+}
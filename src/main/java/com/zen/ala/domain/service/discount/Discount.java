@@ -13,6 +13,9 @@ import java.math.BigDecimal;
  */
 public interface Discount {
 
+  /** Number of basis points that make up the whole price (100%). */
+  int BASIS_POINTS = 10_000;
+
   /**
    * Applies the discount to the base price based on the specified quantity.
    *
@@ -1,23 +1,56 @@
 package com.zen.ala.domain.service.discount;
 
 import java.math.BigDecimal;
+import java.util.OptionalInt;
 
 /**
  * A discount that applies a percentage discount to the base price.
  *
  * <p>This class implements the {@link Discount} interface and provides a method to apply a
- * percentage discount to a given base price based on the specified discount rate.
+ * percentage discount to a given base price based on the specified discount rate. Instances are
+ * created with {@link #of(BigDecimal)}, which returns a {@link BasisPointDiscount} if the rate is
+ * a whole number of basis points.
  */
 public class PercentageDiscount implements Discount {
 
   private final BigDecimal discountRate;
 
-  public PercentageDiscount(BigDecimal discountRate) {
+  private PercentageDiscount(BigDecimal discountRate) {
     this.discountRate = discountRate;
   }
 
+  /**
+   * Creates a percentage discount.
+   *
+   * @param discountRate the discount rate, e.g. 0.05 for 5%
+   * @return the discount, a {@link BasisPointDiscount} if the rate is a whole number of basis
+   *     points
+   */
+  public static PercentageDiscount of(BigDecimal discountRate) {
+    OptionalInt retained = BasisPoints.retainedOf(discountRate);
+    return retained.isPresent()
+        ? new WholeBasisPoints(discountRate, retained.getAsInt())
+        : new PercentageDiscount(discountRate);
+  }
+
   @Override
   public BigDecimal apply(BigDecimal basePrice, int quantity) {
     return basePrice.subtract(basePrice.multiply(discountRate));
   }
+
+  private static final class WholeBasisPoints extends PercentageDiscount
+      implements BasisPointDiscount {
+
+    private final int retainedBasisPoints;
+
+    private WholeBasisPoints(BigDecimal discountRate, int retainedBasisPoints) {
+      super(discountRate);
+      this.retainedBasisPoints = retainedBasisPoints;
+    }
+
+    @Override
+    public int retainedBasisPoints(int quantity) {
+      return retainedBasisPoints;
+    }
+  }
 }
@@ -1,29 +1,102 @@
 package com.zen.ala.domain.service.discount;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.NavigableMap;
+import java.util.OptionalInt;
 
 /**
  * A discount that applies a quantity-based discount to the base price.
  *
  * <p>This class implements the {@link Discount} interface and provides a method to apply a
  * quantity-based discount to a given base price based on the specified quantity thresholds.
+ * Instances are created with {@link #of(NavigableMap)}, which returns a {@link BasisPointDiscount}
+ * if every rate is a whole number of basis points.
+ *
+ * <p>The thresholds are compiled into a sorted {@code int[]} with parallel arrays of precomputed
+ * {@code (1 - rate)} multipliers and retained basis points. Short tables are scanned without
+ * branches, longer ones are binary searched, so a lookup never boxes the quantity.
  */
 public class QuantityDiscount implements Discount {
 
-  private final NavigableMap<Integer, BigDecimal> quantityThresholds;
+  // up to this many tiers a full branch-free scan beats a binary search
+  private static final int LINEAR_SCAN_LIMIT = 8;
+
+  private final int[] thresholds;
+  private final BigDecimal[] multipliers;
 
-  public QuantityDiscount(NavigableMap<Integer, BigDecimal> quantityThresholds) {
-    this.quantityThresholds = quantityThresholds;
+  private QuantityDiscount(int[] thresholds, BigDecimal[] multipliers) {
+    this.thresholds = thresholds;
+    this.multipliers = multipliers;
+  }
+
+  /**
+   * Creates a quantity discount.
+   *
+   * @param quantityThresholds the discount rate by the minimum quantity it applies to
+   * @return the discount, a {@link BasisPointDiscount} if every rate is a whole number of basis
+   *     points
+   */
+  public static QuantityDiscount of(NavigableMap<Integer, BigDecimal> quantityThresholds) {
+    int size = quantityThresholds.size();
+    int[] thresholds = new int[size];
+    BigDecimal[] multipliers = new BigDecimal[size];
+    int[] retained = new int[size];
+    boolean basisPointsSupported = true;
+    int i = 0;
+    for (Map.Entry<Integer, BigDecimal> threshold : quantityThresholds.entrySet()) {
+      thresholds[i] = threshold.getKey();
+      multipliers[i] = BigDecimal.ONE.subtract(threshold.getValue());
+      OptionalInt basisPoints = BasisPoints.retainedOf(threshold.getValue());
+      if (basisPoints.isPresent()) {
+        retained[i] = basisPoints.getAsInt();
+      } else {
+        basisPointsSupported = false;
+      }
+      i++;
+    }
+    return basisPointsSupported
+        ? new WholeBasisPoints(thresholds, multipliers, retained)
+        : new QuantityDiscount(thresholds, multipliers);
   }
 
   @Override
   public BigDecimal apply(BigDecimal basePrice, int quantity) {
-    BigDecimal discountRate =
-        quantityThresholds.floorEntry(quantity) != null
-            ? quantityThresholds.floorEntry(quantity).getValue()
-            : BigDecimal.ZERO;
+    int tier = tierOf(quantity);
+    return tier >= 0 ? basePrice.multiply(multipliers[tier]) : basePrice;
+  }
+
+  /** Returns the index of the greatest threshold not above the quantity, or -1 if there is none. */
+  private int tierOf(int quantity) {
+    int[] keys = thresholds;
+    if (keys.length <= LINEAR_SCAN_LIMIT) {
+      int count = 0;
+      for (int key : keys) {
+        // sign bit of (key - quantity - 1) is set exactly when key <= quantity
+        count += (int) (((long) key - quantity - 1) >>> 63);
+      }
+      return count - 1;
+    }
+    int index = Arrays.binarySearch(keys, quantity);
+    return index >= 0 ? index : -index - 2;
+  }
+
+  private static final class WholeBasisPoints extends QuantityDiscount
+      implements BasisPointDiscount {
+
+    private final int[] retainedBasisPoints;
+
+    private WholeBasisPoints(
+        int[] thresholds, BigDecimal[] multipliers, int[] retainedBasisPoints) {
+      super(thresholds, multipliers);
+      this.retainedBasisPoints = retainedBasisPoints;
+    }
 
-    return basePrice.subtract(basePrice.multiply(discountRate));
+    @Override
+    public int retainedBasisPoints(int quantity) {
+      int tier = super.tierOf(quantity);
+      return tier >= 0 ? retainedBasisPoints[tier] : BASIS_POINTS;
+    }
   }
 }
@@ -0,0 +1,16 @@
+package com.zen.ala.domain.service.discount.dict;
+
+/**
+ * Enum representing the arithmetic used to evaluate discounts.
+ *
+ * <p>This enum defines how prices are calculated. The two modes are: <lu>
+ * <li>BIG_DECIMAL: Prices are calculated with exact {@link java.math.BigDecimal} arithmetic and
+ *     returned unrounded.
+ * <li>FIXED_POINT: Prices are calculated on {@code long} minor units and basis point rates, and
+ *     returned rounded to the configured scale. Calculations that do not fit fall back to
+ *     BIG_DECIMAL arithmetic with the same rounding. </lu>
+ */
+public enum PricingMode {
+  BIG_DECIMAL,
+  FIXED_POINT
+}
@@ -0,0 +1,23 @@
+package com.zen.ala.infrastructure.config;
+
+import com.zen.ala.infrastructure.web.binary.ProductBinaryHttpMessageConverter;
+import java.util.List;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration class for the binary wire format of the product API.
+ *
+ * <p>Appends the {@link ProductBinaryHttpMessageConverter} after the default converters rather
+ * than registering it as a bean, which would put it first: clients that accept any media type
+ * keep receiving JSON, and only those naming the binary media type receive it.
+ */
+@Configuration
+public class BinaryWireFormatConfig implements WebMvcConfigurer {
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.add(new ProductBinaryHttpMessageConverter());
+  }
+}
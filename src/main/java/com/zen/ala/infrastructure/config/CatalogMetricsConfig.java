@@ -0,0 +1,47 @@
+package com.zen.ala.infrastructure.config;
+
+import com.zen.ala.application.service.ProductService;
+import com.zen.ala.domain.port.in.ProductInboundPort;
+import com.zen.ala.domain.port.out.ProductOutboundPort;
+import com.zen.ala.infrastructure.metrics.DatabaseWorkMetricsFilter;
+import com.zen.ala.infrastructure.metrics.MeteredProductInboundPort;
+import com.zen.ala.infrastructure.metrics.MeteredProductOutboundPort;
+import com.zen.ala.infrastructure.persistance.ProductRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Configuration class for the catalog metrics of the servlet stack.
+ *
+ * <p>Wraps the product ports in their metered decorators, which take precedence over the service
+ * and the repository adapter wherever a port is injected, and records the database work of every
+ * request. Setting {@code catalog.metrics.enabled} to false leaves the ports undecorated.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "catalog.metrics", name = "enabled", matchIfMissing = true)
+public class CatalogMetricsConfig {
+
+  @Bean
+  @Primary
+  public ProductInboundPort meteredProductInboundPort(
+      ProductService productService, MeterRegistry registry) {
+    return new MeteredProductInboundPort(productService, registry);
+  }
+
+  @Bean
+  @Primary
+  public ProductOutboundPort meteredProductOutboundPort(
+      ProductRepositoryAdapter productRepositoryAdapter, MeterRegistry registry) {
+    return new MeteredProductOutboundPort(productRepositoryAdapter, registry);
+  }
+
+  @Bean
+  public DatabaseWorkMetricsFilter databaseWorkMetricsFilter(MeterRegistry registry) {
+    return new DatabaseWorkMetricsFilter(registry);
+  }
+}
@@ -0,0 +1,28 @@
+package com.zen.ala.infrastructure.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration properties for the continuous flight recording.
+ *
+ * <p>This class binds the {@code catalog.flight-recorder} properties of the recording the {@code
+ * flightrecorder} actuator endpoint starts. The maximum age and size are the defaults of a new
+ * recording and the upper bounds of the values a caller can ask for, so a forgotten recording
+ * never holds more than this on disk.
+ */
+@Data
+@ConfigurationProperties(prefix = "catalog.flight-recorder")
+public class FlightRecorderProperties {
+
+  /** JFR settings the recording starts from, "default" or "profile". */
+  private String settings = "default";
+
+  /** Maximum age of the events the recording keeps. */
+  private Duration maxAge = Duration.ofMinutes(15);
+
+  /** Maximum size of the events the recording keeps. */
+  private DataSize maxSize = DataSize.ofMegabytes(100);
+}
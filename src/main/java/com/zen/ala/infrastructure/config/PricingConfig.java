@@ -22,17 +22,23 @@ public class PricingConfig {
   @Bean
   public QuantityDiscount quantityDiscountPolicy(PricingProperties props) {
     NavigableMap<Integer, BigDecimal> thresholds = new TreeMap<>(props.getQuantityThresholds());
-    return new QuantityDiscount(thresholds);
+    return QuantityDiscount.of(thresholds);
   }
 
   @Bean
   public PercentageDiscount percentageDiscountPolicy(PricingProperties props) {
-    return new PercentageDiscount(props.getPercentage());
+    return PercentageDiscount.of(props.getPercentage());
   }
 
   @Bean
   public PriceCalculatorService priceCalculatorService(
-      QuantityDiscount quantityDiscount, PercentageDiscount percentageDiscount) {
-    return new PriceCalculatorService(List.of(percentageDiscount, quantityDiscount));
+      PricingProperties props,
+      QuantityDiscount quantityDiscount,
+      PercentageDiscount percentageDiscount) {
+    return new PriceCalculatorService(
+        List.of(percentageDiscount, quantityDiscount),
+        props.getMode(),
+        props.getScale(),
+        props.getRoundingMode());
   }
 }
@@ -1,6 +1,8 @@
 package com.zen.ala.infrastructure.config;
 
+import com.zen.ala.domain.service.discount.dict.PricingMode;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Map;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -17,4 +19,13 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class PricingProperties {
   private BigDecimal percentage;
   private Map<Integer, BigDecimal> quantityThresholds;
+
+  /** Arithmetic used to evaluate discounts. */
+  private PricingMode mode = PricingMode.BIG_DECIMAL;
+
+  /** Number of fraction digits of the currency, used by the fixed-point mode. */
+  private int scale = 2;
+
+  /** Rounding applied to prices by the fixed-point mode. */
+  private RoundingMode roundingMode = RoundingMode.HALF_EVEN;
 }
@@ -0,0 +1,23 @@
+package com.zen.ala.infrastructure.config;
+
+import com.zen.ala.infrastructure.persistance.cache.ProductCache;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for product cache beans.
+ *
+ * <p>Publishes the hit, miss, eviction and size statistics of the {@link ProductCache} as {@code
+ * cache.*} metrics on the actuator metrics endpoint.
+ */
+@Configuration
+public class ProductCacheConfig {
+
+  @Bean
+  public MeterBinder productCacheMetrics(ProductCache productCache) {
+    return registry ->
+        CaffeineCacheMetrics.monitor(registry, productCache.getNativeCache(), ProductCache.NAME);
+  }
+}
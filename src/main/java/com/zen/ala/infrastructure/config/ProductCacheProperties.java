@@ -0,0 +1,25 @@
+package com.zen.ala.infrastructure.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the in-process product cache.
+ *
+ * <p>This class binds the {@code catalog.cache} properties that bound the size and lifetime of the
+ * cached products.
+ */
+@Data
+@ConfigurationProperties(prefix = "catalog.cache")
+public class ProductCacheProperties {
+
+  /** Whether product reads are cached. */
+  private boolean enabled = true;
+
+  /** Maximum number of cached products. */
+  private long maximumSize = 100_000;
+
+  /** Time after which a cached product is reloaded from the database. */
+  private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
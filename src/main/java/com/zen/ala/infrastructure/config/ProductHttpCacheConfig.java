@@ -0,0 +1,38 @@
+package com.zen.ala.infrastructure.config;
+
+import com.zen.ala.infrastructure.web.json.ProductJsonCache;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+
+/**
+ * Configuration class for HTTP caching of product reads.
+ *
+ * <p>Builds the {@code Cache-Control} directives sent with product responses from the {@link
+ * ProductHttpCacheProperties}, and publishes the statistics of the {@link ProductJsonCache} as
+ * {@code cache.*} metrics.
+ */
+@Configuration
+public class ProductHttpCacheConfig {
+
+  @Bean
+  public CacheControl productCacheControl(ProductHttpCacheProperties properties) {
+    CacheControl cacheControl =
+        properties.getMaxAge().isZero()
+            ? CacheControl.noCache()
+            : CacheControl.maxAge(properties.getMaxAge());
+    if (properties.getSharedMaxAge() != null) {
+      cacheControl = cacheControl.sMaxAge(properties.getSharedMaxAge());
+    }
+    return properties.isCachePrivate() ? cacheControl.cachePrivate() : cacheControl.cachePublic();
+  }
+
+  @Bean
+  public MeterBinder productJsonCacheMetrics(ProductJsonCache productJsonCache) {
+    return registry ->
+        CaffeineCacheMetrics.monitor(
+            registry, productJsonCache.getNativeCache(), ProductJsonCache.NAME);
+  }
+}
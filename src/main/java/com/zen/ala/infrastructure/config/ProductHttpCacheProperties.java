@@ -0,0 +1,26 @@
+package com.zen.ala.infrastructure.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for HTTP caching of product reads.
+ *
+ * <p>This class binds the {@code catalog.http-cache} properties that make up the {@code
+ * Cache-Control} header of product responses. Responses always carry an ETag, so clients and
+ * shared caches can revalidate them with {@code If-None-Match}.
+ */
+@Data
+@ConfigurationProperties(prefix = "catalog.http-cache")
+public class ProductHttpCacheProperties {
+
+  /** How long a response may be reused without revalidation, zero to always revalidate. */
+  private Duration maxAge = Duration.ZERO;
+
+  /** How long shared caches, such as a CDN, may reuse a response, if different from max-age. */
+  private Duration sharedMaxAge;
+
+  /** Whether only the client, and no shared cache, may store responses. */
+  private boolean cachePrivate = false;
+}
@@ -0,0 +1,25 @@
+package com.zen.ala.infrastructure.config;
+
+import com.zen.ala.application.id.IdGenerator;
+import com.zen.ala.application.id.RandomUuidGenerator;
+import com.zen.ala.application.id.UuidV7Generator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for product identifier beans.
+ *
+ * <p>Time-ordered UUIDv7 ids are the default; random UUIDv4 ids can be selected with {@code
+ * catalog.id.generator=RANDOM}. Existing ids keep working with either generator.
+ */
+@Configuration
+public class ProductIdConfig {
+
+  @Bean
+  public IdGenerator productIdGenerator(ProductIdProperties props) {
+    return switch (props.getGenerator()) {
+      case UUID_V7 -> new UuidV7Generator();
+      case RANDOM -> new RandomUuidGenerator();
+    };
+  }
+}
@@ -0,0 +1,29 @@
+package com.zen.ala.infrastructure.config;
+
+import com.zen.ala.infrastructure.persistance.filter.ProductIdFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class for the product id filter.
+ *
+ * <p>Enables the scheduled staleness check of the {@link ProductIdFilter} and publishes the number
+ * of lookups it answered without a database query as the {@code catalog.id.filter.rejections}
+ * metric.
+ */
+@Configuration
+@EnableScheduling
+public class ProductIdFilterConfig {
+
+  @Bean
+  public MeterBinder productIdFilterMetrics(ProductIdFilter productIdFilter) {
+    return registry ->
+        FunctionCounter.builder(
+                "catalog.id.filter.rejections", productIdFilter, ProductIdFilter::getRejections)
+            .description("Lookups of unknown product ids answered without a database query")
+            .register(registry);
+  }
+}
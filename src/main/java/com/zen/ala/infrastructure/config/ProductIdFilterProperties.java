@@ -0,0 +1,33 @@
+package com.zen.ala.infrastructure.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the product id membership filter.
+ *
+ * <p>This class binds the {@code catalog.id-filter} properties that size the filter and control how
+ * often it is checked for a rebuild. The filter only sees products written through this
+ * application instance, so it is disabled by default and must stay disabled if other processes
+ * insert into the products table.
+ */
+@Data
+@ConfigurationProperties(prefix = "catalog.id-filter")
+public class ProductIdFilterProperties {
+
+  /** Whether lookups of unknown product ids are answered without a database query. */
+  private boolean enabled;
+
+  /** Minimum number of products the filter is sized for. */
+  private long expectedProducts = 1_000_000;
+
+  /** Target probability that an unknown id is reported as possibly present. */
+  private double falsePositiveProbability = 0.01;
+
+  /** Interval at which the filter is rebuilt if it is full or holds many deleted ids. */
+  private Duration refreshInterval = Duration.ofMinutes(1);
+
+  /** Age below which UUIDv7 ids are looked up in the database even if the filter rejects them. */
+  private Duration recentIdWindow = Duration.ofMinutes(1);
+}
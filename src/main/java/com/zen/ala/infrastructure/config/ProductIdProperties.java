@@ -0,0 +1,19 @@
+package com.zen.ala.infrastructure.config;
+
+import com.zen.ala.application.id.IdGeneratorType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for product identifiers.
+ *
+ * <p>This class binds the {@code catalog.id} properties that select how new product ids are
+ * generated.
+ */
+@Data
+@ConfigurationProperties(prefix = "catalog.id")
+public class ProductIdProperties {
+
+  /** Generator of new product ids. */
+  private IdGeneratorType generator = IdGeneratorType.UUID_V7;
+}
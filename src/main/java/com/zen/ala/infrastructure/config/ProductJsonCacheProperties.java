@@ -0,0 +1,26 @@
+package com.zen.ala.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration properties for the cache of encoded product JSON.
+ *
+ * <p>This class binds the {@code catalog.json-cache} properties that bound the memory held by the
+ * encoded responses and choose where it is allocated. Off-heap buffers count against {@code
+ * -XX:MaxDirectMemorySize} instead of the heap.
+ */
+@Data
+@ConfigurationProperties(prefix = "catalog.json-cache")
+public class ProductJsonCacheProperties {
+
+  /** Whether encoded product JSON is cached. */
+  private boolean enabled = true;
+
+  /** Maximum total size of the cached JSON. */
+  private DataSize maximumSize = DataSize.ofMegabytes(64);
+
+  /** Whether the cached JSON is held in direct buffers outside the heap. */
+  private boolean offHeap = false;
+}
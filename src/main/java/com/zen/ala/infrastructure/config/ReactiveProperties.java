@@ -0,0 +1,18 @@
+package com.zen.ala.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the reactive stack.
+ *
+ * <p>This class binds the {@code catalog.reactive} properties used when the application runs with
+ * the {@code reactive} profile.
+ */
+@Data
+@ConfigurationProperties(prefix = "catalog.reactive")
+public class ReactiveProperties {
+
+  /** Number of Netty event loop threads serving HTTP requests. */
+  private int eventLoopThreads = Runtime.getRuntime().availableProcessors();
+}
@@ -0,0 +1,37 @@
+package com.zen.ala.infrastructure.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.client.ReactorResourceFactory;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Configuration class for the reactive web server.
+ *
+ * <p>Serves the {@code reactive} profile from Netty rather than Tomcat, which is on the classpath
+ * for the servlet stack, with a fixed number of {@code catalog.reactive.event-loop-threads} event
+ * loop threads.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveWebConfig {
+
+  @Bean
+  public ReactorResourceFactory reactorResourceFactory(ReactiveProperties props) {
+    ReactorResourceFactory resourceFactory = new ReactorResourceFactory();
+    resourceFactory.setUseGlobalResources(false);
+    resourceFactory.setLoopResourcesSupplier(
+        () -> LoopResources.create("catalog-event-loop", props.getEventLoopThreads(), true));
+    return resourceFactory;
+  }
+
+  @Bean
+  public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(
+      ReactorResourceFactory reactorResourceFactory) {
+    NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+    factory.setResourceFactory(reactorResourceFactory);
+    return factory;
+  }
+}
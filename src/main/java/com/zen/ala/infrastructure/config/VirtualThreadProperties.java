@@ -0,0 +1,19 @@
+package com.zen.ala.infrastructure.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the virtual thread mode.
+ *
+ * <p>This class binds the {@code catalog.virtual-threads} properties of the pinning diagnostics
+ * that run while {@code spring.threads.virtual.enabled} is set.
+ */
+@Data
+@ConfigurationProperties(prefix = "catalog.virtual-threads")
+public class VirtualThreadProperties {
+
+  /** Minimum time a virtual thread must stay pinned to its carrier to be reported. */
+  private Duration pinnedThreshold = Duration.ofMillis(20);
+}
@@ -0,0 +1,249 @@
+package com.zen.ala.infrastructure.diagnostics;
+
+import com.zen.ala.domain.service.PriceCalculationEvent;
+import com.zen.ala.infrastructure.config.FlightRecorderProperties;
+import com.zen.ala.infrastructure.persistance.ProductRepositoryEvent;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.boot.actuate.autoconfigure.web.server.ConditionalOnManagementPort;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Actuator endpoint that controls a bounded continuous flight recording of the application.
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/flightrecorder} describes the recording
+ *   <li>{@code POST /actuator/flightrecorder} starts it, optionally with a {@code maxAge} and
+ *       {@code maxSize} below the {@code catalog.flight-recorder} limits
+ *   <li>{@code GET /actuator/flightrecorder/{name}} downloads what it holds as a {@code .jfr} file
+ *   <li>{@code DELETE /actuator/flightrecorder} stops it
+ * </ul>
+ *
+ * <p>The recording starts from the {@code catalog.flight-recorder.settings} JFR settings with the
+ * {@link PriceCalculationEvent} and {@link ProductRepositoryEvent} enabled. It is kept on disk
+ * and only holds the latest events within its maximum age and size, so it can run until an
+ * incident happens. A stopped recording can still be downloaded until the next one starts.
+ *
+ * <p>The endpoint only exists when the actuator runs on its own {@code management.server.port},
+ * which must not be reachable from outside the cluster, and is only served once {@code
+ * flightrecorder} is added to {@code management.endpoints.web.exposure.include}. Events that
+ * capture the environment variables, system properties and command line of the JVM are disabled,
+ * so a dump does not carry credentials passed through them.
+ */
+@Component
+@Endpoint(id = "flightrecorder")
+@ConditionalOnManagementPort(ManagementPortType.DIFFERENT)
+public class FlightRecorderEndpoint {
+
+  static final String RECORDING_NAME = "catalog";
+
+  // events whose values may hold secrets passed to the JVM
+  static final List<String> SENSITIVE_EVENTS =
+      List.of(
+          "jdk.InitialEnvironmentVariable",
+          "jdk.InitialSystemProperty",
+          "jdk.InitialSecurityProperty",
+          "jdk.JVMInformation");
+
+  private final FlightRecorderProperties properties;
+
+  private Recording recording;
+
+  public FlightRecorderEndpoint(FlightRecorderProperties properties) {
+    this.properties = properties;
+  }
+
+  /**
+   * Describes the current recording.
+   *
+   * @return the state of the recording, NONE if none was started
+   */
+  @ReadOperation
+  public synchronized RecordingDescriptor recording() {
+    return RecordingDescriptor.of(recording);
+  }
+
+  /**
+   * Starts the recording, unless it is already running.
+   *
+   * @param maxAge the maximum age of the events to keep, capped at the configured maximum
+   * @param maxSize the maximum size of the events to keep, capped at the configured maximum
+   * @return the state of the recording
+   */
+  @WriteOperation
+  public synchronized RecordingDescriptor start(
+      @Nullable Duration maxAge, @Nullable DataSize maxSize) {
+    if (recording != null && recording.getState() == RecordingState.RUNNING) {
+      return RecordingDescriptor.of(recording);
+    }
+    close();
+
+    Recording started = new Recording(configuration(properties.getSettings()));
+    started.setName(RECORDING_NAME);
+    started.setToDisk(true);
+    started.setMaxAge(bounded(maxAge, properties.getMaxAge()));
+    started.setMaxSize(bounded(maxSize, properties.getMaxSize()).toBytes());
+    started.enable(PriceCalculationEvent.NAME);
+    started.enable(ProductRepositoryEvent.NAME);
+    SENSITIVE_EVENTS.forEach(started::disable);
+    started.start();
+    recording = started;
+    return RecordingDescriptor.of(recording);
+  }
+
+  /**
+   * Stops the recording and keeps what it holds for download.
+   *
+   * @return the state of the recording
+   */
+  @DeleteOperation
+  public synchronized RecordingDescriptor stop() {
+    if (recording != null && recording.getState() == RecordingState.RUNNING) {
+      recording.stop();
+    }
+    return RecordingDescriptor.of(recording);
+  }
+
+  /**
+   * Dumps the events the recording holds into a temporary file and opens it for download.
+   *
+   * <p>The file is opened with {@link StandardOpenOption#DELETE_ON_CLOSE}, which unlinks it right
+   * away on Unix and when the stream is closed on Windows, so it is not left behind if the client
+   * aborts the download or the response fails before it is streamed. It is deleted at once if the
+   * dump fails.
+   *
+   * @param name the name of the recording
+   * @return the {@code .jfr} file, or 404 if there is no such recording
+   */
+  @ReadOperation(produces = "application/octet-stream")
+  public synchronized WebEndpointResponse<Resource> dump(@Selector String name) {
+    if (recording == null
+        || !recording.getName().equals(name)
+        || recording.getState() == RecordingState.NEW) {
+      return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+    Path file = null;
+    try {
+      file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+      recording.dump(file);
+      long size = Files.size(file);
+      InputStream dump = Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE);
+      return new WebEndpointResponse<>(new DumpResource(dump, size));
+    } catch (IOException e) {
+      deleteQuietly(file, e);
+      throw new UncheckedIOException(e);
+    } catch (RuntimeException e) {
+      deleteQuietly(file, e);
+      throw e;
+    }
+  }
+
+  /** Closes the recording and deletes what it holds. */
+  @PreDestroy
+  public synchronized void close() {
+    if (recording != null) {
+      recording.close();
+      recording = null;
+    }
+  }
+
+  private static void deleteQuietly(Path file, Exception failure) {
+    if (file == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      failure.addSuppressed(e);
+    }
+  }
+
+  private static Configuration configuration(String settings) {
+    try {
+      return Configuration.getConfiguration(settings);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (ParseException e) {
+      throw new IllegalStateException("Invalid JFR settings: " + settings, e);
+    }
+  }
+
+  private static Duration bounded(Duration requested, Duration limit) {
+    return requested == null || requested.compareTo(limit) > 0 ? limit : requested;
+  }
+
+  private static DataSize bounded(DataSize requested, DataSize limit) {
+    return requested == null || requested.compareTo(limit) > 0 ? limit : requested;
+  }
+
+  /**
+   * Description of the flight recording.
+   *
+   * @param name the name of the recording
+   * @param state the JFR recording state, NONE if no recording was started
+   * @param startTime when the recording started, null if it did not
+   * @param maxAge the maximum age of the events it keeps
+   * @param maxSizeBytes the maximum size of the events it keeps
+   * @param sizeBytes the size of the events written to disk so far
+   */
+  public record RecordingDescriptor(
+      String name,
+      String state,
+      Instant startTime,
+      Duration maxAge,
+      long maxSizeBytes,
+      long sizeBytes) {
+
+    static RecordingDescriptor of(Recording recording) {
+      if (recording == null) {
+        return new RecordingDescriptor(RECORDING_NAME, "NONE", null, null, 0, 0);
+      }
+      return new RecordingDescriptor(
+          recording.getName(),
+          recording.getState().name(),
+          recording.getStartTime(),
+          recording.getMaxAge(),
+          recording.getMaxSize(),
+          recording.getSize());
+    }
+  }
+
+  // an already opened dump, streamed once with its size as the content length
+  private static final class DumpResource extends InputStreamResource {
+
+    private final long size;
+
+    DumpResource(InputStream dump, long size) {
+      super(dump, "flight recording dump");
+      this.size = size;
+    }
+
+    @Override
+    public long contentLength() {
+      return size;
+    }
+  }
+}
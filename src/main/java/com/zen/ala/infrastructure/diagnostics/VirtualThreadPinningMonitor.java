@@ -0,0 +1,102 @@
+package com.zen.ala.infrastructure.diagnostics;
+
+import com.zen.ala.infrastructure.config.VirtualThreadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier thread.
+ *
+ * <p>A virtual thread that blocks inside a {@code synchronized} block or a native frame keeps its
+ * carrier, as JDBC drivers and connection pools guarding their state with monitors do. The monitor
+ * streams the {@code jdk.VirtualThreadPinned} JFR events above {@code
+ * catalog.virtual-threads.pinned-threshold}, records their durations in the {@code
+ * jvm.threads.virtual.pinned} timer and logs the stack of every distinct pinning site once.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+  private static final int MAX_REPORTED_SITES = 1000;
+  private static final int SITE_FRAMES = 12;
+
+  private final Duration threshold;
+  private final Timer pinned;
+  private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+  private RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(VirtualThreadProperties properties, MeterRegistry registry) {
+    this.threshold = properties.getPinnedThreshold();
+    this.pinned =
+        Timer.builder("jvm.threads.virtual.pinned")
+            .description("Time virtual threads spent blocked while pinned to their carrier")
+            .register(registry);
+  }
+
+  @Override
+  public synchronized void start() {
+    stream = new RecordingStream();
+    stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    stream.onEvent(PINNED_EVENT, this::onPinned);
+    stream.startAsync();
+  }
+
+  @Override
+  public synchronized void stop() {
+    stream.close();
+    stream = null;
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return stream != null;
+  }
+
+  private void onPinned(RecordedEvent event) {
+    pinned.record(event.getDuration());
+    String site = site(event.getStackTrace());
+    if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+      log.warn(
+          "Virtual thread pinned for {} ms at{}{}",
+          event.getDuration().toMillis(),
+          System.lineSeparator(),
+          site);
+    }
+  }
+
+  private static String site(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return "\tunknown";
+    }
+    List<RecordedFrame> frames = stackTrace.getFrames();
+    return frames.stream()
+        .limit(SITE_FRAMES)
+        .map(
+            frame ->
+                "\tat "
+                    + frame.getMethod().getType().getName()
+                    + "."
+                    + frame.getMethod().getName()
+                    + ":"
+                    + frame.getLineNumber())
+        .collect(Collectors.joining(System.lineSeparator()));
+  }
+}
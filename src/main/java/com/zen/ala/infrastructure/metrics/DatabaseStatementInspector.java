@@ -0,0 +1,19 @@
+package com.zen.ala.infrastructure.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector that counts every SQL statement as {@link DatabaseWork} queries or
+ * updates.
+ *
+ * <p>Registered through {@code hibernate.session_factory.statement_inspector}. The SQL is returned
+ * unchanged.
+ */
+public class DatabaseStatementInspector implements StatementInspector {
+
+  @Override
+  public String inspect(String sql) {
+    DatabaseWork.statement(sql);
+    return sql;
+  }
+}
@@ -0,0 +1,156 @@
+package com.zen.ala.infrastructure.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Database work done by the current request.
+ *
+ * <p>{@link DatabaseWorkMetricsFilter} opens a record per request on the request thread; JDBC
+ * executions, SQL statements and mapped rows are added to the record of the calling thread, if
+ * any. The catalog export streams on the request thread, so its queries and rows are counted with
+ * the export request. Work done outside a request, or handed off to another thread, is not
+ * counted.
+ *
+ * <p>Statements are reported by {@link DatabaseStatementInspector} when Hibernate prepares them:
+ * reads count as queries, everything else as updates. A JDBC batch is prepared once, so it counts
+ * as a single update however many rows it inserts.
+ */
+public final class DatabaseWork {
+
+  private static final ThreadLocal<DatabaseWork> CURRENT = new ThreadLocal<>();
+
+  private long roundTrips;
+  private long queries;
+  private long updates;
+  private long rowsMapped;
+
+  // only kept by records opened with beginWithStatements()
+  private final List<String> statements;
+
+  private DatabaseWork(List<String> statements) {
+    this.statements = statements;
+  }
+
+  /**
+   * Opens a record of the database work of the calling thread.
+   *
+   * @return the record, to be closed with {@link #end()}
+   */
+  public static DatabaseWork begin() {
+    return begin(null);
+  }
+
+  /**
+   * Opens a record of the database work of the calling thread that also keeps the SQL of every
+   * statement, to explain unexpected counts in tests.
+   *
+   * @return the record, to be closed with {@link #end()}
+   */
+  public static DatabaseWork beginWithStatements() {
+    return begin(new ArrayList<>());
+  }
+
+  private static DatabaseWork begin(List<String> statements) {
+    DatabaseWork work = new DatabaseWork(statements);
+    CURRENT.set(work);
+    return work;
+  }
+
+  /**
+   * Returns the record of the calling thread.
+   *
+   * @return the open record, or null outside of one
+   */
+  public static DatabaseWork current() {
+    return CURRENT.get();
+  }
+
+  /** Stops recording the database work of the calling thread. */
+  public void end() {
+    if (CURRENT.get() == this) {
+      CURRENT.remove();
+    }
+  }
+
+  /** Counts a statement or batch sent to the database by the calling thread. */
+  public static void roundTrip() {
+    DatabaseWork work = CURRENT.get();
+    if (work != null) {
+      work.roundTrips++;
+    }
+  }
+
+  /**
+   * Counts a SQL statement prepared by the calling thread as a query or an update.
+   *
+   * @param sql the SQL of the statement
+   */
+  public static void statement(String sql) {
+    DatabaseWork work = CURRENT.get();
+    if (work == null) {
+      return;
+    }
+    if (isQuery(sql)) {
+      work.queries++;
+    } else {
+      work.updates++;
+    }
+    if (work.statements != null) {
+      work.statements.add(sql);
+    }
+  }
+
+  /** Counts a row mapped to a product by the calling thread. */
+  public static void rowMapped() {
+    DatabaseWork work = CURRENT.get();
+    if (work != null) {
+      work.rowsMapped++;
+    }
+  }
+
+  public long getRoundTrips() {
+    return roundTrips;
+  }
+
+  public long getQueries() {
+    return queries;
+  }
+
+  public long getUpdates() {
+    return updates;
+  }
+
+  public long getRowsMapped() {
+    return rowsMapped;
+  }
+
+  /**
+   * Returns the SQL of the statements counted so far.
+   *
+   * @return the statements in execution order, empty unless opened with {@link
+   *     #beginWithStatements()}
+   */
+  public List<String> getStatements() {
+    return statements == null ? List.of() : List.copyOf(statements);
+  }
+
+  // the first keyword decides, after whitespace and the comments hibernate.use_sql_comments adds
+  static boolean isQuery(String sql) {
+    int i = 0;
+    int length = sql.length();
+    while (i < length) {
+      if (Character.isWhitespace(sql.charAt(i))) {
+        i++;
+      } else if (sql.startsWith("/*", i)) {
+        int end = sql.indexOf("*/", i + 2);
+        i = end < 0 ? length : end + 2;
+      } else {
+        break;
+      }
+    }
+    return sql.regionMatches(true, i, "select", 0, 6)
+        || sql.regionMatches(true, i, "with", 0, 4)
+        || sql.regionMatches(true, i, "values", 0, 6);
+  }
+}
@@ -0,0 +1,57 @@
+package com.zen.ala.infrastructure.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Reports the {@link DatabaseWork} of a request in the {@value #HEADER} response header, e.g.
+ * {@code queries=1, updates=0, rows=1}.
+ *
+ * <p>Meant for non-production environments and off unless {@code catalog.metrics.database-header}
+ * is set. The header is added right before the response body is written, so it covers the work
+ * of the handler but not the work of streamed bodies such as the catalog export.
+ */
+@ControllerAdvice
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "catalog.metrics", name = "database-header")
+public class DatabaseWorkHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+  public static final String HEADER = "X-Database-Work";
+
+  @Override
+  public boolean supports(
+      MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+    return true;
+  }
+
+  @Override
+  public Object beforeBodyWrite(
+      Object body,
+      MethodParameter returnType,
+      MediaType selectedContentType,
+      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      ServerHttpRequest request,
+      ServerHttpResponse response) {
+    DatabaseWork work = DatabaseWork.current();
+    if (work != null) {
+      response
+          .getHeaders()
+          .set(
+              HEADER,
+              "queries="
+                  + work.getQueries()
+                  + ", updates="
+                  + work.getUpdates()
+                  + ", rows="
+                  + work.getRowsMapped());
+    }
+    return body;
+  }
+}
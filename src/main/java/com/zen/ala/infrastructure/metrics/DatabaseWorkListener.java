@@ -0,0 +1,22 @@
+package com.zen.ala.infrastructure.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener that counts JDBC executions as {@link DatabaseWork} round trips.
+ *
+ * <p>Hibernate creates one listener per session through {@code hibernate.session.events.auto}. A
+ * JDBC batch counts as a single round trip, however many statements it holds.
+ */
+public class DatabaseWorkListener implements SessionEventListener {
+
+  @Override
+  public void jdbcExecuteStatementEnd() {
+    DatabaseWork.roundTrip();
+  }
+
+  @Override
+  public void jdbcExecuteBatchEnd() {
+    DatabaseWork.roundTrip();
+  }
+}
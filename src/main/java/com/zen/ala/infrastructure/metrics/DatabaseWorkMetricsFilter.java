@@ -0,0 +1,106 @@
+package com.zen.ala.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records the {@link DatabaseWork} of every request.
+ *
+ * <p>The number of JDBC round trips, SQL queries and updates and rows mapped to products are
+ * published as the {@code catalog.request.db.round.trips}, {@code catalog.request.db.queries},
+ * {@code catalog.request.db.updates} and {@code catalog.request.db.rows.mapped} distribution
+ * summaries, tagged with the HTTP method and the matched URI pattern like {@code
+ * http.server.requests}. Methods other than the standard HTTP ones are tagged {@code UNKNOWN}, so
+ * clients cannot grow the number of meters. The summaries are registered once per method and URI
+ * pattern, so a request only records its values.
+ */
+public class DatabaseWorkMetricsFilter extends OncePerRequestFilter {
+
+  static final String ROUND_TRIPS = "catalog.request.db.round.trips";
+  static final String QUERIES = "catalog.request.db.queries";
+  static final String UPDATES = "catalog.request.db.updates";
+  static final String ROWS_MAPPED = "catalog.request.db.rows.mapped";
+
+  private static final String UNKNOWN = "UNKNOWN";
+
+  private static final Set<String> KNOWN_METHODS =
+      Set.copyOf(Arrays.stream(HttpMethod.values()).map(HttpMethod::name).toList());
+
+  private final MeterRegistry registry;
+
+  // keyed by URI pattern, then method, so a lookup does not build a key per request
+  private final Map<String, Map<String, Meters>> meters = new ConcurrentHashMap<>();
+
+  public DatabaseWorkMetricsFilter(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    DatabaseWork work = DatabaseWork.begin();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      work.end();
+      record(request, work);
+    }
+  }
+
+  private void record(HttpServletRequest request, DatabaseWork work) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String uri = pattern == null ? UNKNOWN : pattern.toString();
+    String method = KNOWN_METHODS.contains(request.getMethod()) ? request.getMethod() : UNKNOWN;
+    Meters requestMeters = meters(method, uri);
+    requestMeters.roundTrips().record(work.getRoundTrips());
+    requestMeters.queries().record(work.getQueries());
+    requestMeters.updates().record(work.getUpdates());
+    requestMeters.rowsMapped().record(work.getRowsMapped());
+  }
+
+  // plain gets first, the capturing lambdas are only created for a new method and URI pattern
+  private Meters meters(String method, String uri) {
+    Map<String, Meters> byMethod = meters.get(uri);
+    if (byMethod == null) {
+      byMethod = meters.computeIfAbsent(uri, key -> new ConcurrentHashMap<>());
+    }
+    Meters found = byMethod.get(method);
+    return found != null ? found : byMethod.computeIfAbsent(method, key -> register(key, uri));
+  }
+
+  private Meters register(String method, String uri) {
+    Tags tags = Tags.of("method", method, "uri", uri);
+    return new Meters(
+        summary(ROUND_TRIPS, "JDBC statements and batches executed per request", tags),
+        summary(QUERIES, "SQL queries prepared per request", tags),
+        summary(UPDATES, "SQL inserts, updates and deletes prepared per request", tags),
+        summary(ROWS_MAPPED, "Database rows mapped to products per request", tags));
+  }
+
+  private DistributionSummary summary(String name, String description, Tags tags) {
+    return DistributionSummary.builder(name)
+        .description(description)
+        .tags(tags)
+        .register(registry);
+  }
+
+  private record Meters(
+      DistributionSummary roundTrips,
+      DistributionSummary queries,
+      DistributionSummary updates,
+      DistributionSummary rowsMapped) {}
+}
@@ -0,0 +1,256 @@
+package com.zen.ala.infrastructure.metrics;
+
+import com.zen.ala.domain.model.PriceQuote;
+import com.zen.ala.domain.model.PriceQuoteRequest;
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.domain.model.ProductImportResult;
+import com.zen.ala.domain.model.ProductImportRow;
+import com.zen.ala.domain.model.ProductLookup;
+import com.zen.ala.domain.model.ProductPage;
+import com.zen.ala.domain.port.in.ProductInboundPort;
+import com.zen.ala.domain.service.discount.dict.DiscountPolicy;
+import com.zen.ala.domain.service.discount.dict.DiscountType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * ProductInboundPort decorator that times every call and counts price quotes.
+ *
+ * <p>Each method records its duration, failed calls included, in the {@code catalog.port.inbound}
+ * timer tagged with its name. Every priced line is counted in {@code catalog.pricing.quotes}
+ * tagged with its {@code discount.type} and {@code discount.policy}, or with {@code INVALID} for
+ * both when the strategy cannot be resolved. All meters are registered up front, so a call only
+ * reads the clock twice and updates a meter, without building tags or looking meters up.
+ */
+public class MeteredProductInboundPort implements ProductInboundPort {
+
+  static final String QUOTES = "catalog.pricing.quotes";
+  static final String INVALID = "INVALID";
+
+  private final ProductInboundPort delegate;
+
+  private final Timer getProductById;
+  private final Timer getProductPrice;
+  private final Timer getKnownProductVersion;
+  private final Timer getCatalogVersion;
+  private final Timer getProductsByIds;
+  private final Timer getAllProducts;
+  private final Timer getProductPage;
+  private final Timer exportProducts;
+  private final Timer saveProduct;
+  private final Timer importProducts;
+  private final Timer updateProduct;
+  private final Timer deleteProduct;
+  private final Timer calculateDiscountedPrice;
+  private final Timer calculateDiscountedPrices;
+
+  // discount type name -> discount policy name -> counter, resolved without exceptions
+  private final Map<String, Map<String, Counter>> quotes;
+  private final Counter invalidQuotes;
+
+  public MeteredProductInboundPort(ProductInboundPort delegate, MeterRegistry registry) {
+    this.delegate = delegate;
+
+    PortTimers timers =
+        new PortTimers(registry, PortTimers.INBOUND, "Time spent in product inbound port calls");
+    this.getProductById = timers.timer("getProductById");
+    this.getProductPrice = timers.timer("getProductPrice");
+    this.getKnownProductVersion = timers.timer("getKnownProductVersion");
+    this.getCatalogVersion = timers.timer("getCatalogVersion");
+    this.getProductsByIds = timers.timer("getProductsByIds");
+    this.getAllProducts = timers.timer("getAllProducts");
+    this.getProductPage = timers.timer("getProductPage");
+    this.exportProducts = timers.timer("exportProducts");
+    this.saveProduct = timers.timer("saveProduct");
+    this.importProducts = timers.timer("importProducts");
+    this.updateProduct = timers.timer("updateProduct");
+    this.deleteProduct = timers.timer("deleteProduct");
+    this.calculateDiscountedPrice = timers.timer("calculateDiscountedPrice");
+    this.calculateDiscountedPrices = timers.timer("calculateDiscountedPrices");
+
+    Map<String, Map<String, Counter>> byType = new HashMap<>();
+    for (DiscountType type : DiscountType.values()) {
+      Map<String, Counter> byPolicy = new HashMap<>();
+      for (DiscountPolicy policy : DiscountPolicy.values()) {
+        byPolicy.put(policy.name(), quoteCounter(registry, type.name(), policy.name()));
+      }
+      byType.put(type.name(), Map.copyOf(byPolicy));
+    }
+    this.quotes = Map.copyOf(byType);
+    this.invalidQuotes = quoteCounter(registry, INVALID, INVALID);
+  }
+
+  @Override
+  public Product getProductById(UUID id) {
+    long start = System.nanoTime();
+    try {
+      return delegate.getProductById(id);
+    } finally {
+      record(getProductById, start);
+    }
+  }
+
+  @Override
+  public BigDecimal getProductPrice(UUID id) {
+    long start = System.nanoTime();
+    try {
+      return delegate.getProductPrice(id);
+    } finally {
+      record(getProductPrice, start);
+    }
+  }
+
+  @Override
+  public Long getKnownProductVersion(UUID id) {
+    long start = System.nanoTime();
+    try {
+      return delegate.getKnownProductVersion(id);
+    } finally {
+      record(getKnownProductVersion, start);
+    }
+  }
+
+  @Override
+  public String getCatalogVersion() {
+    long start = System.nanoTime();
+    try {
+      return delegate.getCatalogVersion();
+    } finally {
+      record(getCatalogVersion, start);
+    }
+  }
+
+  @Override
+  public ProductLookup getProductsByIds(List<UUID> ids) {
+    long start = System.nanoTime();
+    try {
+      return delegate.getProductsByIds(ids);
+    } finally {
+      record(getProductsByIds, start);
+    }
+  }
+
+  @Override
+  public List<Product> getAllProducts() {
+    long start = System.nanoTime();
+    try {
+      return delegate.getAllProducts();
+    } finally {
+      record(getAllProducts, start);
+    }
+  }
+
+  @Override
+  public ProductPage getProductPage(UUID after, int limit) {
+    long start = System.nanoTime();
+    try {
+      return delegate.getProductPage(after, limit);
+    } finally {
+      record(getProductPage, start);
+    }
+  }
+
+  @Override
+  public void exportProducts(Consumer<Product> consumer) {
+    long start = System.nanoTime();
+    try {
+      delegate.exportProducts(consumer);
+    } finally {
+      record(exportProducts, start);
+    }
+  }
+
+  @Override
+  public Product saveProduct(Product product) {
+    long start = System.nanoTime();
+    try {
+      return delegate.saveProduct(product);
+    } finally {
+      record(saveProduct, start);
+    }
+  }
+
+  @Override
+  public ProductImportResult importProducts(Iterator<ProductImportRow> rows) {
+    long start = System.nanoTime();
+    try {
+      return delegate.importProducts(rows);
+    } finally {
+      record(importProducts, start);
+    }
+  }
+
+  @Override
+  public Product updateProduct(Product product) {
+    long start = System.nanoTime();
+    try {
+      return delegate.updateProduct(product);
+    } finally {
+      record(updateProduct, start);
+    }
+  }
+
+  @Override
+  public void deleteProduct(UUID id) {
+    long start = System.nanoTime();
+    try {
+      delegate.deleteProduct(id);
+    } finally {
+      record(deleteProduct, start);
+    }
+  }
+
+  @Override
+  public BigDecimal calculateDiscountedPrice(
+      BigDecimal unitPrice, int quantity, String discountType, String discountPolicy) {
+    quoteCounter(discountType, discountPolicy).increment();
+    long start = System.nanoTime();
+    try {
+      return delegate.calculateDiscountedPrice(unitPrice, quantity, discountType, discountPolicy);
+    } finally {
+      record(calculateDiscountedPrice, start);
+    }
+  }
+
+  @Override
+  public List<PriceQuote> calculateDiscountedPrices(List<PriceQuoteRequest> requests) {
+    for (PriceQuoteRequest request : requests) {
+      quoteCounter(request.discountType(), request.discountPolicy()).increment();
+    }
+    long start = System.nanoTime();
+    try {
+      return delegate.calculateDiscountedPrices(requests);
+    } finally {
+      record(calculateDiscountedPrices, start);
+    }
+  }
+
+  private Counter quoteCounter(String discountType, String discountPolicy) {
+    // the immutable maps reject null keys, so nulls are resolved to the invalid counter first
+    Map<String, Counter> byPolicy = discountType == null ? null : quotes.get(discountType);
+    Counter counter =
+        byPolicy == null || discountPolicy == null ? null : byPolicy.get(discountPolicy);
+    return counter == null ? invalidQuotes : counter;
+  }
+
+  private static Counter quoteCounter(MeterRegistry registry, String type, String policy) {
+    return Counter.builder(QUOTES)
+        .description("Price quotes by discount strategy")
+        .tag("discount.type", type)
+        .tag("discount.policy", policy)
+        .register(registry);
+  }
+
+  private static void record(Timer timer, long start) {
+    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,181 @@
+package com.zen.ala.infrastructure.metrics;
+
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.domain.port.out.ProductOutboundPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * ProductOutboundPort decorator that times every call.
+ *
+ * <p>Each method records its duration, failed calls included, in the {@code catalog.port.outbound}
+ * timer tagged with its name. The timers are registered up front, like those of {@link
+ * MeteredProductInboundPort}.
+ */
+public class MeteredProductOutboundPort implements ProductOutboundPort {
+
+  private final ProductOutboundPort delegate;
+
+  private final Timer findProductById;
+  private final Timer findPriceById;
+  private final Timer findKnownVersion;
+  private final Timer findCatalogVersion;
+  private final Timer findProductsByIds;
+  private final Timer findAllProducts;
+  private final Timer findProductsAfter;
+  private final Timer forEachProduct;
+  private final Timer saveProduct;
+  private final Timer saveProducts;
+  private final Timer updateProduct;
+  private final Timer deleteProduct;
+
+  public MeteredProductOutboundPort(ProductOutboundPort delegate, MeterRegistry registry) {
+    this.delegate = delegate;
+
+    PortTimers timers =
+        new PortTimers(registry, PortTimers.OUTBOUND, "Time spent in product outbound port calls");
+    this.findProductById = timers.timer("findProductById");
+    this.findPriceById = timers.timer("findPriceById");
+    this.findKnownVersion = timers.timer("findKnownVersion");
+    this.findCatalogVersion = timers.timer("findCatalogVersion");
+    this.findProductsByIds = timers.timer("findProductsByIds");
+    this.findAllProducts = timers.timer("findAllProducts");
+    this.findProductsAfter = timers.timer("findProductsAfter");
+    this.forEachProduct = timers.timer("forEachProduct");
+    this.saveProduct = timers.timer("saveProduct");
+    this.saveProducts = timers.timer("saveProducts");
+    this.updateProduct = timers.timer("updateProduct");
+    this.deleteProduct = timers.timer("deleteProduct");
+  }
+
+  @Override
+  public Product findProductById(UUID id) {
+    long start = System.nanoTime();
+    try {
+      return delegate.findProductById(id);
+    } finally {
+      record(findProductById, start);
+    }
+  }
+
+  @Override
+  public BigDecimal findPriceById(UUID id) {
+    long start = System.nanoTime();
+    try {
+      return delegate.findPriceById(id);
+    } finally {
+      record(findPriceById, start);
+    }
+  }
+
+  @Override
+  public Long findKnownVersion(UUID id) {
+    long start = System.nanoTime();
+    try {
+      return delegate.findKnownVersion(id);
+    } finally {
+      record(findKnownVersion, start);
+    }
+  }
+
+  @Override
+  public String findCatalogVersion() {
+    long start = System.nanoTime();
+    try {
+      return delegate.findCatalogVersion();
+    } finally {
+      record(findCatalogVersion, start);
+    }
+  }
+
+  @Override
+  public List<Product> findProductsByIds(Collection<UUID> ids) {
+    long start = System.nanoTime();
+    try {
+      return delegate.findProductsByIds(ids);
+    } finally {
+      record(findProductsByIds, start);
+    }
+  }
+
+  @Override
+  public List<Product> findAllProducts() {
+    long start = System.nanoTime();
+    try {
+      return delegate.findAllProducts();
+    } finally {
+      record(findAllProducts, start);
+    }
+  }
+
+  @Override
+  public List<Product> findProductsAfter(UUID after, int limit) {
+    long start = System.nanoTime();
+    try {
+      return delegate.findProductsAfter(after, limit);
+    } finally {
+      record(findProductsAfter, start);
+    }
+  }
+
+  @Override
+  public void forEachProduct(Consumer<Product> consumer) {
+    long start = System.nanoTime();
+    try {
+      delegate.forEachProduct(consumer);
+    } finally {
+      record(forEachProduct, start);
+    }
+  }
+
+  @Override
+  public Product saveProduct(Product product) {
+    long start = System.nanoTime();
+    try {
+      return delegate.saveProduct(product);
+    } finally {
+      record(saveProduct, start);
+    }
+  }
+
+  @Override
+  public Map<UUID, String> saveProducts(List<Product> products) {
+    long start = System.nanoTime();
+    try {
+      return delegate.saveProducts(products);
+    } finally {
+      record(saveProducts, start);
+    }
+  }
+
+  @Override
+  public Product updateProduct(Product product) {
+    long start = System.nanoTime();
+    try {
+      return delegate.updateProduct(product);
+    } finally {
+      record(updateProduct, start);
+    }
+  }
+
+  @Override
+  public void deleteProduct(UUID id) {
+    long start = System.nanoTime();
+    try {
+      delegate.deleteProduct(id);
+    } finally {
+      record(deleteProduct, start);
+    }
+  }
+
+  private static void record(Timer timer, long start) {
+    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+  }
+}
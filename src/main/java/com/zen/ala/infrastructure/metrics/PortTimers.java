@@ -0,0 +1,35 @@
+package com.zen.ala.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/** Registers the per-method timers of a port decorator. */
+final class PortTimers {
+
+  static final String INBOUND = "catalog.port.inbound";
+  static final String OUTBOUND = "catalog.port.outbound";
+
+  private final MeterRegistry registry;
+  private final String name;
+  private final String description;
+
+  PortTimers(MeterRegistry registry, String name, String description) {
+    this.registry = registry;
+    this.name = name;
+    this.description = description;
+  }
+
+  /**
+   * Registers the timer of one port method, publishing a percentile histogram.
+   *
+   * @param method the name of the port method, used as the {@code method} tag
+   * @return the timer
+   */
+  Timer timer(String method) {
+    return Timer.builder(name)
+        .description(description)
+        .tag("method", method)
+        .publishPercentileHistogram()
+        .register(registry);
+  }
+}
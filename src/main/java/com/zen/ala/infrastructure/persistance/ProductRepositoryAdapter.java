@@ -1,39 +1,196 @@
 package com.zen.ala.infrastructure.persistance;
 
+import com.zen.ala.domain.error.ProductNotFoundException;
+import com.zen.ala.domain.error.ProductVersionConflictException;
 import com.zen.ala.domain.model.Product;
 import com.zen.ala.domain.port.out.ProductOutboundPort;
+import com.zen.ala.infrastructure.persistance.cache.ProductCache;
+import com.zen.ala.infrastructure.persistance.cache.ProductVersionTracker;
+import com.zen.ala.infrastructure.persistance.entity.ProductEntity;
+import com.zen.ala.infrastructure.persistance.filter.ProductIdFilter;
 import com.zen.ala.infrastructure.persistance.mapper.ProductEntityMapper;
 import com.zen.ala.infrastructure.persistance.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import jdk.jfr.EventType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Adapter class that implements the ProductOutboundPort interface and interacts with the
  * ProductRepository to perform CRUD operations on Product entities.
+ *
+ * <p>Single product reads go through the {@link ProductCache}; every write refreshes or invalidates
+ * the cached entry. Ids the {@link ProductIdFilter} rejects are reported as not found without a
+ * database query. Concurrent reads of the same product share one database query through the
+ * cache, and concurrent price misses share one through a {@link SingleFlight}; neither holds a
+ * lock during the query. The {@link ProductVersionTracker} is told about every write and every
+ * product read, so conditional requests can be answered without a query.
+ *
+ * <p>While a flight recording has it enabled, every call emits a {@link ProductRepositoryEvent}
+ * with its rows and cache hits and misses.
  */
 @Component
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class ProductRepositoryAdapter implements ProductOutboundPort {
 
+  // entities are detached in batches while streaming so the persistence context stays small
+  private static final int STREAM_CLEAR_INTERVAL = 1000;
+
+  // bind parameters per IN query, within the limits of every supported database (Oracle caps IN
+  // lists at 1000, Postgres a statement at 65535 parameters)
+  static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+  private static final EventType REPOSITORY_CALL =
+      EventType.getEventType(ProductRepositoryEvent.class);
+
   private final ProductRepository productRepository;
   private final ProductEntityMapper productEntityMapper;
+  private final ProductCache productCache;
+  private final ProductIdFilter productIdFilter;
+  private final ProductVersionTracker productVersions;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+
+  private final SingleFlight<UUID, BigDecimal> priceLoads = new SingleFlight<>();
 
   /**
    * Finds a product by its ID.
    *
    * @param id the UUID of the product
    * @return the Product object if found
-   * @throws IllegalArgumentException if the product is not found
+   * @throws ProductNotFoundException if the product is not found
    */
   @Override
   public Product findProductById(UUID id) {
-    return productRepository
-        .findById(id)
-        .map(productEntityMapper::toDomain)
-        .orElseThrow(() -> new IllegalArgumentException("Product not found"));
+    return recorded(
+        "findProductById",
+        event -> {
+          requireKnownId(id);
+          long stamp = productVersions.stamp();
+          Product product =
+              productCache.get(
+                  id,
+                  key -> {
+                    ProductRepositoryEvent.cacheMisses(event, 1);
+                    return loadProduct(key);
+                  });
+          productVersions.loaded(id, product.getVersion(), stamp);
+          ProductRepositoryEvent.cacheLookups(event, 1);
+          ProductRepositoryEvent.rows(event, 1);
+          return product;
+        });
+  }
+
+  /**
+   * Finds the latest known version of a product without a database query.
+   *
+   * @param id the UUID of the product
+   * @return the version, or null if it is not known
+   */
+  @Override
+  public Long findKnownVersion(UUID id) {
+    return recorded("findKnownVersion", event -> productVersions.getVersion(id));
+  }
+
+  /**
+   * Finds the version of the whole catalog without a database query.
+   *
+   * @return an opaque token that changes with every write
+   */
+  @Override
+  public String findCatalogVersion() {
+    return recorded("findCatalogVersion", event -> productVersions.getCatalogVersion());
+  }
+
+  /**
+   * Finds the price of a product.
+   *
+   * <p>Served from the {@link ProductCache} when the product is cached, otherwise by a projection
+   * query that selects the price column only and leaves nothing in the persistence context.
+   *
+   * @param id the UUID of the product
+   * @return the price of the product
+   * @throws ProductNotFoundException if the product does not exist
+   */
+  @Override
+  public BigDecimal findPriceById(UUID id) {
+    return recorded(
+        "findPriceById",
+        event -> {
+          requireKnownId(id);
+          BigDecimal price = productCache.getPriceIfPresent(id);
+          if (price != null) {
+            ProductRepositoryEvent.cacheLookups(event, 1);
+          } else {
+            ProductRepositoryEvent.cacheMisses(event, 1);
+            price =
+                priceLoads.load(
+                    id,
+                    key ->
+                        productRepository
+                            .findPriceById(key)
+                            .orElseThrow(() -> new ProductNotFoundException(key)));
+          }
+          ProductRepositoryEvent.rows(event, 1);
+          return price;
+        });
+  }
+
+  /**
+   * Finds products by their IDs.
+   *
+   * <p>Cached products are served from the {@link ProductCache}; only the misses go to the
+   * database, in {@code IN} queries of at most {@value #IN_CLAUSE_CHUNK_SIZE} ids. Ids the {@link
+   * ProductIdFilter} rejects are skipped up front.
+   *
+   * @param ids the UUIDs of the products
+   * @return the found Product objects, IDs that do not exist are skipped
+   */
+  @Override
+  public List<Product> findProductsByIds(Collection<UUID> ids) {
+    return recorded(
+        "findProductsByIds",
+        event -> {
+          List<UUID> knownIds = new ArrayList<>(ids.size());
+          for (UUID id : ids) {
+            if (productIdFilter.mightContain(id)) {
+              knownIds.add(id);
+            }
+          }
+          if (knownIds.isEmpty()) {
+            return List.of();
+          }
+          long stamp = productVersions.stamp();
+          Map<UUID, Product> products =
+              productCache.getAll(
+                  knownIds,
+                  missingIds -> {
+                    ProductRepositoryEvent.cacheMisses(event, missingIds.size());
+                    return loadProducts(missingIds);
+                  });
+          ProductRepositoryEvent.cacheLookups(event, knownIds.size());
+          ProductRepositoryEvent.rows(event, products.size());
+          return track(List.copyOf(products.values()), stamp);
+        });
   }
 
   /**
@@ -43,7 +200,68 @@ public class ProductRepositoryAdapter implements ProductOutboundPort {
    */
   @Override
   public List<Product> findAllProducts() {
-    return productRepository.findAll().stream().map(productEntityMapper::toDomain).toList();
+    return recorded(
+        "findAllProducts",
+        event -> {
+          List<Product> products =
+              productRepository.findAll().stream().map(productEntityMapper::toDomain).toList();
+          ProductRepositoryEvent.rows(event, products.size());
+          return products;
+        });
+  }
+
+  /**
+   * Finds a page of products in primary key order.
+   *
+   * <p>Uses a keyset condition on the primary key instead of an offset, so deep pages cost the same
+   * index range scan as the first one.
+   *
+   * @param after the UUID to continue after, null for the first page
+   * @param limit the maximum number of products
+   * @return a list of Product objects
+   */
+  @Override
+  public List<Product> findProductsAfter(UUID after, int limit) {
+    return recorded(
+        "findProductsAfter",
+        event -> {
+          long stamp = productVersions.stamp();
+          List<ProductEntity> entities =
+              after == null
+                  ? productRepository.findAllByOrderByIdAsc(Limit.of(limit))
+                  : productRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit));
+          ProductRepositoryEvent.rows(event, entities.size());
+          return track(entities.stream().map(productEntityMapper::toDomain).toList(), stamp);
+        });
+  }
+
+  /**
+   * Streams all products through a database cursor.
+   *
+   * <p>The persistence context is cleared every {@value #STREAM_CLEAR_INTERVAL} rows, so memory
+   * stays flat regardless of the catalog size.
+   *
+   * @param consumer receives every product once
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public void forEachProduct(Consumer<Product> consumer) {
+    recordedVoid(
+        "forEachProduct",
+        event -> {
+          int count = 0;
+          try (Stream<ProductEntity> entities = productRepository.streamAll()) {
+            Iterator<ProductEntity> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+              consumer.accept(productEntityMapper.toDomain(iterator.next()));
+              if (++count % STREAM_CLEAR_INTERVAL == 0) {
+                entityManager.clear();
+              }
+            }
+          } finally {
+            ProductRepositoryEvent.rows(event, count);
+          }
+        });
   }
 
   /**
@@ -54,31 +272,202 @@ public class ProductRepositoryAdapter implements ProductOutboundPort {
    */
   @Override
   public Product saveProduct(Product product) {
-    return Optional.of(productRepository.save(productEntityMapper.toEntity(product)))
-        .map(productEntityMapper::toDomain)
-        .orElseThrow(() -> new IllegalArgumentException("Product not saved"));
+    return recorded(
+        "saveProduct",
+        event -> {
+          productIdFilter.add(product.getId());
+          Product saved =
+              Optional.of(productRepository.save(productEntityMapper.toEntity(product)))
+                  .map(productEntityMapper::toDomain)
+                  .orElseThrow(() -> new IllegalArgumentException("Product not saved"));
+          productIdFilter.committed(List.of(saved.getId()));
+          productCache.put(saved);
+          productVersions.written(saved.getId(), saved.getVersion());
+          ProductRepositoryEvent.rows(event, 1);
+          return saved;
+        });
   }
 
   /**
-   * Updates an existing product.
+   * Saves many new products in a single transaction.
+   *
+   * <p>Entities are persisted rather than merged, so no select is issued per product, and the
+   * inserts are sent as JDBC batches ({@code hibernate.jdbc.batch_size}). The persistence context
+   * is flushed and cleared before the transaction commits. If the batch fails, every product is
+   * retried in its own transaction to find the rows at fault. Saved products are not cached.
+   *
+   * @param products the new products, with their ids assigned
+   * @return the error message per id of every product that was not saved
+   */
+  @Override
+  public Map<UUID, String> saveProducts(List<Product> products) {
+    return recorded(
+        "saveProducts",
+        event -> {
+          products.forEach(product -> productIdFilter.add(product.getId()));
+          Map<UUID, String> errors = persistOrFindFailures(products);
+          productIdFilter.committed(
+              products.stream()
+                  .map(Product::getId)
+                  .filter(id -> !errors.containsKey(id))
+                  .toList());
+          productVersions.catalogChanged();
+          ProductRepositoryEvent.rows(event, products.size() - errors.size());
+          return errors;
+        });
+  }
+
+  /**
+   * Updates an existing product with a single update statement.
+   *
+   * <p>If the product carries a version, the update only applies while the stored product still
+   * has that version; otherwise the latest version is overwritten, which the API only asks for with
+   * {@code If-Match: *}. The entity is never loaded, so no select precedes the update.
    *
    * @param product the Product object to update
-   * @return the updated Product object
+   * @return the updated Product object, with its new version if the update was based on one
+   * @throws ProductVersionConflictException if the stored product has another version
+   * @throws ProductNotFoundException if the product does not exist
    */
   @Override
   public Product updateProduct(Product product) {
-    return Optional.of(productRepository.save(productEntityMapper.toEntity(product)))
-        .map(productEntityMapper::toDomain)
-        .orElseThrow(() -> new IllegalArgumentException("Product not updated"));
+    return recorded(
+        "updateProduct",
+        event -> {
+          UUID id = product.getId();
+          requireKnownId(id);
+          Long version = product.getVersion();
+          int updated =
+              version == null
+                  ? productRepository.update(id, product.getName(), product.getPrice())
+                  : productRepository.updateIfVersionMatches(
+                      id, product.getName(), product.getPrice(), version);
+          productCache.invalidate(id);
+          ProductRepositoryEvent.rows(event, updated);
+
+          if (updated == 0) {
+            // only the failure path pays for telling a stale version from a missing product
+            if (version != null && productRepository.existsById(id)) {
+              throw new ProductVersionConflictException(id, version);
+            }
+            throw new ProductNotFoundException(id);
+          }
+          Long newVersion = version == null ? null : version + 1;
+          productVersions.written(id, newVersion);
+          return new Product(id, product.getName(), product.getPrice(), newVersion);
+        });
   }
 
   /**
-   * Deletes a product by its ID.
+   * Deletes a product by its ID with a single delete statement.
    *
    * @param id the UUID of the product to delete
    */
   @Override
   public void deleteProduct(UUID id) {
-    productRepository.deleteById(id);
+    recordedVoid(
+        "deleteProduct",
+        event -> {
+          ProductRepositoryEvent.rows(event, productRepository.deleteProductById(id));
+          productCache.invalidate(id);
+          productVersions.deleted(id);
+          productIdFilter.remove(id);
+        });
+  }
+
+  // runs a call inside a ProductRepositoryEvent, or with a null event while no recording has the
+  // event enabled, so calls outside a recording create no event
+  private static <T> T recorded(String operation, Function<ProductRepositoryEvent, T> call) {
+    if (!REPOSITORY_CALL.isEnabled()) {
+      return call.apply(null);
+    }
+    ProductRepositoryEvent event = new ProductRepositoryEvent(operation);
+    event.begin();
+    try {
+      return call.apply(event);
+    } finally {
+      event.commit();
+    }
+  }
+
+  private static void recordedVoid(String operation, Consumer<ProductRepositoryEvent> call) {
+    recorded(
+        operation,
+        event -> {
+          call.accept(event);
+          return null;
+        });
+  }
+
+  private void requireKnownId(UUID id) {
+    if (!productIdFilter.mightContain(id)) {
+      throw new ProductNotFoundException(id);
+    }
+  }
+
+  private List<Product> track(List<Product> products, long stamp) {
+    for (Product product : products) {
+      productVersions.loaded(product.getId(), product.getVersion(), stamp);
+    }
+    return products;
+  }
+
+  // one batch for all products, or one transaction per product to find the rows at fault
+  private Map<UUID, String> persistOrFindFailures(List<Product> products) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> persist(products));
+      return Map.of();
+    } catch (RuntimeException batchFailure) {
+      Map<UUID, String> errors = new HashMap<>();
+      for (Product product : products) {
+        try {
+          transactionTemplate.executeWithoutResult(status -> persist(List.of(product)));
+        } catch (RuntimeException e) {
+          errors.put(product.getId(), saveError(e));
+        }
+      }
+      return errors;
+    }
+  }
+
+  private void persist(List<Product> products) {
+    for (Product product : products) {
+      entityManager.persist(productEntityMapper.toEntity(product));
+    }
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  private static String saveError(RuntimeException e) {
+    return "Product not saved: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+  }
+
+  private Map<UUID, Product> loadProducts(Set<UUID> ids) {
+    Map<UUID, Product> products = new HashMap<>(ids.size() * 2);
+    List<UUID> chunk = new ArrayList<>(Math.min(ids.size(), IN_CLAUSE_CHUNK_SIZE));
+    for (UUID id : ids) {
+      chunk.add(id);
+      if (chunk.size() == IN_CLAUSE_CHUNK_SIZE) {
+        loadChunk(chunk, products);
+        chunk.clear();
+      }
+    }
+    if (!chunk.isEmpty()) {
+      loadChunk(chunk, products);
+    }
+    return products;
+  }
+
+  private void loadChunk(List<UUID> ids, Map<UUID, Product> products) {
+    for (ProductEntity entity : productRepository.findAllById(ids)) {
+      products.put(entity.getId(), productEntityMapper.toDomain(entity));
+    }
+  }
+
+  private Product loadProduct(UUID id) {
+    return productRepository
+        .findById(id)
+        .map(productEntityMapper::toDomain)
+        .orElseThrow(() -> new ProductNotFoundException(id));
   }
 }
@@ -0,0 +1,59 @@
+package com.zen.ala.infrastructure.persistance;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of one {@link ProductRepositoryAdapter} call.
+ *
+ * <p>The adapter only creates the event while a recording has it enabled and passes null
+ * otherwise, so the helpers below accept null and do nothing on it.
+ */
+@Name(ProductRepositoryEvent.NAME)
+@Label("Product Repository Call")
+@Category({"Catalog", "Persistence"})
+@Description("Call of the product outbound port with its rows and product cache lookups")
+@StackTrace(false)
+public final class ProductRepositoryEvent extends Event {
+
+  public static final String NAME = "com.zen.ala.ProductRepository";
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Rows")
+  int rows;
+
+  @Label("Cache Hits")
+  int cacheHits;
+
+  @Label("Cache Misses")
+  int cacheMisses;
+
+  ProductRepositoryEvent(String operation) {
+    this.operation = operation;
+  }
+
+  static void rows(ProductRepositoryEvent event, int rows) {
+    if (event != null) {
+      event.rows = rows;
+    }
+  }
+
+  static void cacheMisses(ProductRepositoryEvent event, int misses) {
+    if (event != null) {
+      event.cacheMisses += misses;
+    }
+  }
+
+  // every lookup the loader was not called for was served by the cache
+  static void cacheLookups(ProductRepositoryEvent event, int lookups) {
+    if (event != null) {
+      event.cacheHits = Math.max(0, lookups - event.cacheMisses);
+    }
+  }
+}
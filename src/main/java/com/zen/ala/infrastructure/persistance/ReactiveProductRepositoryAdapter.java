@@ -0,0 +1,177 @@
+package com.zen.ala.infrastructure.persistance;
+
+import com.zen.ala.domain.error.ProductNotFoundException;
+import com.zen.ala.domain.error.ProductVersionConflictException;
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.domain.port.out.ReactiveProductOutboundPort;
+import com.zen.ala.infrastructure.persistance.entity.ProductRow;
+import com.zen.ala.infrastructure.persistance.mapper.ProductRowMapper;
+import com.zen.ala.infrastructure.persistance.repository.ReactiveProductRepository;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Adapter class that implements the ReactiveProductOutboundPort interface on top of R2DBC.
+ *
+ * <p>Active with the {@code reactive} profile in place of {@link ProductRepositoryAdapter}. Every
+ * query runs without blocking the calling thread, and streamed results are fetched from the
+ * database as the subscriber requests them.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveProductRepositoryAdapter implements ReactiveProductOutboundPort {
+
+  // rows requested from the database at a time while streaming the catalog
+  static final int STREAM_BATCH_SIZE = 256;
+
+  private final ReactiveProductRepository productRepository;
+  private final ProductRowMapper productRowMapper;
+
+  /**
+   * Finds a product by its ID.
+   *
+   * @param id the UUID of the product
+   * @return the Product object, or a ProductNotFoundException if it does not exist
+   */
+  @Override
+  public Mono<Product> findProductById(UUID id) {
+    return productRepository
+        .findById(id)
+        .map(productRowMapper::toDomain)
+        .switchIfEmpty(Mono.error(() -> new ProductNotFoundException(id)));
+  }
+
+  /**
+   * Finds the price of a product with a query that selects the price column only.
+   *
+   * @param id the UUID of the product
+   * @return the price, or a ProductNotFoundException if the product does not exist
+   */
+  @Override
+  public Mono<BigDecimal> findPriceById(UUID id) {
+    return productRepository
+        .findPriceById(id)
+        .switchIfEmpty(Mono.error(() -> new ProductNotFoundException(id)));
+  }
+
+  /**
+   * Finds products by their IDs in {@code IN} queries of at most {@value
+   * ProductRepositoryAdapter#IN_CLAUSE_CHUNK_SIZE} ids, run one after the other.
+   *
+   * @param ids the UUIDs of the products
+   * @return the found Product objects, IDs that do not exist are skipped
+   */
+  @Override
+  public Flux<Product> findProductsByIds(Collection<UUID> ids) {
+    return Flux.fromIterable(ids)
+        .buffer(ProductRepositoryAdapter.IN_CLAUSE_CHUNK_SIZE)
+        .concatMap(productRepository::findAllById)
+        .map(productRowMapper::toDomain);
+  }
+
+  /**
+   * Finds all products.
+   *
+   * <p>Rows are requested from the database in batches of {@value #STREAM_BATCH_SIZE} as the
+   * subscriber consumes them, so a slow client holds back the query instead of buffering the
+   * catalog.
+   *
+   * @return every Product object once
+   */
+  @Override
+  public Flux<Product> findAllProducts() {
+    return productRepository
+        .findAll()
+        .limitRate(STREAM_BATCH_SIZE)
+        .map(productRowMapper::toDomain);
+  }
+
+  /**
+   * Finds a page of products in primary key order.
+   *
+   * @param after the UUID to continue after, null for the first page
+   * @param limit the maximum number of products
+   * @return the Product objects
+   */
+  @Override
+  public Flux<Product> findProductsAfter(UUID after, int limit) {
+    Flux<ProductRow> rows =
+        after == null
+            ? productRepository.findFirstPage(limit)
+            : productRepository.findPageAfter(after, limit);
+    return rows.map(productRowMapper::toDomain);
+  }
+
+  /**
+   * Saves a new product.
+   *
+   * @param product the Product object to save, without a version
+   * @return the saved Product object
+   */
+  @Override
+  public Mono<Product> saveProduct(Product product) {
+    return productRepository
+        .save(productRowMapper.toRow(product))
+        .map(productRowMapper::toDomain);
+  }
+
+  /**
+   * Updates an existing product with a single update statement.
+   *
+   * @param product the Product object to update
+   * @return the updated Product object, with its new version if the update was based on one
+   * @see ProductRepositoryAdapter#updateProduct(Product)
+   */
+  @Override
+  public Mono<Product> updateProduct(Product product) {
+    UUID id = product.getId();
+    Long version = product.getVersion();
+    Mono<Integer> updated =
+        version == null
+            ? productRepository.update(id, product.getName(), product.getPrice())
+            : productRepository.updateIfVersionMatches(
+                id, product.getName(), product.getPrice(), version);
+
+    return updated.flatMap(
+        count -> {
+          if (count > 0) {
+            return Mono.just(
+                new Product(
+                    id,
+                    product.getName(),
+                    product.getPrice(),
+                    version == null ? null : version + 1));
+          }
+          if (version == null) {
+            return Mono.<Product>error(new ProductNotFoundException(id));
+          }
+          // only the failure path pays for telling a stale version from a missing product
+          return productRepository
+              .existsById(id)
+              .flatMap(
+                  exists ->
+                      Mono.<Product>error(
+                          exists
+                              ? new ProductVersionConflictException(id, version)
+                              : new ProductNotFoundException(id)));
+        });
+  }
+
+  /**
+   * Deletes a product by its ID.
+   *
+   * @param id the UUID of the product to delete
+   * @return completes once the product is deleted
+   */
+  @Override
+  public Mono<Void> deleteProduct(UUID id) {
+    return productRepository.deleteById(id);
+  }
+}
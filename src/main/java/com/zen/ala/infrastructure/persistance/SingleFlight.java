@@ -0,0 +1,81 @@
+package com.zen.ala.infrastructure.persistance;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent loads of the same key into one.
+ *
+ * <p>The first caller for a key runs the load on its own thread; callers arriving while it is in
+ * flight wait for it and receive the same result, or the same exception. The key is released as
+ * soon as the load completes, whether it succeeded or not, so later callers load afresh and
+ * nothing is retained. A caller joining a flight may receive a value read shortly before its own
+ * call started, at most one load duration old. Looking up an in-flight load is a lock-free read;
+ * registering a new one only locks the key's bin of the underlying {@link ConcurrentHashMap}.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class SingleFlight<K, V> {
+
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the result of loading the key, sharing a load that is already in flight.
+   *
+   * @param key the key to load
+   * @param loader loads the value, called at most once per flight
+   * @return the loaded value
+   */
+  public V load(K key, Function<? super K, ? extends V> loader) {
+    CompletableFuture<V> flight = inFlight.get(key);
+    if (flight == null) {
+      CompletableFuture<V> own = new CompletableFuture<>();
+      flight = inFlight.putIfAbsent(key, own);
+      if (flight == null) {
+        return lead(key, own, loader);
+      }
+    }
+    return await(flight);
+  }
+
+  /**
+   * Returns the number of loads in flight.
+   *
+   * @return the number of keys being loaded
+   */
+  int inFlight() {
+    return inFlight.size();
+  }
+
+  private V lead(K key, CompletableFuture<V> flight, Function<? super K, ? extends V> loader) {
+    try {
+      V value = loader.apply(key);
+      flight.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+  }
+
+  private static <V> V await(CompletableFuture<V> flight) {
+    try {
+      return flight.join();
+    } catch (CompletionException e) {
+      // rethrow the loader's own exception, as the leading caller sees it
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
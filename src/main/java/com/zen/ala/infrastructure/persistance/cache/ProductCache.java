@@ -0,0 +1,196 @@
+package com.zen.ala.infrastructure.persistance.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.infrastructure.config.ProductCacheProperties;
+import com.zen.ala.infrastructure.persistance.SingleFlight;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, time-evicting read-through cache of products.
+ *
+ * <p>Loads run outside the cache's per-key computation, which holds a monitor and would pin a
+ * virtual thread for the whole database round trip. Concurrent misses of the same product share
+ * one load through a {@link SingleFlight}, whether the cache is enabled or not. Loaded products,
+ * single or in bulk, are only cached if no invalidation happened while they were loading, so they
+ * cannot resurrect an entry a writer has just removed. Eviction maintenance runs on the calling
+ * thread to keep the cache at its maximum size.
+ *
+ * <p>Products are mutable, so the cache stores and hands out copies.
+ */
+@Component
+public class ProductCache {
+
+  /** Name under which the cache metrics are published. */
+  public static final String NAME = "products";
+
+  private final boolean enabled;
+  private final Cache<UUID, Product> cache;
+  private final SingleFlight<UUID, Product> loads = new SingleFlight<>();
+
+  // incremented before every invalidation, bulk loads compare it to detect concurrent writers
+  private final AtomicLong invalidations = new AtomicLong();
+
+  public ProductCache(ProductCacheProperties properties) {
+    this.enabled = properties.isEnabled();
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getExpireAfterWrite())
+            .executor(Runnable::run)
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * Returns the cached product, loading and caching it on a miss.
+   *
+   * <p>Concurrent misses of the same product call the loader once and share its result.
+   *
+   * @param id the UUID of the product
+   * @param loader loads the product from the database, may throw if it does not exist
+   * @return a copy of the product
+   */
+  public Product get(UUID id, Function<UUID, Product> loader) {
+    if (!enabled) {
+      // the flight hands the same product to concurrent callers
+      return copy(loads.load(id, loader));
+    }
+    Product cached = cache.getIfPresent(id);
+    if (cached != null) {
+      return copy(cached);
+    }
+    return copy(loads.load(id, key -> loadAndCache(key, loader)));
+  }
+
+  /**
+   * Returns the cached products, loading all misses with a single call.
+   *
+   * @param ids the UUIDs of the products
+   * @param loader loads the missing products from the database, skipping unknown ones
+   * @return copies of the found products by id, unknown ids are absent
+   */
+  public Map<UUID, Product> getAll(
+      Collection<UUID> ids, Function<Set<UUID>, Map<UUID, Product>> loader) {
+    Map<UUID, Product> products = new HashMap<>(ids.size() * 2);
+    Set<UUID> misses = new LinkedHashSet<>();
+    for (UUID id : ids) {
+      Product cached = enabled ? cache.getIfPresent(id) : null;
+      if (cached != null) {
+        products.put(id, copy(cached));
+      } else {
+        misses.add(id);
+      }
+    }
+    if (misses.isEmpty()) {
+      return products;
+    }
+
+    long generation = invalidations.get();
+    for (Product loaded : loader.apply(misses).values()) {
+      products.put(loaded.getId(), loaded);
+      if (enabled) {
+        cacheIfUnchanged(loaded, generation);
+      }
+    }
+    return products;
+  }
+
+  /**
+   * Returns the cached product without loading it.
+   *
+   * @param id the UUID of the product
+   * @return a copy of the product, or null if it is not cached
+   */
+  public Product getIfPresent(UUID id) {
+    if (!enabled) {
+      return null;
+    }
+    Product product = cache.getIfPresent(id);
+    return product != null ? copy(product) : null;
+  }
+
+  /**
+   * Returns the price of a cached product without loading or copying it.
+   *
+   * @param id the UUID of the product
+   * @return the price, or null if the product is not cached
+   */
+  public BigDecimal getPriceIfPresent(UUID id) {
+    if (!enabled) {
+      return null;
+    }
+    Product product = cache.getIfPresent(id);
+    return product != null ? product.getPrice() : null;
+  }
+
+  /**
+   * Caches a product that was just written.
+   *
+   * @param product the product to cache
+   */
+  public void put(Product product) {
+    if (enabled) {
+      cache.put(product.getId(), copy(product));
+    }
+  }
+
+  /**
+   * Removes a product from the cache.
+   *
+   * @param id the UUID of the product
+   */
+  public void invalidate(UUID id) {
+    invalidations.incrementAndGet();
+    cache.invalidate(id);
+  }
+
+  /** Removes all products from the cache. */
+  public void invalidateAll() {
+    invalidations.incrementAndGet();
+    cache.invalidateAll();
+  }
+
+  /**
+   * Exposes the underlying cache for metrics binding.
+   *
+   * @return the Caffeine cache
+   */
+  public Cache<UUID, Product> getNativeCache() {
+    return cache;
+  }
+
+  // runs on the thread leading the flight, so the generation predates its database read
+  private Product loadAndCache(UUID id, Function<UUID, Product> loader) {
+    long generation = invalidations.get();
+    Product loaded = loader.apply(id);
+    cacheIfUnchanged(loaded, generation);
+    return loaded;
+  }
+
+  // the check runs under the entry's lock, so an invalidation either fails it or follows it; no
+  // I/O happens under that lock
+  private void cacheIfUnchanged(Product loaded, long generation) {
+    cache
+        .asMap()
+        .compute(
+            loaded.getId(),
+            (id, current) ->
+                current != null || invalidations.get() != generation ? current : copy(loaded));
+  }
+
+  private static Product copy(Product product) {
+    return new Product(
+        product.getId(), product.getName(), product.getPrice(), product.getVersion());
+  }
+}
@@ -0,0 +1,141 @@
+package com.zen.ala.infrastructure.persistance.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zen.ala.infrastructure.config.ProductCacheProperties;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory record of the latest known product versions and of a catalog-wide version.
+ *
+ * <p>Writers record the version they produced, readers the version they loaded. Versions only move
+ * forward, so a read that loaded a product just before a concurrent update cannot overwrite the
+ * newer version. A write whose resulting version is unknown forgets the product instead, and reads
+ * that started before it do not record what they loaded, the same way {@link ProductCache} bulk
+ * loads avoid resurrecting invalidated entries. Deleted products are remembered as such until they
+ * are evicted, so a read racing the delete cannot bring their version back.
+ *
+ * <p>The catalog version changes on every write through this application. It is prefixed with a
+ * random epoch per instance, so versions handed out before a restart, or by another instance,
+ * never match. Entries expire, and the catalog version advances, after the {@code catalog.cache}
+ * lifetime, which bounds how long writes made elsewhere go unnoticed to the staleness of cached
+ * products.
+ */
+@Component
+public class ProductVersionTracker {
+
+  // never handed out, marks a deleted product so a load that raced the delete cannot revive it
+  private static final long DELETED = Long.MAX_VALUE;
+
+  private final Cache<UUID, Long> versions;
+  private final long catalogLifetimeNanos;
+  private final String catalogEpoch =
+      Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+  private final AtomicLong catalogChanges = new AtomicLong();
+  private volatile long catalogChangedAt = System.nanoTime();
+
+  // incremented before every forgotten version, loads compare it to detect concurrent writers
+  private final AtomicLong invalidations = new AtomicLong();
+
+  public ProductVersionTracker(ProductCacheProperties properties) {
+    this.catalogLifetimeNanos = properties.getExpireAfterWrite().toNanos();
+    this.versions =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getExpireAfterWrite())
+            .executor(Runnable::run)
+            .build();
+  }
+
+  /**
+   * Returns the latest known version of a product.
+   *
+   * @param id the UUID of the product
+   * @return the version, or null if it is not known or the product was deleted
+   */
+  public Long getVersion(UUID id) {
+    Long version = versions.getIfPresent(id);
+    return version == null || version == DELETED ? null : version;
+  }
+
+  /**
+   * Returns the stamp a read must take before loading products it will pass to {@link
+   * #loaded(UUID, Long, long)}.
+   *
+   * @return the current stamp
+   */
+  public long stamp() {
+    return invalidations.get();
+  }
+
+  /**
+   * Records the version of a product that was read.
+   *
+   * @param id the UUID of the product
+   * @param version the loaded version, ignored if null
+   * @param stamp the {@link #stamp()} taken before the product was loaded
+   */
+  public void loaded(UUID id, Long version, long stamp) {
+    if (version == null) {
+      return;
+    }
+    // the check runs under the entry's lock, so an invalidation either fails it or follows it
+    versions
+        .asMap()
+        .compute(
+            id,
+            (key, current) -> {
+              if (current != null) {
+                return Math.max(current, version);
+              }
+              return invalidations.get() == stamp ? version : null;
+            });
+  }
+
+  /**
+   * Records the version of a product that was just written.
+   *
+   * @param id the UUID of the product
+   * @param version the version the write produced, or null if it is not known
+   */
+  public void written(UUID id, Long version) {
+    if (version == null) {
+      invalidations.incrementAndGet();
+      versions.invalidate(id);
+    } else {
+      versions.asMap().merge(id, version, Math::max);
+    }
+    catalogChanged();
+  }
+
+  /**
+   * Records that a product was deleted.
+   *
+   * @param id the UUID of the product
+   */
+  public void deleted(UUID id) {
+    versions.put(id, DELETED);
+    catalogChanged();
+  }
+
+  /** Records a write that created products without tracking their versions. */
+  public void catalogChanged() {
+    catalogChanges.incrementAndGet();
+    catalogChangedAt = System.nanoTime();
+  }
+
+  /**
+   * Returns the current catalog version.
+   *
+   * @return an opaque token that changes whenever the catalog may have changed
+   */
+  public String getCatalogVersion() {
+    if (System.nanoTime() - catalogChangedAt > catalogLifetimeNanos) {
+      catalogChanged();
+    }
+    return catalogEpoch + "-" + catalogChanges.get();
+  }
+}
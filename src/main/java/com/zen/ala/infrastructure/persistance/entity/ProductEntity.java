@@ -18,4 +18,6 @@ public class ProductEntity {
 
   private String name;
   private BigDecimal price;
+
+  @Version private Long version;
 }
@@ -0,0 +1,16 @@
+package com.zen.ala.infrastructure.persistance.entity;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * ProductRow represents a product in the database for the reactive R2DBC stack.
+ *
+ * <p>Maps the same {@code products} table as {@link ProductEntity}. A row without a version is
+ * inserted, a row with one is updated.
+ */
+@Table("products")
+public record ProductRow(@Id UUID id, String name, BigDecimal price, @Version Long version) {}
@@ -0,0 +1,276 @@
+package com.zen.ala.infrastructure.persistance.filter;
+
+import com.zen.ala.infrastructure.config.ProductIdFilterProperties;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bloom filter over the ids of all stored products.
+ *
+ * <p>Answers "definitely absent" for ids that were never stored, so lookups of unknown products
+ * skip the database. Until the first {@link #rebuild} completes, every id is reported as possibly
+ * present.
+ *
+ * <p>A Bloom filter cannot forget an id, so deleted products stay possibly present until the next
+ * rebuild. The filter reports itself {@link #isStale() stale} once it holds more ids than it was
+ * sized for or many deleted ones. Ids added while a rebuild scans the table are carried over into
+ * the rebuilt filter, so a product saved concurrently is never lost. An id added just before a
+ * rebuild whose insert commits only after the scan read the table is missed by the scan; it is
+ * {@link #committed recorded again} once its insert has committed, whatever kind of UUID it is.
+ *
+ * <p>UUIDv7 ids created within {@code catalog.id-filter.recent-id-window} are never rejected. This
+ * covers products saved by another instance of the application that this filter has not seen yet.
+ * Older ids saved elsewhere are only known after the next rebuild, which is why the filter is
+ * disabled by default.
+ */
+@Component
+public class ProductIdFilter {
+
+  // share of the capacity that may be taken by deleted ids before a rebuild is due
+  private static final int STALE_DELETIONS_DIVISOR = 10;
+
+  private final boolean enabled;
+  private final long expectedProducts;
+  private final double falsePositiveProbability;
+  private final long recentIdWindowMillis;
+
+  private final Object lock = new Object();
+  private final AtomicLong rejections = new AtomicLong();
+
+  private volatile Bits current;
+
+  // guarded by lock
+  private Bits building;
+  private Set<UUID> journal;
+  private long deletions;
+
+  public ProductIdFilter(ProductIdFilterProperties properties) {
+    this.enabled = properties.isEnabled();
+    this.expectedProducts = properties.getExpectedProducts();
+    this.falsePositiveProbability = properties.getFalsePositiveProbability();
+    this.recentIdWindowMillis = properties.getRecentIdWindow().toMillis();
+  }
+
+  /**
+   * Tells whether a product with the given id may exist.
+   *
+   * @param id the UUID of the product
+   * @return false if the product definitely does not exist, true otherwise
+   */
+  public boolean mightContain(UUID id) {
+    Bits bits = current;
+    if (bits == null || bits.mightContain(id) || isRecent(id)) {
+      return true;
+    }
+    rejections.incrementAndGet();
+    return false;
+  }
+
+  /**
+   * Records the id of a product that is about to be stored.
+   *
+   * <p>Must be called before the product is written, so no reader can see the product in the
+   * database while the filter still rejects its id.
+   *
+   * @param id the UUID of the product
+   */
+  public void add(UUID id) {
+    if (!enabled) {
+      return;
+    }
+    synchronized (lock) {
+      Bits bits = current;
+      if (bits != null) {
+        bits.add(id);
+      }
+      if (building != null) {
+        building.add(id);
+        journal.add(id);
+      }
+    }
+  }
+
+  /**
+   * Records again the ids of products whose inserts have committed.
+   *
+   * <p>A rebuild that started between {@link #add} and the commit may have scanned the table
+   * without these rows, so they are added to the filter being built or to the one that replaced
+   * it. Ids the filter already holds are not counted twice.
+   *
+   * @param ids the UUIDs of the committed products
+   */
+  public void committed(Collection<UUID> ids) {
+    if (!enabled) {
+      return;
+    }
+    synchronized (lock) {
+      Bits bits = current;
+      for (UUID id : ids) {
+        if (bits != null && !bits.mightContain(id)) {
+          bits.add(id);
+        }
+        if (building != null && journal.add(id)) {
+          building.add(id);
+        }
+      }
+    }
+  }
+
+  /**
+   * Records that a product was deleted.
+   *
+   * <p>The id stays possibly present until the next rebuild.
+   *
+   * @param id the UUID of the product
+   */
+  public void remove(UUID id) {
+    if (!enabled) {
+      return;
+    }
+    synchronized (lock) {
+      deletions++;
+    }
+  }
+
+  /**
+   * Tells whether the filter should be rebuilt.
+   *
+   * @return true if the filter was never built, holds more ids than it was sized for or too many
+   *     deleted ids
+   */
+  public boolean isStale() {
+    if (!enabled) {
+      return false;
+    }
+    synchronized (lock) {
+      Bits bits = current;
+      return bits == null
+          || bits.count.get() > bits.capacity
+          || deletions > bits.capacity / STALE_DELETIONS_DIVISOR;
+    }
+  }
+
+  /**
+   * Replaces the filter with one built from a scan of all stored ids.
+   *
+   * <p>The filter keeps answering from its previous state while the scan runs.
+   *
+   * @param products the number of stored products, used to size the filter with room to grow
+   * @param scan passes every stored id to the given consumer
+   */
+  public void rebuild(long products, Consumer<Consumer<UUID>> scan) {
+    if (!enabled) {
+      return;
+    }
+    Bits next = new Bits(Math.max(expectedProducts, products * 2), falsePositiveProbability);
+    synchronized (lock) {
+      journal = new HashSet<>();
+      building = next;
+    }
+
+    try {
+      scan.accept(next::add);
+    } catch (RuntimeException e) {
+      synchronized (lock) {
+        building = null;
+        journal = null;
+      }
+      throw e;
+    }
+
+    synchronized (lock) {
+      journal.forEach(next::add);
+      current = next;
+      building = null;
+      journal = null;
+      deletions = 0;
+    }
+  }
+
+  /**
+   * Returns the number of lookups answered as definitely absent.
+   *
+   * @return the number of rejected ids
+   */
+  public long getRejections() {
+    return rejections.get();
+  }
+
+  // the high 48 bits of a UUIDv7 are its creation time in Unix milliseconds
+  private boolean isRecent(UUID id) {
+    if (id.version() != 7) {
+      return false;
+    }
+    long created = id.getMostSignificantBits() >>> 16;
+    return Math.abs(System.currentTimeMillis() - created) < recentIdWindowMillis;
+  }
+
+  /** Bit array addressed by double hashing of the id. */
+  private static final class Bits {
+
+    private final long capacity;
+    private final long size;
+    private final int hashes;
+    private final AtomicLongArray words;
+    private final AtomicLong count = new AtomicLong();
+
+    Bits(long capacity, double falsePositiveProbability) {
+      long bits =
+          (long)
+              Math.ceil(
+                  -capacity * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+      this.capacity = capacity;
+      this.words = new AtomicLongArray(Math.toIntExact((bits + 63) / 64));
+      this.size = words.length() * 64L;
+      this.hashes = Math.max(1, (int) Math.round((double) size / capacity * Math.log(2)));
+    }
+
+    void add(UUID id) {
+      long h1 = h1(id);
+      long h2 = h2(id);
+      for (int i = 0; i < hashes; i++) {
+        long bit = Math.floorMod(h1 + i * h2, size);
+        int word = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long value = words.get(word);
+        while ((value & mask) == 0 && !words.compareAndSet(word, value, value | mask)) {
+          value = words.get(word);
+        }
+      }
+      count.incrementAndGet();
+    }
+
+    boolean mightContain(UUID id) {
+      long h1 = h1(id);
+      long h2 = h2(id);
+      for (int i = 0; i < hashes; i++) {
+        long bit = Math.floorMod(h1 + i * h2, size);
+        if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    // UUIDv7 ids carry a timestamp in their high bits, so both halves are mixed
+    private static long h1(UUID id) {
+      return mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+    }
+
+    private static long h2(UUID id) {
+      return mix(id.getLeastSignificantBits() + 0x9E3779B97F4A7C15L) | 1;
+    }
+
+    private static long mix(long z) {
+      z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+      z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+      return z ^ (z >>> 33);
+    }
+  }
+}
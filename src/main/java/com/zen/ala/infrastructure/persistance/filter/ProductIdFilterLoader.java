@@ -0,0 +1,73 @@
+package com.zen.ala.infrastructure.persistance.filter;
+
+import com.zen.ala.infrastructure.config.ProductIdFilterProperties;
+import com.zen.ala.infrastructure.persistance.repository.ProductRepository;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Builds the {@link ProductIdFilter} from the products table.
+ *
+ * <p>The filter is built once the application is ready and rebuilt whenever it reports itself
+ * stale, checked every {@code catalog.id-filter.refresh-interval}. A failed build leaves the
+ * previous filter in place and is retried at the next check.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class ProductIdFilterLoader {
+
+  private final ProductIdFilter productIdFilter;
+  private final ProductRepository productRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final boolean enabled;
+
+  public ProductIdFilterLoader(
+      ProductIdFilter productIdFilter,
+      ProductRepository productRepository,
+      PlatformTransactionManager transactionManager,
+      ProductIdFilterProperties properties) {
+    this.productIdFilter = productIdFilter;
+    this.productRepository = productRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.enabled = properties.isEnabled();
+  }
+
+  /** Builds the filter at startup. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    refreshIfStale();
+  }
+
+  /** Rebuilds the filter if it was never built, is full or holds many deleted ids. */
+  @Scheduled(
+      fixedDelayString = "${catalog.id-filter.refresh-interval:1m}",
+      initialDelayString = "${catalog.id-filter.refresh-interval:1m}")
+  public void refreshIfStale() {
+    if (!enabled || !productIdFilter.isStale()) {
+      return;
+    }
+    try {
+      readOnlyTransaction.executeWithoutResult(
+          status ->
+              productIdFilter.rebuild(
+                  productRepository.count(),
+                  consumer -> {
+                    try (Stream<UUID> ids = productRepository.streamAllIds()) {
+                      ids.forEach(consumer);
+                    }
+                  }));
+    } catch (RuntimeException e) {
+      log.warn("Product id filter not rebuilt, unknown ids are looked up in the database", e);
+    }
+  }
+}
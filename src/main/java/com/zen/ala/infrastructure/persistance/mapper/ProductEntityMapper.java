@@ -1,8 +1,11 @@
 package com.zen.ala.infrastructure.persistance.mapper;
 
 import com.zen.ala.domain.model.Product;
+import com.zen.ala.infrastructure.metrics.DatabaseWork;
 import com.zen.ala.infrastructure.persistance.entity.ProductEntity;
+import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
 
 /** ProductEntityMapper is responsible for mapping between Product and ProductEntity. */
 @Mapper(componentModel = "spring")
@@ -11,4 +14,10 @@ public interface ProductEntityMapper {
   Product toDomain(ProductEntity entity);
 
   ProductEntity toEntity(Product product);
+
+  /** Counts every entity mapped to a product as a row of the current request. */
+  @AfterMapping
+  default void countMappedRow(@MappingTarget Product product) {
+    DatabaseWork.rowMapped();
+  }
 }
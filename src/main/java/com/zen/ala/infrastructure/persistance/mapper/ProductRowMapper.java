@@ -0,0 +1,14 @@
+package com.zen.ala.infrastructure.persistance.mapper;
+
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.infrastructure.persistance.entity.ProductRow;
+import org.mapstruct.Mapper;
+
+/** ProductRowMapper is responsible for mapping between Product and ProductRow. */
+@Mapper(componentModel = "spring")
+public interface ProductRowMapper {
+
+  Product toDomain(ProductRow row);
+
+  ProductRow toRow(Product product);
+}
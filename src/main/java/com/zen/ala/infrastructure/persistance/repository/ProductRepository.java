@@ -1,10 +1,128 @@
 package com.zen.ala.infrastructure.persistance.repository;
 
 import com.zen.ala.infrastructure.persistance.entity.ProductEntity;
+import jakarta.persistence.QueryHint;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /** ProductRepository is responsible for data access operations related to ProductEntity. */
 @Repository
-public interface ProductRepository extends JpaRepository<ProductEntity, UUID> {}
+public interface ProductRepository extends JpaRepository<ProductEntity, UUID> {
+
+  /**
+   * Returns the first products in primary key order.
+   *
+   * @param limit the maximum number of products
+   * @return the products
+   */
+  List<ProductEntity> findAllByOrderByIdAsc(Limit limit);
+
+  /**
+   * Returns the products that follow the given id in primary key order.
+   *
+   * @param id the id to continue after
+   * @param limit the maximum number of products
+   * @return the products
+   */
+  List<ProductEntity> findByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+  /**
+   * Returns the price of a product.
+   *
+   * <p>Selects the price column only, so no entity is loaded into the persistence context and no
+   * dirty-checking snapshot is kept.
+   *
+   * @param id the UUID of the product
+   * @return the price, empty if the product does not exist
+   */
+  @Query("select p.price from ProductEntity p where p.id = :id")
+  Optional<BigDecimal> findPriceById(UUID id);
+
+  /**
+   * Streams every product through a server-side cursor.
+   *
+   * <p>Must be consumed inside a transaction and closed afterwards. Rows are fetched in batches of
+   * 1000 and loaded read-only, without dirty-checking snapshots.
+   *
+   * @return the stream of products
+   */
+  @Query("select p from ProductEntity p")
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<ProductEntity> streamAll();
+
+  /**
+   * Streams the id of every product through a server-side cursor.
+   *
+   * <p>Must be consumed inside a transaction and closed afterwards. Only the primary key is read,
+   * in batches of 1000.
+   *
+   * @return the stream of product ids
+   */
+  @Query("select p.id from ProductEntity p")
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  Stream<UUID> streamAllIds();
+
+  /**
+   * Updates a product if it still has the expected version, incrementing the version.
+   *
+   * <p>Issues a single {@code UPDATE ... WHERE id = ? AND version = ?} without loading the entity.
+   *
+   * @param id the UUID of the product
+   * @param name the new name
+   * @param price the new price
+   * @param version the version the update is based on
+   * @return the number of updated rows, 0 if the product does not exist or has another version
+   */
+  @Transactional
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      "update ProductEntity p set p.name = :name, p.price = :price, p.version = p.version + 1"
+          + " where p.id = :id and p.version = :version")
+  int updateIfVersionMatches(UUID id, String name, BigDecimal price, long version);
+
+  /**
+   * Updates a product regardless of its version, incrementing the version.
+   *
+   * <p>Issues a single {@code UPDATE ... WHERE id = ?} without loading the entity. Rows created
+   * before versioning start at version 1.
+   *
+   * @param id the UUID of the product
+   * @param name the new name
+   * @param price the new price
+   * @return the number of updated rows, 0 if the product does not exist
+   */
+  @Transactional
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      "update ProductEntity p set p.name = :name, p.price = :price,"
+          + " p.version = coalesce(p.version, 0) + 1 where p.id = :id")
+  int update(UUID id, String name, BigDecimal price);
+
+  /**
+   * Deletes a product without loading it first.
+   *
+   * <p>Issues a single {@code DELETE ... WHERE id = ?}, where {@code deleteById} selects the
+   * entity before removing it.
+   *
+   * @param id the UUID of the product
+   * @return the number of deleted rows, 0 if the product does not exist
+   */
+  @Transactional
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("delete from ProductEntity p where p.id = :id")
+  int deleteProductById(UUID id);
+}
@@ -0,0 +1,77 @@
+package com.zen.ala.infrastructure.persistance.repository;
+
+import com.zen.ala.infrastructure.persistance.entity.ProductRow;
+import java.math.BigDecimal;
+import java.util.UUID;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveProductRepository is responsible for non-blocking data access operations related to
+ * ProductRow.
+ */
+@Repository
+public interface ReactiveProductRepository extends R2dbcRepository<ProductRow, UUID> {
+
+  /**
+   * Returns the first products in primary key order.
+   *
+   * @param limit the maximum number of products
+   * @return the products
+   */
+  @Query("SELECT id, name, price, version FROM products ORDER BY id LIMIT :limit")
+  Flux<ProductRow> findFirstPage(int limit);
+
+  /**
+   * Returns the products that follow the given id in primary key order.
+   *
+   * @param after the id to continue after
+   * @param limit the maximum number of products
+   * @return the products
+   */
+  @Query(
+      "SELECT id, name, price, version FROM products WHERE id > :after ORDER BY id LIMIT :limit")
+  Flux<ProductRow> findPageAfter(UUID after, int limit);
+
+  /**
+   * Returns the price of a product.
+   *
+   * @param id the UUID of the product
+   * @return the price, empty if the product does not exist
+   */
+  @Query("SELECT price FROM products WHERE id = :id")
+  Mono<BigDecimal> findPriceById(UUID id);
+
+  /**
+   * Updates a product if it still has the expected version, incrementing the version.
+   *
+   * @param id the UUID of the product
+   * @param name the new name
+   * @param price the new price
+   * @param version the version the update is based on
+   * @return the number of updated rows, 0 if the product does not exist or has another version
+   */
+  @Modifying
+  @Query(
+      "UPDATE products SET name = :name, price = :price, version = version + 1"
+          + " WHERE id = :id AND version = :version")
+  Mono<Integer> updateIfVersionMatches(UUID id, String name, BigDecimal price, long version);
+
+  /**
+   * Updates a product regardless of its version, incrementing the version.
+   *
+   * @param id the UUID of the product
+   * @param name the new name
+   * @param price the new price
+   * @return the number of updated rows, 0 if the product does not exist
+   */
+  @Modifying
+  @Query(
+      "UPDATE products SET name = :name, price = :price, version = COALESCE(version, 0) + 1"
+          + " WHERE id = :id")
+  Mono<Integer> update(UUID id, String name, BigDecimal price);
+}
@@ -0,0 +1,356 @@
+package com.zen.ala.infrastructure.web.binary;
+
+import com.zen.ala.infrastructure.web.dto.PriceQuoteRequestDto;
+import com.zen.ala.infrastructure.web.dto.PriceQuoteResponseDto;
+import com.zen.ala.infrastructure.web.dto.ProductImportFailureDto;
+import com.zen.ala.infrastructure.web.dto.ProductImportResponseDto;
+import com.zen.ala.infrastructure.web.dto.ProductRequestDto;
+import com.zen.ala.infrastructure.web.dto.ProductResponseDto;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Encoder and decoder of the compact binary wire format of the product API.
+ *
+ * <p>The codec only depends on the JDK and the DTO records, so service clients can use it as is.
+ * Messages have no header or framing beyond the fields below:
+ *
+ * <ul>
+ *   <li>varint: unsigned LEB128, 7 bits per byte with the least significant group first and the
+ *       high bit set on every byte but the last
+ *   <li>count, length, row: varint
+ *   <li>int: varint of the zig-zag encoded value, so small negative values stay short
+ *   <li>optional long: varint of the value plus one, 0 for null; values must not be negative
+ *   <li>uuid: 16 raw bytes, the most significant long then the least significant long, each
+ *       big-endian
+ *   <li>string: varint of the UTF-8 length plus one, 0 for null, then the UTF-8 bytes
+ *   <li>decimal: varint length of the unscaled value, 0 for null, the unscaled value as big-endian
+ *       two's complement bytes, then the scale as an int
+ * </ul>
+ *
+ * <p>A product is its uuid id, string name, decimal price and optional long version; a product
+ * list is a count followed by as many products. A bulk import is a sequence of product requests,
+ * each a string name, decimal price and optional long version, up to the end of the body. Its
+ * result is the imported count as a varint and a count of failures, each a row and a string
+ * error. Price quote requests and responses are lists of their fields in record order.
+ */
+public final class ProductBinaryCodec {
+
+  /** Media type of the binary format, negotiated through the Accept and Content-Type headers. */
+  public static final String MEDIA_TYPE = "application/vnd.ala.catalog+binary";
+
+  // upper bounds that keep a corrupt length from allocating unbounded memory
+  private static final int MAX_STRING_BYTES = 1 << 20;
+  private static final int MAX_DECIMAL_BYTES = 1 << 10;
+  private static final int MAX_PREALLOCATED_ELEMENTS = 1 << 10;
+
+  private ProductBinaryCodec() {}
+
+  /**
+   * Writes a product.
+   *
+   * @param out the output to write to
+   * @param product the product
+   * @throws IOException if writing fails
+   */
+  public static void writeProduct(DataOutput out, ProductResponseDto product) throws IOException {
+    writeUuid(out, product.id());
+    writeString(out, product.name());
+    writeDecimal(out, product.price());
+    writeOptionalLong(out, product.version());
+  }
+
+  /**
+   * Reads a product.
+   *
+   * @param in the input to read from
+   * @return the product
+   * @throws IOException if reading fails or the input is malformed
+   */
+  public static ProductResponseDto readProduct(DataInput in) throws IOException {
+    return new ProductResponseDto(
+        readUuid(in), readString(in), readDecimal(in), readOptionalLong(in));
+  }
+
+  /**
+   * Writes a list of products.
+   *
+   * @param out the output to write to
+   * @param products the products
+   * @throws IOException if writing fails
+   */
+  public static void writeProducts(DataOutput out, List<ProductResponseDto> products)
+      throws IOException {
+    writeVarint(out, products.size());
+    for (ProductResponseDto product : products) {
+      writeProduct(out, product);
+    }
+  }
+
+  /**
+   * Reads a list of products.
+   *
+   * @param in the input to read from
+   * @return the products
+   * @throws IOException if reading fails or the input is malformed
+   */
+  public static List<ProductResponseDto> readProducts(DataInput in) throws IOException {
+    int count = readCount(in);
+    List<ProductResponseDto> products = new ArrayList<>(Math.min(count, MAX_PREALLOCATED_ELEMENTS));
+    for (int i = 0; i < count; i++) {
+      products.add(readProduct(in));
+    }
+    return products;
+  }
+
+  /**
+   * Writes one product of a bulk import.
+   *
+   * @param out the output to write to
+   * @param product the product to create
+   * @throws IOException if writing fails
+   */
+  public static void writeProductRequest(DataOutput out, ProductRequestDto product)
+      throws IOException {
+    writeString(out, product.name());
+    writeDecimal(out, product.price());
+    writeOptionalLong(out, product.version());
+  }
+
+  /**
+   * Reads one product of a bulk import.
+   *
+   * @param in the input to read from
+   * @return the product to create
+   * @throws IOException if reading fails or the input is malformed
+   */
+  public static ProductRequestDto readProductRequest(DataInput in) throws IOException {
+    return new ProductRequestDto(readString(in), readDecimal(in), readOptionalLong(in));
+  }
+
+  /**
+   * Writes the result of a bulk import.
+   *
+   * @param out the output to write to
+   * @param result the import result
+   * @throws IOException if writing fails
+   */
+  public static void writeImportResponse(DataOutput out, ProductImportResponseDto result)
+      throws IOException {
+    writeVarint(out, result.imported());
+    writeVarint(out, result.failures().size());
+    for (ProductImportFailureDto failure : result.failures()) {
+      writeVarint(out, failure.row());
+      writeString(out, failure.error());
+    }
+  }
+
+  /**
+   * Reads the result of a bulk import.
+   *
+   * @param in the input to read from
+   * @return the import result
+   * @throws IOException if reading fails or the input is malformed
+   */
+  public static ProductImportResponseDto readImportResponse(DataInput in) throws IOException {
+    long imported = readVarint(in);
+    int count = readCount(in);
+    List<ProductImportFailureDto> failures =
+        new ArrayList<>(Math.min(count, MAX_PREALLOCATED_ELEMENTS));
+    for (int i = 0; i < count; i++) {
+      failures.add(new ProductImportFailureDto(readVarint(in), readString(in)));
+    }
+    return new ProductImportResponseDto(imported, failures);
+  }
+
+  /**
+   * Writes the lines of a price quote request.
+   *
+   * @param out the output to write to
+   * @param lines the price quote lines
+   * @throws IOException if writing fails
+   */
+  public static void writePriceQuoteRequests(DataOutput out, List<PriceQuoteRequestDto> lines)
+      throws IOException {
+    writeVarint(out, lines.size());
+    for (PriceQuoteRequestDto line : lines) {
+      writeUuid(out, line.productId());
+      writeInt(out, line.quantity());
+      writeString(out, line.discountType());
+      writeString(out, line.discountPolicy());
+    }
+  }
+
+  /**
+   * Reads the lines of a price quote request.
+   *
+   * @param in the input to read from
+   * @return the price quote lines
+   * @throws IOException if reading fails or the input is malformed
+   */
+  public static List<PriceQuoteRequestDto> readPriceQuoteRequests(DataInput in)
+      throws IOException {
+    int count = readCount(in);
+    List<PriceQuoteRequestDto> lines = new ArrayList<>(Math.min(count, MAX_PREALLOCATED_ELEMENTS));
+    for (int i = 0; i < count; i++) {
+      lines.add(
+          new PriceQuoteRequestDto(readUuid(in), readInt(in), readString(in), readString(in)));
+    }
+    return lines;
+  }
+
+  /**
+   * Writes the lines of a price quote response.
+   *
+   * @param out the output to write to
+   * @param quotes the price quotes
+   * @throws IOException if writing fails
+   */
+  public static void writePriceQuoteResponses(DataOutput out, List<PriceQuoteResponseDto> quotes)
+      throws IOException {
+    writeVarint(out, quotes.size());
+    for (PriceQuoteResponseDto quote : quotes) {
+      writeUuid(out, quote.productId());
+      writeInt(out, quote.quantity());
+      writeString(out, quote.discountType());
+      writeString(out, quote.discountPolicy());
+      writeDecimal(out, quote.price());
+      writeString(out, quote.error());
+    }
+  }
+
+  /**
+   * Reads the lines of a price quote response.
+   *
+   * @param in the input to read from
+   * @return the price quotes
+   * @throws IOException if reading fails or the input is malformed
+   */
+  public static List<PriceQuoteResponseDto> readPriceQuoteResponses(DataInput in)
+      throws IOException {
+    int count = readCount(in);
+    List<PriceQuoteResponseDto> quotes =
+        new ArrayList<>(Math.min(count, MAX_PREALLOCATED_ELEMENTS));
+    for (int i = 0; i < count; i++) {
+      quotes.add(
+          new PriceQuoteResponseDto(
+              readUuid(in),
+              readInt(in),
+              readString(in),
+              readString(in),
+              readDecimal(in),
+              readString(in)));
+    }
+    return quotes;
+  }
+
+  private static void writeVarint(DataOutput out, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) (value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  private static long readVarint(DataInput in) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = in.readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed varint");
+  }
+
+  private static int readCount(DataInput in) throws IOException {
+    long count = readVarint(in);
+    if (count < 0 || count > Integer.MAX_VALUE) {
+      throw new IOException("Invalid element count: " + count);
+    }
+    return (int) count;
+  }
+
+  private static void writeInt(DataOutput out, int value) throws IOException {
+    writeVarint(out, Integer.toUnsignedLong((value << 1) ^ (value >> 31)));
+  }
+
+  private static int readInt(DataInput in) throws IOException {
+    int zigZag = (int) readVarint(in);
+    return (zigZag >>> 1) ^ -(zigZag & 1);
+  }
+
+  private static void writeOptionalLong(DataOutput out, Long value) throws IOException {
+    writeVarint(out, value == null ? 0 : value + 1);
+  }
+
+  private static Long readOptionalLong(DataInput in) throws IOException {
+    long value = readVarint(in);
+    return value == 0 ? null : value - 1;
+  }
+
+  private static void writeUuid(DataOutput out, UUID uuid) throws IOException {
+    out.writeLong(uuid.getMostSignificantBits());
+    out.writeLong(uuid.getLeastSignificantBits());
+  }
+
+  private static UUID readUuid(DataInput in) throws IOException {
+    return new UUID(in.readLong(), in.readLong());
+  }
+
+  private static void writeString(DataOutput out, String value) throws IOException {
+    if (value == null) {
+      writeVarint(out, 0);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeVarint(out, bytes.length + 1L);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInput in) throws IOException {
+    long length = readVarint(in);
+    if (length == 0) {
+      return null;
+    }
+    byte[] bytes = readBytes(in, length - 1, MAX_STRING_BYTES);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeDecimal(DataOutput out, BigDecimal value) throws IOException {
+    if (value == null) {
+      writeVarint(out, 0);
+      return;
+    }
+    byte[] unscaled = value.unscaledValue().toByteArray();
+    writeVarint(out, unscaled.length);
+    out.write(unscaled);
+    writeInt(out, value.scale());
+  }
+
+  private static BigDecimal readDecimal(DataInput in) throws IOException {
+    long length = readVarint(in);
+    if (length == 0) {
+      return null;
+    }
+    byte[] unscaled = readBytes(in, length, MAX_DECIMAL_BYTES);
+    return new BigDecimal(new BigInteger(unscaled), readInt(in));
+  }
+
+  private static byte[] readBytes(DataInput in, long length, int max) throws IOException {
+    if (length < 0 || length > max) {
+      throw new IOException("Invalid field length: " + length);
+    }
+    byte[] bytes = new byte[(int) length];
+    in.readFully(bytes);
+    return bytes;
+  }
+}
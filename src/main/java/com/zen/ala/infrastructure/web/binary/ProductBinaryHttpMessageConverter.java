@@ -0,0 +1,113 @@
+package com.zen.ala.infrastructure.web.binary;
+
+import com.zen.ala.infrastructure.web.dto.PriceQuoteRequestDto;
+import com.zen.ala.infrastructure.web.dto.PriceQuoteResponseDto;
+import com.zen.ala.infrastructure.web.dto.ProductImportResponseDto;
+import com.zen.ala.infrastructure.web.dto.ProductResponseDto;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+/**
+ * Reads and writes the product API bodies in the {@link ProductBinaryCodec} format.
+ *
+ * <p>Writes products, product lists, bulk import results and price quotes; reads price quote
+ * requests. Lists are dispatched on their element type when the declared type names it and on
+ * their first element otherwise, which is unambiguous because an empty list encodes the same for
+ * every element type. Bulk import bodies are streamed by the controller instead.
+ *
+ * <p>It must be registered after the JSON converter, so that JSON stays the default for clients
+ * that accept any media type.
+ */
+public class ProductBinaryHttpMessageConverter
+    extends AbstractGenericHttpMessageConverter<Object> {
+
+  /** Media type of the binary format. */
+  public static final MediaType MEDIA_TYPE =
+      MediaType.parseMediaType(ProductBinaryCodec.MEDIA_TYPE);
+
+  public ProductBinaryHttpMessageConverter() {
+    super(MEDIA_TYPE);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return clazz == ProductResponseDto.class
+        || clazz == ProductImportResponseDto.class
+        || List.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+    return canRead(mediaType) && elementType(type) == PriceQuoteRequestDto.class;
+  }
+
+  @Override
+  public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+    if (!canWrite(mediaType) || !supports(clazz)) {
+      return false;
+    }
+    if (!List.class.isAssignableFrom(clazz)) {
+      return true;
+    }
+    Class<?> element = elementType(type);
+    return element == null
+        || element == ProductResponseDto.class
+        || element == PriceQuoteResponseDto.class;
+  }
+
+  @Override
+  public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+      throws IOException {
+    DataInputStream in = new DataInputStream(new BufferedInputStream(inputMessage.getBody()));
+    try {
+      return ProductBinaryCodec.readPriceQuoteRequests(in);
+    } catch (IOException e) {
+      throw new HttpMessageNotReadableException(
+          "Malformed binary payload: " + e.getMessage(), e, inputMessage);
+    }
+  }
+
+  @Override
+  protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+    return read(clazz, null, inputMessage);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage)
+      throws IOException {
+    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputMessage.getBody()));
+    switch (value) {
+      case ProductResponseDto product -> ProductBinaryCodec.writeProduct(out, product);
+      case ProductImportResponseDto result -> ProductBinaryCodec.writeImportResponse(out, result);
+      case List<?> list when list.isEmpty() || list.get(0) instanceof ProductResponseDto ->
+          ProductBinaryCodec.writeProducts(out, (List<ProductResponseDto>) list);
+      case List<?> list when list.get(0) instanceof PriceQuoteResponseDto ->
+          ProductBinaryCodec.writePriceQuoteResponses(out, (List<PriceQuoteResponseDto>) list);
+      default ->
+          throw new HttpMessageNotWritableException(
+              "Cannot write " + value.getClass().getName() + " as " + MEDIA_TYPE);
+    }
+    out.flush();
+  }
+
+  private static Class<?> elementType(Type type) {
+    if (type == null) {
+      return null;
+    }
+    ResolvableType list = ResolvableType.forType(type).as(List.class);
+    return list == ResolvableType.NONE ? null : list.resolveGeneric(0);
+  }
+}
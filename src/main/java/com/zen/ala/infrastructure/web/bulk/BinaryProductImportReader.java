@@ -0,0 +1,93 @@
+package com.zen.ala.infrastructure.web.bulk;
+
+import com.zen.ala.domain.model.ProductImportRow;
+import com.zen.ala.infrastructure.web.binary.ProductBinaryCodec;
+import com.zen.ala.infrastructure.web.dto.ProductRequestDto;
+import com.zen.ala.infrastructure.web.mapper.ProductRequestDtoMapper;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the products of a bulk import in the {@link ProductBinaryCodec} format, one at a time.
+ *
+ * <p>Products follow each other up to the end of the body and are numbered from 1 like the
+ * elements of a JSON array. A truncated or malformed product ends the import with an unparsable
+ * row, since nothing after it can be read.
+ */
+public class BinaryProductImportReader implements Iterator<ProductImportRow>, Closeable {
+
+  private final BufferedInputStream body;
+  private final DataInputStream in;
+  private final ProductRequestDtoMapper productRequestDtoMapper;
+
+  private long row;
+  private ProductImportRow next;
+  private boolean finished;
+
+  /**
+   * Creates a reader positioned at the first product.
+   *
+   * @param body the request body
+   * @param productRequestDtoMapper the mapper from request DTOs to products
+   */
+  public BinaryProductImportReader(
+      InputStream body, ProductRequestDtoMapper productRequestDtoMapper) {
+    this.body = new BufferedInputStream(body);
+    this.in = new DataInputStream(this.body);
+    this.productRequestDtoMapper = productRequestDtoMapper;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null && !finished) {
+      next = readNext();
+    }
+    return next != null;
+  }
+
+  @Override
+  public ProductImportRow next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    ProductImportRow current = next;
+    next = null;
+    return current;
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  private ProductImportRow readNext() {
+    row++;
+    try {
+      if (atEnd()) {
+        finished = true;
+        return null;
+      }
+      ProductRequestDto dto = ProductBinaryCodec.readProductRequest(in);
+      return ProductImportRow.parsed(row, productRequestDtoMapper.toDomain(dto));
+    } catch (IOException e) {
+      finished = true;
+      String reason = e instanceof EOFException ? "truncated product" : e.getMessage();
+      return ProductImportRow.unparsable(row, "Malformed binary payload: " + reason);
+    }
+  }
+
+  private boolean atEnd() throws IOException {
+    body.mark(1);
+    if (body.read() < 0) {
+      return true;
+    }
+    body.reset();
+    return false;
+  }
+}
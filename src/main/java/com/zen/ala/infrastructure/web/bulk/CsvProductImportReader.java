@@ -0,0 +1,172 @@
+package com.zen.ala.infrastructure.web.bulk;
+
+import com.zen.ala.domain.error.InvalidImportPayloadException;
+import com.zen.ala.domain.model.ProductImportRow;
+import com.zen.ala.infrastructure.web.dto.ProductRequestDto;
+import com.zen.ala.infrastructure.web.mapper.ProductRequestDtoMapper;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the products of a bulk import from CSV, one line at a time.
+ *
+ * <p>The first line is a header that must name a {@code name} and a {@code price} column, in any
+ * order; other columns are ignored. Fields may be quoted with double quotes, a quote inside a
+ * quoted field is escaped by doubling it. Quoted fields cannot span lines. Blank lines are skipped
+ * and rows are numbered by their line number.
+ */
+public class CsvProductImportReader implements Iterator<ProductImportRow>, Closeable {
+
+  private static final String NAME_COLUMN = "name";
+  private static final String PRICE_COLUMN = "price";
+
+  private final BufferedReader reader;
+  private final ProductRequestDtoMapper productRequestDtoMapper;
+  private final int nameColumn;
+  private final int priceColumn;
+
+  private long line;
+  private ProductImportRow next;
+  private boolean finished;
+
+  /**
+   * Creates a reader and consumes the header line.
+   *
+   * @param body the request body, UTF-8 encoded
+   * @param productRequestDtoMapper the mapper from request DTOs to products
+   * @throws InvalidImportPayloadException if the header lacks the name or price column
+   * @throws IOException if the body cannot be read
+   */
+  public CsvProductImportReader(InputStream body, ProductRequestDtoMapper productRequestDtoMapper)
+      throws IOException {
+    this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    this.productRequestDtoMapper = productRequestDtoMapper;
+
+    String header = reader.readLine();
+    line = 1;
+    List<String> columns = header == null ? List.of() : parseFields(stripByteOrderMark(header));
+    this.nameColumn = indexOf(columns, NAME_COLUMN);
+    this.priceColumn = indexOf(columns, PRICE_COLUMN);
+    if (nameColumn < 0 || priceColumn < 0) {
+      throw new InvalidImportPayloadException(
+          "CSV header must contain " + NAME_COLUMN + " and " + PRICE_COLUMN + " columns");
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null && !finished) {
+      next = readNext();
+    }
+    return next != null;
+  }
+
+  @Override
+  public ProductImportRow next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    ProductImportRow current = next;
+    next = null;
+    return current;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private ProductImportRow readNext() {
+    try {
+      String text;
+      do {
+        text = reader.readLine();
+        line++;
+      } while (text != null && text.isBlank());
+
+      if (text == null) {
+        finished = true;
+        return null;
+      }
+      return toRow(text);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private ProductImportRow toRow(String text) {
+    List<String> fields;
+    try {
+      fields = parseFields(text);
+    } catch (IllegalArgumentException e) {
+      return ProductImportRow.unparsable(line, e.getMessage());
+    }
+    if (fields.size() <= Math.max(nameColumn, priceColumn)) {
+      return ProductImportRow.unparsable(line, "Missing columns");
+    }
+
+    String price = fields.get(priceColumn).trim();
+    try {
+      ProductRequestDto dto =
+          new ProductRequestDto(
+              fields.get(nameColumn), price.isEmpty() ? null : new BigDecimal(price));
+      return ProductImportRow.parsed(line, productRequestDtoMapper.toDomain(dto));
+    } catch (NumberFormatException e) {
+      return ProductImportRow.unparsable(line, "Invalid price: " + price);
+    }
+  }
+
+  static List<String> parseFields(String text) {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (quoted) {
+        if (c != '"') {
+          field.append(c);
+        } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+          field.append('"');
+          i++;
+        } else {
+          quoted = false;
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+    if (quoted) {
+      throw new IllegalArgumentException("Unterminated quoted field");
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+
+  private static int indexOf(List<String> columns, String column) {
+    for (int i = 0; i < columns.size(); i++) {
+      if (columns.get(i).trim().equalsIgnoreCase(column)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static String stripByteOrderMark(String header) {
+    return header.startsWith("\uFEFF") ? header.substring(1) : header;
+  }
+}
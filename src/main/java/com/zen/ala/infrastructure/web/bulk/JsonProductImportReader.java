@@ -0,0 +1,119 @@
+package com.zen.ala.infrastructure.web.bulk;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zen.ala.domain.error.InvalidImportPayloadException;
+import com.zen.ala.domain.model.ProductImportRow;
+import com.zen.ala.infrastructure.web.dto.ProductRequestDto;
+import com.zen.ala.infrastructure.web.mapper.ProductRequestDtoMapper;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the products of a bulk import from a JSON array, one element at a time.
+ *
+ * <p>The array is never materialized: each element is parsed from the stream when the next row is
+ * requested. An element that does not bind to a {@link ProductRequestDto} becomes an unparsable
+ * row. Malformed JSON ends the import with an unparsable row, since nothing after it can be read.
+ */
+public class JsonProductImportReader implements Iterator<ProductImportRow>, Closeable {
+
+  private final JsonParser parser;
+  private final ObjectMapper objectMapper;
+  private final ProductRequestDtoMapper productRequestDtoMapper;
+
+  private long row;
+  private ProductImportRow next;
+  private boolean finished;
+
+  /**
+   * Creates a reader positioned at the start of the array.
+   *
+   * @param body the request body
+   * @param objectMapper the mapper used to bind array elements
+   * @param productRequestDtoMapper the mapper from request DTOs to products
+   * @throws InvalidImportPayloadException if the body is not a JSON array
+   * @throws IOException if the body cannot be read
+   */
+  public JsonProductImportReader(
+      InputStream body, ObjectMapper objectMapper, ProductRequestDtoMapper productRequestDtoMapper)
+      throws IOException {
+    this.parser = objectMapper.createParser(body);
+    this.objectMapper = objectMapper;
+    this.productRequestDtoMapper = productRequestDtoMapper;
+
+    JsonToken first;
+    try {
+      first = parser.nextToken();
+    } catch (JsonProcessingException e) {
+      first = null;
+    }
+    if (first != JsonToken.START_ARRAY) {
+      throw new InvalidImportPayloadException("Payload must be a JSON array of products");
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null && !finished) {
+      next = readNext();
+    }
+    return next != null;
+  }
+
+  @Override
+  public ProductImportRow next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    ProductImportRow current = next;
+    next = null;
+    return current;
+  }
+
+  @Override
+  public void close() throws IOException {
+    parser.close();
+  }
+
+  private ProductImportRow readNext() {
+    long current = row + 1;
+    try {
+      JsonToken token = parser.nextToken();
+      if (token == null || token == JsonToken.END_ARRAY) {
+        finished = true;
+        return null;
+      }
+      row = current;
+      JsonNode element = objectMapper.readTree(parser);
+      return toRow(element);
+    } catch (IOException e) {
+      finished = true;
+      return ProductImportRow.unparsable(current, "Malformed JSON: " + originalMessage(e));
+    }
+  }
+
+  private ProductImportRow toRow(JsonNode element) {
+    try {
+      ProductRequestDto dto = objectMapper.treeToValue(element, ProductRequestDto.class);
+      if (dto == null) {
+        return ProductImportRow.unparsable(row, "Product cannot be null");
+      }
+      return ProductImportRow.parsed(row, productRequestDtoMapper.toDomain(dto));
+    } catch (JsonProcessingException e) {
+      return ProductImportRow.unparsable(row, "Invalid product: " + e.getOriginalMessage());
+    }
+  }
+
+  private static String originalMessage(IOException e) {
+    return e instanceof JsonProcessingException processingException
+        ? processingException.getOriginalMessage()
+        : e.getMessage();
+  }
+}
@@ -1,72 +1,289 @@
 package com.zen.ala.infrastructure.web.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.zen.ala.domain.error.InvalidDiscountStrategyException;
+import com.zen.ala.domain.error.InvalidPageRequestException;
+import com.zen.ala.domain.model.PriceQuote;
 import com.zen.ala.domain.model.Product;
+import com.zen.ala.domain.model.ProductImportResult;
+import com.zen.ala.domain.model.ProductLookup;
+import com.zen.ala.domain.model.ProductPage;
 import com.zen.ala.domain.port.in.ProductInboundPort;
+import com.zen.ala.infrastructure.web.binary.ProductBinaryCodec;
+import com.zen.ala.infrastructure.web.binary.ProductBinaryHttpMessageConverter;
+import com.zen.ala.infrastructure.web.bulk.BinaryProductImportReader;
+import com.zen.ala.infrastructure.web.bulk.CsvProductImportReader;
+import com.zen.ala.infrastructure.web.bulk.JsonProductImportReader;
+import com.zen.ala.infrastructure.web.dto.PriceQuoteRequestDto;
+import com.zen.ala.infrastructure.web.dto.PriceQuoteResponseDto;
+import com.zen.ala.infrastructure.web.dto.ProductImportResponseDto;
+import com.zen.ala.infrastructure.web.dto.ProductLookupRequestDto;
+import com.zen.ala.infrastructure.web.dto.ProductLookupResponseDto;
 import com.zen.ala.infrastructure.web.dto.ProductRequestDto;
 import com.zen.ala.infrastructure.web.dto.ProductResponseDto;
+import com.zen.ala.infrastructure.web.json.EncodedJson;
+import com.zen.ala.infrastructure.web.json.ProductJsonCache;
+import com.zen.ala.infrastructure.web.mapper.PriceQuoteDtoMapper;
+import com.zen.ala.infrastructure.web.mapper.ProductImportDtoMapper;
+import com.zen.ala.infrastructure.web.mapper.ProductLookupDtoMapper;
 import com.zen.ala.infrastructure.web.mapper.ProductRequestDtoMapper;
 import com.zen.ala.infrastructure.web.mapper.ProductResponseDtoMapper;
+import com.zen.ala.infrastructure.web.pagination.ProductCursor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/v1/products")
 @RequiredArgsConstructor
 public class ProductController {
 
+  public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+  public static final String TEXT_CSV_VALUE = "text/csv";
+  static final int MAX_PAGE_SIZE = 1000;
+  static final String BINARY_ETAG_SUFFIX = "-binary";
+
   private final ProductInboundPort productInboundPort;
   private final ProductRequestDtoMapper productRequestDtoMapper;
   private final ProductResponseDtoMapper productResponseDtoMapper;
+  private final PriceQuoteDtoMapper priceQuoteDtoMapper;
+  private final ProductImportDtoMapper productImportDtoMapper;
+  private final ProductLookupDtoMapper productLookupDtoMapper;
+  private final ObjectMapper objectMapper;
+  private final CacheControl productCacheControl;
+  private final ProductJsonCache productJsonCache;
 
   @Operation(
       summary = "Get product by ID",
-      description = "Retrieves a single product by its UUID.",
+      description =
+          "Retrieves a single product by its UUID. The ETag reflects the product version; a request"
+              + " whose If-None-Match matches it is answered with 304 Not Modified.",
       responses = {
         @ApiResponse(
             responseCode = "200",
             description = "Product found",
             content = @Content(schema = @Schema(implementation = ProductResponseDto.class))),
+        @ApiResponse(responseCode = "304", description = "Product not modified"),
         @ApiResponse(responseCode = "404", description = "Product not found")
       })
   @GetMapping("/{id}")
-  public ResponseEntity<ProductResponseDto> getById(
+  public ResponseEntity<?> getById(
       @Parameter(
               description = "UUID of the product",
               example = "08c0a9b8-79c6-4aac-95be-d768f74abf9d")
           @PathVariable
-          UUID id) {
+          UUID id,
+      WebRequest webRequest) {
+    // a known version answers a matching If-None-Match, or one with cached JSON, without loading
+    // the product
+    Long knownVersion = productInboundPort.getKnownProductVersion(id);
+    boolean binary = acceptsBinary(webRequest);
+    if (knownVersion != null) {
+      String eTag = productETag(knownVersion, binary);
+      if (webRequest.checkNotModified(eTag)) {
+        return notModified(eTag, true);
+      }
+      EncodedJson cached = binary ? null : productJsonCache.getIfPresent(id, knownVersion);
+      if (cached != null) {
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .varyBy(HttpHeaders.ACCEPT)
+            .cacheControl(productCacheControl)
+            .body(cached);
+      }
+    }
+
     Product product = productInboundPort.getProductById(id);
-    return ResponseEntity.ok(productResponseDtoMapper.toDto(product));
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).cacheControl(productCacheControl);
+    if (product.getVersion() != null) {
+      // still answered with 304 if it matches, without encoding the body
+      response.eTag(productETag(product.getVersion(), binary));
+    }
+    return binary
+        ? response.body(productResponseDtoMapper.toDto(product))
+        : response.body(productJsonCache.encode(product));
   }
 
   @Operation(
-      summary = "Get all products",
-      description = "Retrieves all products available in the system.",
+      summary = "Get products",
+      description =
+          "Retrieves a page of products ordered by id. When more products follow, the response"
+              + " carries an opaque continuation token in the X-Next-Cursor header that can be"
+              + " passed back as the cursor parameter. The ETag reflects the catalog version; a"
+              + " request whose If-None-Match matches it is answered with 304 Not Modified.",
       responses = {
         @ApiResponse(
             responseCode = "200",
-            description = "List of products retrieved",
-            content = @Content(schema = @Schema(implementation = ProductResponseDto.class)))
+            description = "Page of products retrieved",
+            content =
+                @Content(
+                    array =
+                        @ArraySchema(
+                            schema = @Schema(implementation = ProductResponseDto.class)))),
+        @ApiResponse(responseCode = "304", description = "Catalog not modified"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit or cursor")
       })
   @GetMapping
-  public ResponseEntity<List<ProductResponseDto>> getAll() {
-    List<ProductResponseDto> productDtos =
-        productInboundPort.getAllProducts().stream()
-            .map(productResponseDtoMapper::toDto)
-            .collect(Collectors.toList());
-    return ResponseEntity.ok(productDtos);
+  public ResponseEntity<?> getAll(
+      @Parameter(description = "Maximum number of products on the page", example = "100")
+          @RequestParam(defaultValue = "100")
+          int limit,
+      @Parameter(description = "Continuation token returned by the previous page")
+          @RequestParam(required = false)
+          String cursor,
+      WebRequest webRequest) {
+    if (limit < 1 || limit > MAX_PAGE_SIZE) {
+      throw new InvalidPageRequestException(
+          "Limit must be between 1 and " + MAX_PAGE_SIZE + ": " + limit);
+    }
+    boolean binary = acceptsBinary(webRequest);
+    // taken before the page is read, so a concurrent write changes the ETag of the next request
+    String eTag = catalogETag(binary);
+    if (webRequest.checkNotModified(eTag)) {
+      return notModified(eTag, true);
+    }
+
+    ProductPage page = productInboundPort.getProductPage(ProductCursor.decode(cursor), limit);
+
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).cacheControl(productCacheControl);
+    if (page.nextCursor() != null) {
+      response.header(NEXT_CURSOR_HEADER, ProductCursor.encode(page.nextCursor()));
+    }
+    if (binary) {
+      return response.body(page.products().stream().map(productResponseDtoMapper::toDto).toList());
+    }
+    return response.body(productJsonCache.encodeAll(page.products()));
+  }
+
+  @Operation(
+      summary = "Get products by IDs",
+      description =
+          "Retrieves many products by their UUIDs with a single lookup. Products come back in the"
+              + " order of the requested ids; ids without a product are listed in missingIds. The"
+              + " ETag reflects the catalog version, as for the product pages.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Products retrieved",
+            content = @Content(schema = @Schema(implementation = ProductLookupResponseDto.class))),
+        @ApiResponse(responseCode = "304", description = "Catalog not modified"),
+        @ApiResponse(responseCode = "400", description = "No ids or too many ids")
+      })
+  @GetMapping(params = "ids")
+  public ResponseEntity<ProductLookupResponseDto> getByIds(
+      @Parameter(
+              description = "Comma-separated UUIDs of the products",
+              example = "08c0a9b8-79c6-4aac-95be-d768f74abf9d")
+          @RequestParam
+          List<UUID> ids,
+      WebRequest webRequest) {
+    String eTag = catalogETag(false);
+    if (webRequest.checkNotModified(eTag)) {
+      return notModified(eTag, false);
+    }
+    ProductLookup lookup = productInboundPort.getProductsByIds(ids);
+    return ResponseEntity.ok()
+        .eTag(eTag)
+        .cacheControl(productCacheControl)
+        .body(productLookupDtoMapper.toDto(lookup));
+  }
+
+  @Operation(
+      summary = "Look up products by IDs",
+      description = "Same as GET /v1/products?ids= for id lists too long for a URL.",
+      requestBody =
+          @io.swagger.v3.oas.annotations.parameters.RequestBody(
+              description = "Product ids",
+              required = true,
+              content =
+                  @Content(
+                      schema = @Schema(implementation = ProductLookupRequestDto.class),
+                      examples =
+                          @ExampleObject(
+                              value =
+                                  """
+                                            {
+                                              "ids": ["08c0a9b8-79c6-4aac-95be-d768f74abf9d"]
+                                            }
+                                            """))),
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Products retrieved",
+            content = @Content(schema = @Schema(implementation = ProductLookupResponseDto.class))),
+        @ApiResponse(responseCode = "400", description = "No ids or too many ids")
+      })
+  @PostMapping("/lookup")
+  public ResponseEntity<ProductLookupResponseDto> lookup(
+      @RequestBody ProductLookupRequestDto request) {
+    List<UUID> ids = request.ids() != null ? request.ids() : List.of();
+    ProductLookup lookup = productInboundPort.getProductsByIds(ids);
+    return ResponseEntity.ok(productLookupDtoMapper.toDto(lookup));
+  }
+
+  @Operation(
+      summary = "Export all products",
+      description =
+          "Streams the whole catalog as newline-delimited JSON, one product per line. Products are"
+              + " written while they are read from the database, so the export does not buffer the"
+              + " catalog in memory.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Catalog exported",
+            content =
+                @Content(
+                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = ProductResponseDto.class)))
+      })
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public void exportProducts(HttpServletResponse response) throws IOException {
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    ObjectWriter writer =
+        objectMapper
+            .writerFor(ProductResponseDto.class)
+            .withRootValueSeparator("\n")
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    try (JsonGenerator generator = writer.createGenerator(response.getOutputStream())) {
+      productInboundPort.exportProducts(
+          product -> {
+            try {
+              writer.writeValue(generator, productResponseDtoMapper.toDto(product));
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+      if (generator.getOutputContext().getEntryCount() > 0) {
+        generator.writeRaw('\n');
+      }
+    }
   }
 
   @Operation(
@@ -102,9 +319,119 @@ public class ProductController {
     return ResponseEntity.ok(productResponseDtoMapper.toDto(product));
   }
 
+  @Operation(
+      summary = "Import products from a JSON array",
+      description =
+          "Creates many products at once. The array is read element by element and persisted in"
+              + " batched transactions; rows that cannot be imported are reported without aborting"
+              + " the import.",
+      requestBody =
+          @io.swagger.v3.oas.annotations.parameters.RequestBody(
+              description = "Products to create",
+              required = true,
+              content =
+                  @Content(
+                      mediaType = MediaType.APPLICATION_JSON_VALUE,
+                      array =
+                          @ArraySchema(schema = @Schema(implementation = ProductRequestDto.class)),
+                      examples =
+                          @ExampleObject(
+                              value =
+                                  """
+                                            [
+                                              { "name": "Product 1", "price": 100.0 },
+                                              { "name": "Product 2", "price": 120.0 }
+                                            ]
+                                            """))),
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import finished, failed rows included",
+            content = @Content(schema = @Schema(implementation = ProductImportResponseDto.class))),
+        @ApiResponse(responseCode = "400", description = "Payload is not a JSON array")
+      })
+  @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<ProductImportResponseDto> importProducts(InputStream body)
+      throws IOException {
+    try (JsonProductImportReader rows =
+        new JsonProductImportReader(body, objectMapper, productRequestDtoMapper)) {
+      ProductImportResult result = productInboundPort.importProducts(rows);
+      return ResponseEntity.ok(productImportDtoMapper.toDto(result));
+    }
+  }
+
+  @Operation(
+      summary = "Import products in the binary format",
+      description =
+          "Creates many products at once from products in the compact binary format, one after"
+              + " the other up to the end of the body. Products are read one by one and persisted"
+              + " in batched transactions; rows that cannot be imported are reported without"
+              + " aborting the import.",
+      requestBody =
+          @io.swagger.v3.oas.annotations.parameters.RequestBody(
+              description = "Products to create",
+              required = true,
+              content = @Content(mediaType = ProductBinaryCodec.MEDIA_TYPE)),
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import finished, failed rows included",
+            content = @Content(schema = @Schema(implementation = ProductImportResponseDto.class)))
+      })
+  @PostMapping(value = "/bulk", consumes = ProductBinaryCodec.MEDIA_TYPE)
+  public ResponseEntity<ProductImportResponseDto> importProductsBinary(InputStream body)
+      throws IOException {
+    try (BinaryProductImportReader rows =
+        new BinaryProductImportReader(body, productRequestDtoMapper)) {
+      ProductImportResult result = productInboundPort.importProducts(rows);
+      return ResponseEntity.ok(productImportDtoMapper.toDto(result));
+    }
+  }
+
+  @Operation(
+      summary = "Import products from CSV",
+      description =
+          "Creates many products at once from CSV with a header naming the name and price"
+              + " columns. Lines are read one by one and persisted in batched transactions; lines"
+              + " that cannot be imported are reported by line number without aborting the import.",
+      requestBody =
+          @io.swagger.v3.oas.annotations.parameters.RequestBody(
+              description = "Products to create",
+              required = true,
+              content =
+                  @Content(
+                      mediaType = TEXT_CSV_VALUE,
+                      examples =
+                          @ExampleObject(
+                              value =
+                                  """
+                                            name,price
+                                            Product 1,100.0
+                                            "Product 2, large",120.0
+                                            """))),
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import finished, failed rows included",
+            content = @Content(schema = @Schema(implementation = ProductImportResponseDto.class))),
+        @ApiResponse(responseCode = "400", description = "Header lacks the name or price column")
+      })
+  @PostMapping(value = "/bulk", consumes = TEXT_CSV_VALUE)
+  public ResponseEntity<ProductImportResponseDto> importProductsCsv(InputStream body)
+      throws IOException {
+    try (CsvProductImportReader rows = new CsvProductImportReader(body, productRequestDtoMapper)) {
+      ProductImportResult result = productInboundPort.importProducts(rows);
+      return ResponseEntity.ok(productImportDtoMapper.toDto(result));
+    }
+  }
+
   @Operation(
       summary = "Update a product",
-      description = "Updates an existing product based on its UUID.",
+      description =
+          "Updates an existing product based on its UUID. The update must carry the version"
+              + " returned by a previous read, in the body or as the ETag in If-Match, and only"
+              + " applies if the product is still at that version. If-Match: * overwrites"
+              + " whatever version is current.",
       requestBody =
           @io.swagger.v3.oas.annotations.parameters.RequestBody(
               description = "Updated product details",
@@ -118,7 +445,8 @@ public class ProductController {
                                   """
                                             {
                                               "name": "Updated Product",
-                                              "price": 120.0
+                                              "price": 120.0,
+                                              "version": 3
                                             }
                                             """))),
       responses = {
@@ -126,7 +454,16 @@ public class ProductController {
             responseCode = "200",
             description = "Product updated successfully",
             content = @Content(schema = @Schema(implementation = ProductResponseDto.class))),
-        @ApiResponse(responseCode = "404", description = "Product not found")
+        @ApiResponse(
+            responseCode = "400",
+            description = "If-Match is malformed or disagrees with the version in the body"),
+        @ApiResponse(responseCode = "404", description = "Product not found"),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Product was updated by someone else since the given version"),
+        @ApiResponse(
+            responseCode = "428",
+            description = "Neither the body nor If-Match carries the version")
       })
   @PutMapping("/{id}")
   public ResponseEntity<ProductResponseDto> updateProduct(
@@ -135,9 +472,11 @@ public class ProductController {
               example = "08c0a9b8-79c6-4aac-95be-d768f74abf9d")
           @PathVariable
           UUID id,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
       @RequestBody ProductRequestDto request) {
-    Product product = productRequestDtoMapper.toDomain(id, request);
-    productInboundPort.saveProduct(product);
+    Product product =
+        productRequestDtoMapper.toDomain(id, UpdateVersion.resolve(id, request, ifMatch));
+    product = productInboundPort.updateProduct(product);
     return ResponseEntity.ok(productResponseDtoMapper.toDto(product));
   }
 
@@ -191,10 +530,89 @@ public class ProductController {
           "DiscountType and/or DiscountPolicy cannot be empty");
     }
 
-    Product product = productInboundPort.getProductById(id);
+    BigDecimal unitPrice = productInboundPort.getProductPrice(id);
     BigDecimal finalPrice =
         productInboundPort.calculateDiscountedPrice(
-            product.getPrice(), quantity, discountType, discountPolicy);
+            unitPrice, quantity, discountType, discountPolicy);
     return ResponseEntity.ok(finalPrice);
   }
+
+  @Operation(
+      summary = "Calculate prices for many products",
+      description =
+          "Calculates the total price of every line applying its discount strategy. All products"
+              + " are fetched at once; lines that cannot be priced carry an error instead.",
+      requestBody =
+          @io.swagger.v3.oas.annotations.parameters.RequestBody(
+              description = "Price quote lines",
+              required = true,
+              content =
+                  @Content(
+                      array =
+                          @ArraySchema(
+                              schema = @Schema(implementation = PriceQuoteRequestDto.class)),
+                      examples =
+                          @ExampleObject(
+                              value =
+                                  """
+                                            [
+                                              {
+                                                "productId": "08c0a9b8-79c6-4aac-95be-d768f74abf9d",
+                                                "quantity": 10,
+                                                "discountType": "BOTH",
+                                                "discountPolicy": "CUMULATIVE"
+                                              }
+                                            ]
+                                            """))),
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Prices calculated, per-line errors included",
+            content =
+                @Content(
+                    array =
+                        @ArraySchema(
+                            schema = @Schema(implementation = PriceQuoteResponseDto.class))))
+      })
+  @PostMapping("/calculate-prices")
+  public ResponseEntity<List<PriceQuoteResponseDto>> calculatePrices(
+      @RequestBody List<PriceQuoteRequestDto> request) {
+    List<PriceQuote> quotes =
+        productInboundPort.calculateDiscountedPrices(priceQuoteDtoMapper.toDomain(request));
+    return ResponseEntity.ok(priceQuoteDtoMapper.toDto(quotes));
+  }
+
+  private <T> ResponseEntity<T> notModified(String eTag, boolean varyByAccept) {
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(productCacheControl);
+    if (varyByAccept) {
+      response.varyBy(HttpHeaders.ACCEPT);
+    }
+    return response.build();
+  }
+
+  // JSON is served from the encoded JSON cache, only an explicit request for the binary format
+  // needs DTOs
+  private static boolean acceptsBinary(WebRequest webRequest) {
+    String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+    if (accept == null || !accept.contains(ProductBinaryCodec.MEDIA_TYPE)) {
+      return false;
+    }
+    return MediaType.parseMediaTypes(accept).stream()
+        .anyMatch(type -> type.equalsTypeAndSubtype(ProductBinaryHttpMessageConverter.MEDIA_TYPE));
+  }
+
+  // the binary and JSON representations of the same version carry different ETags, so a cache or
+  // a conditional request never confirms one with the other
+  private String catalogETag(boolean binary) {
+    return eTag(productInboundPort.getCatalogVersion(), binary);
+  }
+
+  private static String productETag(long version, boolean binary) {
+    return eTag(String.valueOf(version), binary);
+  }
+
+  private static String eTag(String version, boolean binary) {
+    return binary ? "\"" + version + BINARY_ETAG_SUFFIX + "\"" : "\"" + version + "\"";
+  }
 }
@@ -0,0 +1,134 @@
+package com.zen.ala.infrastructure.web.controller;
+
+import com.zen.ala.domain.error.InvalidPageRequestException;
+import com.zen.ala.domain.port.in.ReactiveProductInboundPort;
+import com.zen.ala.infrastructure.web.dto.PriceQuoteRequestDto;
+import com.zen.ala.infrastructure.web.dto.PriceQuoteResponseDto;
+import com.zen.ala.infrastructure.web.dto.ProductLookupRequestDto;
+import com.zen.ala.infrastructure.web.dto.ProductLookupResponseDto;
+import com.zen.ala.infrastructure.web.dto.ProductRequestDto;
+import com.zen.ala.infrastructure.web.dto.ProductResponseDto;
+import com.zen.ala.infrastructure.web.mapper.PriceQuoteDtoMapper;
+import com.zen.ala.infrastructure.web.mapper.ProductLookupDtoMapper;
+import com.zen.ala.infrastructure.web.mapper.ProductRequestDtoMapper;
+import com.zen.ala.infrastructure.web.mapper.ProductResponseDtoMapper;
+import com.zen.ala.infrastructure.web.pagination.ProductCursor;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link ProductController}, active with the {@code reactive} profile.
+ *
+ * <p>Serves the same paths, parameters and payloads on WebFlux, so clients cannot tell the stacks
+ * apart; the API documentation lives on {@link ProductController}. The export is streamed with
+ * backpressure: products are read from the database only as fast as the client consumes them.
+ * Bulk imports are only available on the servlet stack.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/v1/products")
+@RequiredArgsConstructor
+public class ReactiveProductController {
+
+  private final ReactiveProductInboundPort productInboundPort;
+  private final ProductRequestDtoMapper productRequestDtoMapper;
+  private final ProductResponseDtoMapper productResponseDtoMapper;
+  private final PriceQuoteDtoMapper priceQuoteDtoMapper;
+  private final ProductLookupDtoMapper productLookupDtoMapper;
+
+  @GetMapping("/{id}")
+  public Mono<ProductResponseDto> getById(@PathVariable UUID id) {
+    return productInboundPort.getProductById(id).map(productResponseDtoMapper::toDto);
+  }
+
+  @GetMapping
+  public Mono<ResponseEntity<List<ProductResponseDto>>> getAll(
+      @RequestParam(defaultValue = "100") int limit,
+      @RequestParam(required = false) String cursor) {
+    if (limit < 1 || limit > ProductController.MAX_PAGE_SIZE) {
+      return Mono.error(
+          new InvalidPageRequestException(
+              "Limit must be between 1 and " + ProductController.MAX_PAGE_SIZE + ": " + limit));
+    }
+
+    return Mono.fromCallable(() -> ProductCursor.decode(cursor))
+        .flatMap(after -> productInboundPort.getProductPage(after, limit))
+        .map(
+            page -> {
+              ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+              if (page.nextCursor() != null) {
+                response.header(
+                    ProductController.NEXT_CURSOR_HEADER, ProductCursor.encode(page.nextCursor()));
+              }
+              return response.body(
+                  page.products().stream().map(productResponseDtoMapper::toDto).toList());
+            });
+  }
+
+  @GetMapping(params = "ids")
+  public Mono<ProductLookupResponseDto> getByIds(@RequestParam List<UUID> ids) {
+    return productInboundPort.getProductsByIds(ids).map(productLookupDtoMapper::toDto);
+  }
+
+  @PostMapping("/lookup")
+  public Mono<ProductLookupResponseDto> lookup(@RequestBody ProductLookupRequestDto request) {
+    List<UUID> ids = request.ids() != null ? request.ids() : List.of();
+    return productInboundPort.getProductsByIds(ids).map(productLookupDtoMapper::toDto);
+  }
+
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public Flux<ProductResponseDto> exportProducts() {
+    return productInboundPort.getAllProducts().map(productResponseDtoMapper::toDto);
+  }
+
+  @PostMapping
+  public Mono<ProductResponseDto> createProduct(@RequestBody ProductRequestDto request) {
+    return productInboundPort
+        .saveProduct(productRequestDtoMapper.toDomain(request))
+        .map(productResponseDtoMapper::toDto);
+  }
+
+  @PutMapping("/{id}")
+  public Mono<ProductResponseDto> updateProduct(
+      @PathVariable UUID id,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+      @RequestBody ProductRequestDto request) {
+    return Mono.fromCallable(
+            () -> productRequestDtoMapper.toDomain(id, UpdateVersion.resolve(id, request, ifMatch)))
+        .flatMap(productInboundPort::updateProduct)
+        .map(productResponseDtoMapper::toDto);
+  }
+
+  @DeleteMapping("/{id}")
+  public Mono<ResponseEntity<Void>> deleteProduct(@PathVariable UUID id) {
+    return productInboundPort
+        .deleteProduct(id)
+        .then(Mono.fromSupplier(() -> ResponseEntity.noContent().<Void>build()));
+  }
+
+  @GetMapping("/{id}/calculate-price")
+  public Mono<BigDecimal> calculatePrice(
+      @PathVariable UUID id,
+      @RequestParam int quantity,
+      @RequestParam String discountType,
+      @RequestParam String discountPolicy) {
+    return productInboundPort.calculateDiscountedPrice(id, quantity, discountType, discountPolicy);
+  }
+
+  @PostMapping("/calculate-prices")
+  public Mono<List<PriceQuoteResponseDto>> calculatePrices(
+      @RequestBody List<PriceQuoteRequestDto> request) {
+    return productInboundPort
+        .calculateDiscountedPrices(priceQuoteDtoMapper.toDomain(request))
+        .map(priceQuoteDtoMapper::toDto);
+  }
+}
@@ -0,0 +1,70 @@
+package com.zen.ala.infrastructure.web.controller;
+
+import com.zen.ala.domain.error.InvalidUpdateRequestException;
+import com.zen.ala.domain.error.ProductVersionRequiredException;
+import com.zen.ala.infrastructure.web.dto.ProductRequestDto;
+import java.util.UUID;
+
+/**
+ * Resolves the version a product update is based on, shared by both controllers.
+ *
+ * <p>The version comes from the request body or from an {@code If-Match} header holding the ETag
+ * of a previous read, in its JSON or binary form. When both are given they must agree. An update
+ * without either is rejected; {@code If-Match: *} is the explicit opt-in to overwrite whatever
+ * version is current.
+ */
+final class UpdateVersion {
+
+  static final String ANY = "*";
+
+  private UpdateVersion() {}
+
+  /**
+   * Returns the request with its version resolved, null only when the client opted in to
+   * overwriting the latest version.
+   */
+  static ProductRequestDto resolve(UUID id, ProductRequestDto request, String ifMatch) {
+    Long fromHeader = ifMatch == null || ANY.equals(ifMatch.trim()) ? null : parse(ifMatch);
+    if (request.version() != null) {
+      if (fromHeader != null && !fromHeader.equals(request.version())) {
+        throw new InvalidUpdateRequestException(
+            "Version "
+                + request.version()
+                + " in the body does not match If-Match "
+                + ifMatch.trim()
+                + ".");
+      }
+      return request;
+    }
+    if (fromHeader != null) {
+      return new ProductRequestDto(request.name(), request.price(), fromHeader);
+    }
+    if (ifMatch == null) {
+      throw new ProductVersionRequiredException(id);
+    }
+    return request;
+  }
+
+  // only a single strong product ETag names a version; weak tags never match under If-Match
+  private static long parse(String ifMatch) {
+    String tag = ifMatch.trim();
+    if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+      throw invalid(tag);
+    }
+    String version = tag.substring(1, tag.length() - 1);
+    if (version.endsWith(ProductController.BINARY_ETAG_SUFFIX)) {
+      version =
+          version.substring(0, version.length() - ProductController.BINARY_ETAG_SUFFIX.length());
+    }
+    try {
+      return Long.parseLong(version);
+    } catch (NumberFormatException e) {
+      throw invalid(tag);
+    }
+  }
+
+  private static InvalidUpdateRequestException invalid(String tag) {
+    return new InvalidUpdateRequestException(
+        "If-Match must be a single product ETag or *: " + tag);
+  }
+}
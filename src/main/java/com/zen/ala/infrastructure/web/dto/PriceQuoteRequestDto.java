@@ -0,0 +1,15 @@
+package com.zen.ala.infrastructure.web.dto;
+
+import java.util.UUID;
+
+/**
+ * PriceQuoteRequestDto is a data transfer object that represents a single line of a bulk price
+ * quote request.
+ *
+ * @param productId the unique identifier of the product
+ * @param quantity the quantity of the product
+ * @param discountType the discount type (QUANTITY, PERCENTAGE, BOTH)
+ * @param discountPolicy the discount policy (CUMULATIVE, HIGHEST)
+ */
+public record PriceQuoteRequestDto(
+    UUID productId, int quantity, String discountType, String discountPolicy) {}
@@ -0,0 +1,23 @@
+package com.zen.ala.infrastructure.web.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * PriceQuoteResponseDto is a data transfer object that represents a single line of a bulk price
+ * quote response.
+ *
+ * @param productId the unique identifier of the product
+ * @param quantity the quantity of the product
+ * @param discountType the requested discount type
+ * @param discountPolicy the requested discount policy
+ * @param price the calculated price, null if the line could not be priced
+ * @param error the reason the line could not be priced, null otherwise
+ */
+public record PriceQuoteResponseDto(
+    UUID productId,
+    int quantity,
+    String discountType,
+    String discountPolicy,
+    BigDecimal price,
+    String error) {}
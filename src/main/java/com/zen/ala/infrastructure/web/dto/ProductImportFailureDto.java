@@ -0,0 +1,10 @@
+package com.zen.ala.infrastructure.web.dto;
+
+/**
+ * ProductImportFailureDto is a data transfer object that represents a row of a bulk import that
+ * was not imported.
+ *
+ * @param row the array index (JSON) or line number (CSV) of the row, starting at 1
+ * @param error the reason the row was not imported
+ */
+public record ProductImportFailureDto(long row, String error) {}
@@ -0,0 +1,12 @@
+package com.zen.ala.infrastructure.web.dto;
+
+import java.util.List;
+
+/**
+ * ProductImportResponseDto is a data transfer object that represents the outcome of a bulk
+ * product import.
+ *
+ * @param imported the number of imported products
+ * @param failures the rows that were not imported, in payload order
+ */
+public record ProductImportResponseDto(long imported, List<ProductImportFailureDto> failures) {}
@@ -0,0 +1,12 @@
+package com.zen.ala.infrastructure.web.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ProductLookupRequestDto is a data transfer object that represents a request for many products by
+ * id.
+ *
+ * @param ids the unique identifiers of the products
+ */
+public record ProductLookupRequestDto(List<UUID> ids) {}
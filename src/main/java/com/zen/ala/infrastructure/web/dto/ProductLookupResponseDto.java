@@ -0,0 +1,13 @@
+package com.zen.ala.infrastructure.web.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ProductLookupResponseDto is a data transfer object that represents the products found for a
+ * list of ids.
+ *
+ * @param products the found products, in request order
+ * @param missingIds the requested ids without a product, in request order
+ */
+public record ProductLookupResponseDto(List<ProductResponseDto> products, List<UUID> missingIds) {}
@@ -7,5 +7,11 @@ import java.math.BigDecimal;
  *
  * @param name the name of the product
  * @param price the price of the product
+ * @param version the version the update is based on, required on update unless If-Match carries it
  */
-public record ProductRequestDto(String name, BigDecimal price) {}
+public record ProductRequestDto(String name, BigDecimal price, Long version) {
+
+  public ProductRequestDto(String name, BigDecimal price) {
+    this(name, price, null);
+  }
+}
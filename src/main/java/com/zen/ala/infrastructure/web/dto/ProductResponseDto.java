@@ -9,5 +9,11 @@ import java.util.UUID;
  * @param id the unique identifier of the product
  * @param name the name of the product
  * @param price the price of the product
+ * @param version the version of the product, null if unknown
  */
-public record ProductResponseDto(UUID id, String name, BigDecimal price) {}
+public record ProductResponseDto(UUID id, String name, BigDecimal price, Long version) {
+
+  public ProductResponseDto(UUID id, String name, BigDecimal price) {
+    this(id, name, price, null);
+  }
+}
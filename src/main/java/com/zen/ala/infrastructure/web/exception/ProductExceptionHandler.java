@@ -1,9 +1,16 @@
 package com.zen.ala.infrastructure.web.exception;
 
 import com.zen.ala.domain.error.InvalidDiscountStrategyException;
+import com.zen.ala.domain.error.InvalidImportPayloadException;
+import com.zen.ala.domain.error.InvalidLookupRequestException;
+import com.zen.ala.domain.error.InvalidPageRequestException;
+import com.zen.ala.domain.error.InvalidUpdateRequestException;
 import com.zen.ala.domain.error.ProductNotFoundException;
+import com.zen.ala.domain.error.ProductVersionConflictException;
+import com.zen.ala.domain.error.ProductVersionRequiredException;
 import java.time.Instant;
 import java.util.Map;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -30,6 +37,47 @@ public class ProductExceptionHandler {
         .body(errorResponse(ex.getMessage(), HttpStatus.NOT_FOUND));
   }
 
+  /**
+   * Handles ProductVersionConflictException and returns a 409 Conflict response.
+   *
+   * @param ex the exception thrown
+   * @return a ResponseEntity with the error message and HTTP status
+   */
+  @ExceptionHandler(ProductVersionConflictException.class)
+  public ResponseEntity<Map<String, Object>> handleProductVersionConflict(
+      ProductVersionConflictException ex) {
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+        .body(errorResponse(ex.getMessage(), HttpStatus.CONFLICT));
+  }
+
+  /**
+   * Handles ProductVersionRequiredException and returns a 428 Precondition Required response.
+   *
+   * @param ex the exception thrown
+   * @return a ResponseEntity with the error message and HTTP status
+   */
+  @ExceptionHandler(ProductVersionRequiredException.class)
+  public ResponseEntity<Map<String, Object>> handleProductVersionRequired(
+      ProductVersionRequiredException ex) {
+    return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED)
+        .body(errorResponse(ex.getMessage(), HttpStatus.PRECONDITION_REQUIRED));
+  }
+
+  /**
+   * Handles OptimisticLockingFailureException raised by Hibernate version checks and returns a 409
+   * Conflict response.
+   *
+   * @param ex the exception thrown
+   * @return a ResponseEntity with the error message and HTTP status
+   */
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailure(
+      OptimisticLockingFailureException ex) {
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+        .body(
+            errorResponse("Product was modified concurrently, retry.", HttpStatus.CONFLICT));
+  }
+
   /**
    * Handles InvalidDiscountStrategyException and returns a 400 Bad Request response.
    *
@@ -43,6 +91,58 @@ public class ProductExceptionHandler {
         .body(errorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST));
   }
 
+  /**
+   * Handles InvalidPageRequestException and returns a 400 Bad Request response.
+   *
+   * @param ex the exception thrown
+   * @return a ResponseEntity with the error message and HTTP status
+   */
+  @ExceptionHandler(InvalidPageRequestException.class)
+  public ResponseEntity<Map<String, Object>> handleInvalidPageRequest(
+      InvalidPageRequestException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .body(errorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST));
+  }
+
+  /**
+   * Handles InvalidLookupRequestException and returns a 400 Bad Request response.
+   *
+   * @param ex the exception thrown
+   * @return a ResponseEntity with the error message and HTTP status
+   */
+  @ExceptionHandler(InvalidLookupRequestException.class)
+  public ResponseEntity<Map<String, Object>> handleInvalidLookupRequest(
+      InvalidLookupRequestException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .body(errorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST));
+  }
+
+  /**
+   * Handles InvalidImportPayloadException and returns a 400 Bad Request response.
+   *
+   * @param ex the exception thrown
+   * @return a ResponseEntity with the error message and HTTP status
+   */
+  @ExceptionHandler(InvalidImportPayloadException.class)
+  public ResponseEntity<Map<String, Object>> handleInvalidImportPayload(
+      InvalidImportPayloadException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .body(errorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST));
+  }
+
+  /**
+   * Handles InvalidUpdateRequestException and returns a 400 Bad Request response.
+   *
+   * @param ex the exception thrown
+   * @return a ResponseEntity with the error message and HTTP status
+   */
+  @ExceptionHandler(InvalidUpdateRequestException.class)
+  public ResponseEntity<Map<String, Object>> handleInvalidUpdateRequest(
+      InvalidUpdateRequestException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .body(errorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST));
+  }
+
   /**
    * Handles all other exceptions and returns a 500 Internal Server Error response.
    *
@@ -0,0 +1,103 @@
+package com.zen.ala.infrastructure.web.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A response body that is already encoded as UTF-8 JSON.
+ *
+ * <p>The body is a sequence of buffers that are written out as they are, so a JSON array can be
+ * assembled from cached element fragments without copying them. Buffers may be on or off the heap
+ * and are never modified; every write works on duplicates, so one buffer can be shared by any
+ * number of concurrent responses.
+ */
+public final class EncodedJson {
+
+  private static final ByteBuffer ARRAY_START = ascii("[");
+  private static final ByteBuffer ARRAY_END = ascii("]");
+  private static final ByteBuffer SEPARATOR = ascii(",");
+
+  private final List<ByteBuffer> segments;
+  private final long contentLength;
+
+  private EncodedJson(List<ByteBuffer> segments) {
+    this.segments = segments;
+    long length = 0;
+    for (ByteBuffer segment : segments) {
+      length += segment.remaining();
+    }
+    this.contentLength = length;
+  }
+
+  /**
+   * Wraps a single encoded JSON value.
+   *
+   * @param json the encoded value
+   * @return the body
+   */
+  public static EncodedJson of(ByteBuffer json) {
+    return new EncodedJson(List.of(json));
+  }
+
+  /**
+   * Assembles a JSON array from encoded elements.
+   *
+   * @param elements the encoded elements, in order
+   * @return the body
+   */
+  public static EncodedJson array(List<ByteBuffer> elements) {
+    List<ByteBuffer> segments = new ArrayList<>(elements.size() * 2 + 1);
+    segments.add(ARRAY_START);
+    for (int i = 0; i < elements.size(); i++) {
+      if (i > 0) {
+        segments.add(SEPARATOR);
+      }
+      segments.add(elements.get(i));
+    }
+    segments.add(ARRAY_END);
+    return new EncodedJson(segments);
+  }
+
+  /**
+   * Returns the number of bytes in the body.
+   *
+   * @return the content length
+   */
+  public long contentLength() {
+    return contentLength;
+  }
+
+  /**
+   * Writes the body to a stream.
+   *
+   * @param out the stream to write to, left open
+   * @throws IOException if writing fails
+   */
+  public void writeTo(OutputStream out) throws IOException {
+    WritableByteChannel channel = null;
+    for (ByteBuffer segment : segments) {
+      ByteBuffer buffer = segment.duplicate();
+      if (buffer.hasArray()) {
+        out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        continue;
+      }
+      // off-heap buffers are copied through the channel's transfer buffer
+      if (channel == null) {
+        channel = Channels.newChannel(out);
+      }
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+  }
+
+  private static ByteBuffer ascii(String text) {
+    return ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+  }
+}
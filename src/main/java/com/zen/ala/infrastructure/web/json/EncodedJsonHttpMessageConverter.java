@@ -0,0 +1,50 @@
+package com.zen.ala.infrastructure.web.json;
+
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes {@link EncodedJson} bodies as {@code application/json} without serializing anything.
+ *
+ * <p>Spring Boot registers every {@code HttpMessageConverter} bean ahead of the default converters;
+ * this one only handles {@link EncodedJson}, so every other body still goes through Jackson.
+ */
+@Component
+public class EncodedJsonHttpMessageConverter extends AbstractHttpMessageConverter<EncodedJson> {
+
+  public EncodedJsonHttpMessageConverter() {
+    super(MediaType.APPLICATION_JSON);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return EncodedJson.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  protected boolean canRead(MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected EncodedJson readInternal(
+      Class<? extends EncodedJson> clazz, HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException("Encoded JSON is write-only", inputMessage);
+  }
+
+  @Override
+  protected Long getContentLength(EncodedJson json, MediaType contentType) {
+    return json.contentLength();
+  }
+
+  @Override
+  protected void writeInternal(EncodedJson json, HttpOutputMessage outputMessage)
+      throws IOException {
+    json.writeTo(outputMessage.getBody());
+  }
+}
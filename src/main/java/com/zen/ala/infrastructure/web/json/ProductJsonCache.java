@@ -0,0 +1,145 @@
+package com.zen.ala.infrastructure.web.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.infrastructure.config.ProductJsonCacheProperties;
+import com.zen.ala.infrastructure.web.mapper.ProductResponseDtoMapper;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * Size-bounded cache of products encoded as response JSON, one entry per product.
+ *
+ * <p>Each entry holds the UTF-8 bytes of the {@code ProductResponseDto} of one product version, as
+ * the application's {@link ObjectMapper} writes it, and is only served for that version. A newer
+ * version replaces it on its first read, so writes never reach this cache; the entries of deleted
+ * products are no longer read and are evicted by the size bound. Products without a version are
+ * encoded on every read.
+ *
+ * <p>The cache is bounded by the total size of the encoded JSON, held in heap arrays or, if
+ * configured, in direct buffers outside the heap.
+ */
+@Component
+public class ProductJsonCache {
+
+  /** Name under which the cache metrics are published. */
+  public static final String NAME = "product-json";
+
+  // approximate heap footprint of the key, the entry and the buffer object
+  private static final int ENTRY_OVERHEAD = 128;
+
+  private final boolean enabled;
+  private final boolean offHeap;
+  private final Cache<UUID, Fragment> cache;
+  private final ObjectMapper objectMapper;
+  private final ProductResponseDtoMapper productResponseDtoMapper;
+
+  public ProductJsonCache(
+      ProductJsonCacheProperties properties,
+      ObjectMapper objectMapper,
+      ProductResponseDtoMapper productResponseDtoMapper) {
+    this.enabled = properties.isEnabled();
+    this.offHeap = properties.isOffHeap();
+    this.objectMapper = objectMapper;
+    this.productResponseDtoMapper = productResponseDtoMapper;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(properties.getMaximumSize().toBytes())
+            .weigher((UUID id, Fragment fragment) -> fragment.json().capacity() + ENTRY_OVERHEAD)
+            .executor(Runnable::run)
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * Returns the cached JSON of a product version without encoding it.
+   *
+   * @param id the UUID of the product
+   * @param version the version of the product
+   * @return the encoded product, or null if that version is not cached
+   */
+  public EncodedJson getIfPresent(UUID id, long version) {
+    if (!enabled) {
+      return null;
+    }
+    Fragment fragment = cache.getIfPresent(id);
+    if (fragment == null || fragment.version() != version) {
+      return null;
+    }
+    return EncodedJson.of(fragment.json());
+  }
+
+  /**
+   * Returns the JSON of a product, encoding and caching it on a miss.
+   *
+   * @param product the product
+   * @return the encoded product
+   */
+  public EncodedJson encode(Product product) {
+    return EncodedJson.of(fragment(product));
+  }
+
+  /**
+   * Returns the JSON array of products, assembled from the cached JSON of each product.
+   *
+   * @param products the products, in order
+   * @return the encoded array
+   */
+  public EncodedJson encodeAll(List<Product> products) {
+    List<ByteBuffer> fragments = new ArrayList<>(products.size());
+    for (Product product : products) {
+      fragments.add(fragment(product));
+    }
+    return EncodedJson.array(fragments);
+  }
+
+  /**
+   * Exposes the underlying cache for metrics binding.
+   *
+   * @return the Caffeine cache
+   */
+  public Cache<UUID, ?> getNativeCache() {
+    return cache;
+  }
+
+  private ByteBuffer fragment(Product product) {
+    Long version = product.getVersion();
+    if (!enabled || version == null) {
+      return ByteBuffer.wrap(serialize(product));
+    }
+    Fragment cached = cache.getIfPresent(product.getId());
+    if (cached != null && cached.version() == version) {
+      return cached.json();
+    }
+    ByteBuffer json = allocate(serialize(product));
+    if (cached == null || cached.version() < version) {
+      // a racing reader of an older version may overwrite this, the next read replaces it again
+      cache.put(product.getId(), new Fragment(version, json));
+    }
+    return json;
+  }
+
+  private byte[] serialize(Product product) {
+    try {
+      return objectMapper.writeValueAsBytes(productResponseDtoMapper.toDto(product));
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private ByteBuffer allocate(byte[] json) {
+    if (!offHeap) {
+      return ByteBuffer.wrap(json);
+    }
+    return ByteBuffer.allocateDirect(json.length).put(json).flip();
+  }
+
+  private record Fragment(long version, ByteBuffer json) {}
+}
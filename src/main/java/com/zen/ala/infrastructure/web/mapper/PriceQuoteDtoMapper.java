@@ -0,0 +1,29 @@
+package com.zen.ala.infrastructure.web.mapper;
+
+import com.zen.ala.domain.model.PriceQuote;
+import com.zen.ala.domain.model.PriceQuoteRequest;
+import com.zen.ala.infrastructure.web.dto.PriceQuoteRequestDto;
+import com.zen.ala.infrastructure.web.dto.PriceQuoteResponseDto;
+import java.util.List;
+import org.mapstruct.Mapper;
+
+/**
+ * PriceQuoteDtoMapper is an interface that defines methods for mapping between price quote DTOs
+ * and the PriceQuoteRequest and PriceQuote domain models.
+ *
+ * <p>This interface uses MapStruct to generate the implementation at compile time.
+ *
+ * @see PriceQuote
+ * @see PriceQuoteRequest
+ */
+@Mapper(componentModel = "spring")
+public interface PriceQuoteDtoMapper {
+
+  PriceQuoteRequest toDomain(PriceQuoteRequestDto dto);
+
+  List<PriceQuoteRequest> toDomain(List<PriceQuoteRequestDto> dtos);
+
+  PriceQuoteResponseDto toDto(PriceQuote quote);
+
+  List<PriceQuoteResponseDto> toDto(List<PriceQuote> quotes);
+}
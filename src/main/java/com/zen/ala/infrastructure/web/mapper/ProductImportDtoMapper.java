@@ -0,0 +1,24 @@
+package com.zen.ala.infrastructure.web.mapper;
+
+import com.zen.ala.domain.model.ProductImportFailure;
+import com.zen.ala.domain.model.ProductImportResult;
+import com.zen.ala.infrastructure.web.dto.ProductImportFailureDto;
+import com.zen.ala.infrastructure.web.dto.ProductImportResponseDto;
+import org.mapstruct.Mapper;
+
+/**
+ * ProductImportDtoMapper is an interface that defines methods for mapping the ProductImportResult
+ * domain model to its response DTO.
+ *
+ * <p>This interface uses MapStruct to generate the implementation at compile time.
+ *
+ * @see ProductImportResult
+ * @see ProductImportResponseDto
+ */
+@Mapper(componentModel = "spring")
+public interface ProductImportDtoMapper {
+
+  ProductImportResponseDto toDto(ProductImportResult result);
+
+  ProductImportFailureDto toDto(ProductImportFailure failure);
+}
@@ -0,0 +1,20 @@
+package com.zen.ala.infrastructure.web.mapper;
+
+import com.zen.ala.domain.model.ProductLookup;
+import com.zen.ala.infrastructure.web.dto.ProductLookupResponseDto;
+import org.mapstruct.Mapper;
+
+/**
+ * ProductLookupDtoMapper is an interface that defines methods for mapping the ProductLookup
+ * domain model to its response DTO.
+ *
+ * <p>This interface uses MapStruct to generate the implementation at compile time.
+ *
+ * @see ProductLookup
+ * @see ProductLookupResponseDto
+ */
+@Mapper(componentModel = "spring", uses = ProductResponseDtoMapper.class)
+public interface ProductLookupDtoMapper {
+
+  ProductLookupResponseDto toDto(ProductLookup lookup);
+}
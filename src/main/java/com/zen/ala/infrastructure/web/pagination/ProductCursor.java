@@ -0,0 +1,56 @@
+package com.zen.ala.infrastructure.web.pagination;
+
+import com.zen.ala.domain.error.InvalidPageRequestException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque continuation token for keyset-paginated product listings.
+ *
+ * <p>The token is the URL-safe Base64 form of the 16 bytes of the last product id on a page.
+ * Clients must treat it as opaque so the encoding can change without breaking them.
+ */
+public final class ProductCursor {
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  private ProductCursor() {}
+
+  /**
+   * Encodes the id to continue after.
+   *
+   * @param id the last product id of a page
+   * @return the continuation token
+   */
+  public static String encode(UUID id) {
+    ByteBuffer bytes = ByteBuffer.allocate(16);
+    bytes.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+    return ENCODER.encodeToString(bytes.array());
+  }
+
+  /**
+   * Decodes a continuation token.
+   *
+   * @param cursor the continuation token, may be null or blank for the first page
+   * @return the id to continue after, null for the first page
+   * @throws InvalidPageRequestException if the token is malformed
+   */
+  public static UUID decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    byte[] bytes;
+    try {
+      bytes = DECODER.decode(cursor);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidPageRequestException("Invalid cursor: " + cursor);
+    }
+    if (bytes.length != 16) {
+      throw new InvalidPageRequestException("Invalid cursor: " + cursor);
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    return new UUID(buffer.getLong(), buffer.getLong());
+  }
+}
@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS products (
+  id UUID PRIMARY KEY,
+  name VARCHAR(255),
+  price NUMERIC(38, 2),
+  version BIGINT
+);
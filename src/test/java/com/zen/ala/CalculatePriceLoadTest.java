@@ -0,0 +1,26 @@
+package com.zen.ala;
+
+import java.util.UUID;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Load test of {@code calculate-price} with the product cache disabled.
+ *
+ * <p>Every request blocks on a JDBC query against H2, which isolates the cost of blocking I/O on
+ * each threading model.
+ */
+@TestPropertySource(properties = "catalog.cache.enabled=false")
+class CalculatePriceLoadTest extends ThreadModeLoadTest {
+
+  @Override
+  String scenario() {
+    return "calculate-price-uncached";
+  }
+
+  @Override
+  String path(UUID id) {
+    return "/v1/products/"
+        + id
+        + "/calculate-price?quantity=5&discountType=PERCENTAGE&discountPolicy=CUMULATIVE";
+  }
+}
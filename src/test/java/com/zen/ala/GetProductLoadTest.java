@@ -0,0 +1,22 @@
+package com.zen.ala;
+
+import java.util.UUID;
+
+/**
+ * Load test of {@code GET /v1/products/{id}} with the shipped configuration.
+ *
+ * <p>The product cache is enabled as by default, so early requests load through the cache and
+ * later ones are served from it; the pinned column shows whether cache misses pin virtual threads.
+ */
+class GetProductLoadTest extends ThreadModeLoadTest {
+
+  @Override
+  String scenario() {
+    return "get-by-id";
+  }
+
+  @Override
+  String path(UUID id) {
+    return "/v1/products/" + id;
+  }
+}
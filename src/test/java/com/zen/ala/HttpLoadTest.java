@@ -0,0 +1,295 @@
+package com.zen.ala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.domain.model.ProductImportResult;
+import com.zen.ala.domain.model.ProductImportRow;
+import com.zen.ala.domain.port.in.ProductInboundPort;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * Drives a mix of product API requests through the whole stack at a constant arrival rate.
+ *
+ * <p>Run with {@code ./gradlew httpLoadTest}. The application is started on a random port on the
+ * embedded H2 database and seeded with {@code load.products} products through the service layer.
+ * Requests are then issued at {@code load.rate} per second, spread over the endpoints by the
+ * weights of {@code load.mix}, each on its own virtual thread. Updates carry the last version the
+ * client saw of the product, as real clients must, so racing updates of one product answer 409
+ * Conflict and are reported as errors.
+ *
+ * <p>The client follows an open model: request {@code i} is due at {@code start + i / rate}
+ * whether or not earlier requests have completed, and its latency is measured from that due time.
+ * A stalled server therefore shows up as queueing delay in the percentiles instead of silently
+ * lowering the request rate, which avoids coordinated omission. Throughput and the p50, p99 and
+ * p99.9 latencies of every endpoint are printed and written to {@code
+ * build/reports/load/http-endpoints.csv}.
+ */
+@Tag("http-load")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"spring.jpa.show-sql=false", "server.tomcat.max-connections=20000"})
+class HttpLoadTest {
+
+  // latencies are recorded in microseconds, with 3 significant digits, up to one minute
+  private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+  // the last version of every product the client got back, updates are based on it
+  private final Map<UUID, AtomicLong> versions = new ConcurrentHashMap<>();
+
+  @LocalServerPort private int port;
+
+  @Autowired private ProductInboundPort productInboundPort;
+
+  @Value("${load.products:10000}")
+  private int products;
+
+  @Value("${load.rate:1000}")
+  private int rate;
+
+  @Value("${load.mix:getById=50,getAll=10,create=5,update=10,calculatePrice=25}")
+  private String mix;
+
+  @Value("${load.warmup:10s}")
+  private Duration warmup;
+
+  @Value("${load.duration:30s}")
+  private Duration duration;
+
+  private enum Endpoint {
+    GET_BY_ID("getById"),
+    GET_ALL("getAll"),
+    CREATE("create"),
+    UPDATE("update"),
+    CALCULATE_PRICE("calculatePrice");
+
+    // the name used in load.mix and in the report
+    private final String key;
+
+    Endpoint(String key) {
+      this.key = key;
+    }
+
+    static Endpoint of(String key) {
+      for (Endpoint endpoint : values()) {
+        if (endpoint.key.equals(key)) {
+          return endpoint;
+        }
+      }
+      throw new IllegalArgumentException("Unknown endpoint in load.mix: " + key);
+    }
+  }
+
+  @Test
+  void shouldReportThroughputAndLatencyPercentilesPerEndpoint() throws Exception {
+    // given
+    List<UUID> ids = seedCatalog();
+    Endpoint[] schedule = schedule(parseMix(mix));
+    Map<Endpoint, Histogram> latencies = new EnumMap<>(Endpoint.class);
+    Map<Endpoint, AtomicLong> errors = new EnumMap<>(Endpoint.class);
+    for (Endpoint endpoint : Endpoint.values()) {
+      latencies.put(endpoint, new ConcurrentHistogram(MAX_LATENCY_MICROS, 3));
+      errors.put(endpoint, new AtomicLong());
+    }
+
+    // when
+    HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+    long start = System.nanoTime();
+    long measureFrom = start + warmup.toNanos();
+    long measureUntil = measureFrom + duration.toNanos();
+    long lag = 0;
+    try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (long i = 0; ; i++) {
+        long due = start + i * intervalNanos;
+        if (due >= measureUntil) {
+          break;
+        }
+        long wait = due - System.nanoTime();
+        if (wait > 0) {
+          LockSupport.parkNanos(wait);
+        } else {
+          lag = Math.max(lag, -wait);
+        }
+        Endpoint endpoint = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+        UUID id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        boolean measured = due >= measureFrom;
+        requests.submit(
+            () -> {
+              long version = versions.get(id).get();
+              boolean ok = send(client, request(endpoint, id, version));
+              if (ok && endpoint == Endpoint.UPDATE) {
+                versions.get(id).compareAndSet(version, version + 1);
+              }
+              long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - due);
+              if (!measured) {
+                return;
+              }
+              if (ok) {
+                latencies.get(endpoint).recordValue(Math.min(latencyMicros, MAX_LATENCY_MICROS));
+              } else {
+                errors.get(endpoint).incrementAndGet();
+              }
+            });
+      }
+    }
+
+    // then
+    List<String> rows = new ArrayList<>();
+    rows.add("endpoint,requests,errors,throughput_rps,p50_ms,p99_ms,p99_9_ms,max_ms");
+    long total = 0;
+    for (Endpoint endpoint : Endpoint.values()) {
+      Histogram histogram = latencies.get(endpoint);
+      total += histogram.getTotalCount();
+      rows.add(
+          String.join(
+              ",",
+              endpoint.key,
+              String.valueOf(histogram.getTotalCount()),
+              String.valueOf(errors.get(endpoint).get()),
+              String.format("%.0f", histogram.getTotalCount() / seconds(duration)),
+              millis(histogram.getValueAtPercentile(50)),
+              millis(histogram.getValueAtPercentile(99)),
+              millis(histogram.getValueAtPercentile(99.9)),
+              millis(histogram.getMaxValue())));
+    }
+    rows.forEach(System.out::println);
+    System.out.printf(
+        "offered %d requests/s, the generator fell behind its schedule by up to %s ms%n",
+        rate, millis(TimeUnit.NANOSECONDS.toMicros(lag)));
+    Path report = Path.of("build", "reports", "load", "http-endpoints.csv");
+    Files.createDirectories(report.getParent());
+    Files.write(report, rows);
+
+    assertThat(total).isPositive();
+  }
+
+  // imports the catalog through the service, then reads back the ids it generated and their
+  // versions
+  private List<UUID> seedCatalog() {
+    ProductImportResult result =
+        productInboundPort.importProducts(
+            IntStream.range(0, products)
+                .mapToObj(
+                    i ->
+                        ProductImportRow.parsed(
+                            i + 1L,
+                            new Product(null, "Product " + i, BigDecimal.valueOf(100 + i, 2))))
+                .iterator());
+    assertThat(result.imported()).isEqualTo(products);
+
+    List<UUID> ids = new ArrayList<>(products);
+    productInboundPort.exportProducts(
+        product -> {
+          ids.add(product.getId());
+          versions.put(product.getId(), new AtomicLong(product.getVersion()));
+        });
+    return ids;
+  }
+
+  private HttpRequest request(Endpoint endpoint, UUID id, long version) {
+    String base = "http://localhost:" + port + "/v1/products";
+    return switch (endpoint) {
+      case GET_BY_ID -> HttpRequest.newBuilder(URI.create(base + "/" + id)).build();
+      case GET_ALL -> HttpRequest.newBuilder(URI.create(base + "?limit=100")).build();
+      case CREATE ->
+          HttpRequest.newBuilder(URI.create(base))
+              .header("Content-Type", "application/json")
+              .POST(HttpRequest.BodyPublishers.ofString(productJson()))
+              .build();
+      case UPDATE ->
+          HttpRequest.newBuilder(URI.create(base + "/" + id))
+              .header("Content-Type", "application/json")
+              .header("If-Match", "\"" + version + "\"")
+              .PUT(HttpRequest.BodyPublishers.ofString(productJson()))
+              .build();
+      case CALCULATE_PRICE ->
+          HttpRequest.newBuilder(
+                  URI.create(
+                      base
+                          + "/"
+                          + id
+                          + "/calculate-price?quantity="
+                          + ThreadLocalRandom.current().nextInt(1, 100)
+                          + "&discountType=BOTH&discountPolicy=CUMULATIVE"))
+              .build();
+    };
+  }
+
+  private static String productJson() {
+    return "{\"name\": \"Load product\", \"price\": "
+        + BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(100, 100_000), 2)
+        + "}";
+  }
+
+  private static boolean send(HttpClient client, HttpRequest request) {
+    try {
+      return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    } catch (IOException e) {
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  // "getById=50,create=5" -> endpoint weights
+  private static Map<Endpoint, Integer> parseMix(String mix) {
+    Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+    for (String entry : mix.split(",")) {
+      String[] weight = entry.trim().split("=");
+      weights.put(Endpoint.of(weight[0].trim()), Integer.parseInt(weight[1].trim()));
+    }
+    return weights;
+  }
+
+  // one slot per unit of weight, so a uniform pick follows the mix
+  private static Endpoint[] schedule(Map<Endpoint, Integer> weights) {
+    List<Endpoint> slots = new ArrayList<>();
+    weights.forEach(
+        (endpoint, weight) -> {
+          for (int i = 0; i < weight; i++) {
+            slots.add(endpoint);
+          }
+        });
+    assertThat(slots).as("load.mix").isNotEmpty();
+    return slots.toArray(Endpoint[]::new);
+  }
+
+  private static String millis(long micros) {
+    return String.format("%.2f", micros / 1e3);
+  }
+
+  private static double seconds(Duration duration) {
+    return duration.toNanos() / 1e9;
+  }
+}
@@ -0,0 +1,84 @@
+package com.zen.ala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Exports a catalog of a million products through the NDJSON endpoint.
+ *
+ * <p>The catalog lives in a file-backed H2 database with lazy query execution, so neither the
+ * database nor the export keeps rows on the heap. Run with {@code ./gradlew largeTest}, which caps
+ * the heap well below what a fully materialized catalog would need.
+ */
+@Tag("large")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+      "spring.datasource.url=jdbc:h2:file:./build/tmp/large-test/catalog;LAZY_QUERY_EXECUTION=TRUE",
+      "spring.jpa.hibernate.ddl-auto=create-drop",
+      "spring.jpa.show-sql=false"
+    })
+class ProductExportIntegrationTest {
+
+  private static final int CATALOG_SIZE = 1_000_000;
+  private static final int SEED_BATCH_SIZE = 100_000;
+
+  @LocalServerPort private int port;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void seedCatalog() {
+    jdbcTemplate.execute("TRUNCATE TABLE products");
+    for (int from = 1; from <= CATALOG_SIZE; from += SEED_BATCH_SIZE) {
+      jdbcTemplate.update(
+          "INSERT INTO products (id, name, price, version)"
+              + " SELECT RANDOM_UUID(), CONCAT('Product ', X), X, 0 FROM SYSTEM_RANGE(?, ?)",
+          from,
+          from + SEED_BATCH_SIZE - 1);
+    }
+  }
+
+  @Test
+  void shouldExportWholeCatalogWithFlatMemory() throws Exception {
+    // given
+    HttpURLConnection connection =
+        (HttpURLConnection) URI.create("http://localhost:" + port + "/v1/products/export")
+            .toURL()
+            .openConnection();
+
+    // when
+    long lines = 0;
+    String firstLine = null;
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (firstLine == null) {
+          firstLine = line;
+        }
+        lines++;
+      }
+    }
+
+    // then
+    assertThat(connection.getResponseCode()).isEqualTo(200);
+    assertThat(connection.getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+    assertThat(lines).isEqualTo(CATALOG_SIZE);
+    assertThat(firstLine).startsWith("{\"id\":").contains("\"name\":\"Product ");
+  }
+}
@@ -1,11 +1,16 @@
 package com.zen.ala;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.zen.ala.application.service.ProductService;
+import com.zen.ala.infrastructure.metrics.DatabaseWorkHeaderAdvice;
 import com.zen.ala.infrastructure.persistance.ProductRepositoryAdapter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,7 +23,7 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
-@SpringBootTest
+@SpringBootTest(properties = "catalog.metrics.database-header=true")
 @Testcontainers
 @AutoConfigureMockMvc
 class ProductIntegrationTest {
@@ -38,6 +43,8 @@ class ProductIntegrationTest {
 
   @Autowired private ProductService productService;
 
+  @Autowired private MeterRegistry meterRegistry;
+
   @DynamicPropertySource
   static void configure(DynamicPropertyRegistry registry) {
     registry.add("spring.datasource.url", postgres::getJdbcUrl);
@@ -80,4 +87,96 @@ class ProductIntegrationTest {
         .andExpect(jsonPath("$.name").value("Product"))
         .andExpect(jsonPath("$.price").value(100));
   }
+
+  @Test
+  void shouldPublishPortPricingAndDatabaseMetrics() throws Exception {
+    // given
+    String createResponse =
+        mockMvc
+            .perform(
+                post(PRODUCTS)
+                    .contentType("application/json")
+                    .content("{\"name\": \"Product\", \"price\": 100}"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    String id = createResponse.split("\"id\":\"")[1].split("\"")[0];
+
+    // when
+    mockMvc
+        .perform(
+            get(PRODUCTS + "/" + id + "/calculate-price")
+                .param("quantity", "10")
+                .param("discountType", "BOTH")
+                .param("discountPolicy", "CUMULATIVE"))
+        .andExpect(status().isOk());
+
+    // then
+    assertThat(
+            meterRegistry
+                .get("catalog.port.inbound")
+                .tag("method", "calculateDiscountedPrice")
+                .timer()
+                .count())
+        .isPositive();
+    assertThat(
+            meterRegistry
+                .get("catalog.port.outbound")
+                .tag("method", "saveProduct")
+                .timer()
+                .count())
+        .isPositive();
+    assertThat(
+            meterRegistry
+                .get("catalog.pricing.quotes")
+                .tag("discount.type", "BOTH")
+                .tag("discount.policy", "CUMULATIVE")
+                .counter()
+                .count())
+        .isPositive();
+    DistributionSummary roundTrips =
+        meterRegistry
+            .get("catalog.request.db.round.trips")
+            .tag("method", "POST")
+            .tag("uri", PRODUCTS)
+            .summary();
+    assertThat(roundTrips.count()).isPositive();
+    assertThat(roundTrips.totalAmount()).isPositive();
+    DistributionSummary updates =
+        meterRegistry
+            .get("catalog.request.db.updates")
+            .tag("method", "POST")
+            .tag("uri", PRODUCTS)
+            .summary();
+    assertThat(updates.max()).isEqualTo(1);
+    mockMvc
+        .perform(get("/actuator/metrics/catalog.request.db.rows.mapped"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.availableTags[*].tag").value(hasItem("uri")));
+  }
+
+  @Test
+  void shouldReportDatabaseWorkOfRequestInHeader() throws Exception {
+    // given
+    String createResponse =
+        mockMvc
+            .perform(
+                post(PRODUCTS)
+                    .contentType("application/json")
+                    .content("{\"name\": \"Product\", \"price\": 100}"))
+            .andExpect(
+                header().string(DatabaseWorkHeaderAdvice.HEADER, "queries=0, updates=1, rows=1"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    String id = createResponse.split("\"id\":\"")[1].split("\"")[0];
+
+    // when / then
+    mockMvc
+        .perform(get(PRODUCTS + "/" + id))
+        .andExpect(status().isOk())
+        .andExpect(
+            header().string(DatabaseWorkHeaderAdvice.HEADER, "queries=0, updates=0, rows=0"));
+  }
 }
@@ -0,0 +1,180 @@
+package com.zen.ala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zen.ala.infrastructure.web.controller.ProductController;
+import com.zen.ala.infrastructure.web.dto.ProductResponseDto;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * Runs the product API on the reactive stack: WebFlux on Netty and R2DBC against H2.
+ *
+ * <p>Covers the same flows as the servlet stack, from creating a product to streaming the catalog.
+ */
+@ActiveProfiles("reactive")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "spring.r2dbc.url=r2dbc:h2:mem:///reactive-test?options=DB_CLOSE_DELAY=-1")
+class ReactiveProductIntegrationTest {
+
+  public static final String PRODUCTS = "/v1/products";
+
+  @Autowired private WebTestClient webTestClient;
+
+  @Test
+  void shouldCreateFetchUpdateAndDeleteProduct() {
+    // given
+    ProductResponseDto created = create("Product", 100);
+
+    // when + then
+    webTestClient
+        .get()
+        .uri(PRODUCTS + "/" + created.id())
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.name")
+        .isEqualTo("Product")
+        .jsonPath("$.version")
+        .isEqualTo(0);
+
+    webTestClient
+        .put()
+        .uri(PRODUCTS + "/" + created.id())
+        .bodyValue(Map.of("name", "Updated", "price", 120, "version", 0))
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.version")
+        .isEqualTo(1);
+
+    webTestClient
+        .put()
+        .uri(PRODUCTS + "/" + created.id())
+        .bodyValue(Map.of("name", "Stale", "price", 130, "version", 0))
+        .exchange()
+        .expectStatus()
+        .isEqualTo(409);
+
+    webTestClient
+        .put()
+        .uri(PRODUCTS + "/" + created.id())
+        .bodyValue(Map.of("name", "Unversioned", "price", 130))
+        .exchange()
+        .expectStatus()
+        .isEqualTo(428);
+
+    webTestClient
+        .get()
+        .uri(
+            PRODUCTS
+                + "/"
+                + created.id()
+                + "/calculate-price?quantity=1&discountType=PERCENTAGE&discountPolicy=CUMULATIVE")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(String.class)
+        .value(price -> assertThat(Double.parseDouble(price)).isEqualTo(108.0));
+
+    webTestClient
+        .delete()
+        .uri(PRODUCTS + "/" + created.id())
+        .exchange()
+        .expectStatus()
+        .isNoContent();
+    webTestClient
+        .get()
+        .uri(PRODUCTS + "/" + created.id())
+        .exchange()
+        .expectStatus()
+        .isNotFound()
+        .expectBody()
+        .jsonPath("$.message")
+        .isEqualTo("Product with id " + created.id() + " not found.");
+  }
+
+  @Test
+  void shouldLookUpProductsInRequestOrder() {
+    // given
+    ProductResponseDto first = create("First", 1);
+    ProductResponseDto second = create("Second", 2);
+    UUID missingId = UUID.randomUUID();
+
+    // when + then
+    webTestClient
+        .get()
+        .uri(PRODUCTS + "?ids=" + second.id() + "," + missingId + "," + first.id())
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.products[0].id")
+        .isEqualTo(second.id().toString())
+        .jsonPath("$.products[1].id")
+        .isEqualTo(first.id().toString())
+        .jsonPath("$.missingIds[0]")
+        .isEqualTo(missingId.toString());
+  }
+
+  @Test
+  void shouldPageAndStreamCatalog() {
+    // given
+    for (int i = 0; i < 5; i++) {
+      create("Product " + i, i);
+    }
+
+    // when
+    String cursor =
+        webTestClient
+            .get()
+            .uri(PRODUCTS + "?limit=2")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .exists(ProductController.NEXT_CURSOR_HEADER)
+            .returnResult(ProductResponseDto.class)
+            .getResponseHeaders()
+            .getFirst(ProductController.NEXT_CURSOR_HEADER);
+    List<ProductResponseDto> exported =
+        webTestClient
+            .get()
+            .uri(PRODUCTS + "/export")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .returnResult(ProductResponseDto.class)
+            .getResponseBody()
+            .collectList()
+            .block();
+
+    // then
+    assertThat(cursor).isNotBlank();
+    assertThat(exported).hasSizeGreaterThanOrEqualTo(5);
+  }
+
+  private ProductResponseDto create(String name, int price) {
+    return webTestClient
+        .post()
+        .uri(PRODUCTS)
+        .bodyValue(Map.of("name", name, "price", price))
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(ProductResponseDto.class)
+        .returnResult()
+        .getResponseBody();
+  }
+}
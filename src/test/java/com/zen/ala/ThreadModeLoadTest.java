@@ -0,0 +1,232 @@
+package com.zen.ala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.infrastructure.persistance.ProductRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * Drives one product endpoint with 1k to 10k concurrent connections.
+ *
+ * <p>Run with {@code ./gradlew loadTest}, which runs every subclass once on platform request
+ * threads and once with the {@code virtual-threads} profile, each in its own JVM. Both modes get
+ * the same connection pool size so the comparison isolates the threading model. Each client
+ * connection is a virtual thread issuing requests back to back; the throughput, latency
+ * percentiles and pinned virtual threads of every concurrency level are printed and written to
+ * {@code build/reports/load/threads-<scenario>-<mode>.csv}.
+ */
+@Tag("load")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+      "spring.jpa.show-sql=false",
+      "spring.datasource.hikari.maximum-pool-size=${load.pool-size:50}",
+      "server.tomcat.max-connections=20000",
+      "server.tomcat.accept-count=1000",
+      "server.tomcat.max-keep-alive-requests=-1"
+    })
+abstract class ThreadModeLoadTest {
+
+  private static final int PRODUCTS = 10_000;
+
+  @LocalServerPort private int port;
+
+  @Autowired private ProductRepositoryAdapter productRepositoryAdapter;
+  @Autowired private MeterRegistry meterRegistry;
+
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreads;
+
+  @Value("${load.connections:1000,2500,5000,10000}")
+  private int[] connectionLevels;
+
+  @Value("${load.warmup:5s}")
+  private Duration warmup;
+
+  @Value("${load.duration:15s}")
+  private Duration duration;
+
+  /**
+   * Names the scenario in the report.
+   *
+   * @return the scenario name
+   */
+  abstract String scenario();
+
+  /**
+   * Builds the path and query of the request for a product.
+   *
+   * @param id the UUID of a seeded product
+   * @return the path to request
+   */
+  abstract String path(UUID id);
+
+  @Test
+  void shouldReportThroughputAndTailLatencyPerConcurrency() throws Exception {
+    // given
+    List<URI> uris = seedCatalog();
+    String mode = virtualThreads ? "virtual" : "platform";
+    List<String> rows = new ArrayList<>();
+    rows.add(
+        "scenario,mode,connections,requests,errors,throughput_rps,p50_ms,p99_ms,max_ms,pinned");
+
+    // when
+    HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    for (int connections : connectionLevels) {
+      double pinnedBefore = pinnedCount();
+      LoadResult result = drive(client, uris, connections);
+      rows.add(
+          String.join(
+              ",",
+              scenario(),
+              mode,
+              String.valueOf(connections),
+              String.valueOf(result.latencies().count()),
+              String.valueOf(result.errors()),
+              String.format("%.0f", result.latencies().count() / seconds(duration)),
+              String.format("%.2f", result.latencies().percentile(0.50) / 1e6),
+              String.format("%.2f", result.latencies().percentile(0.99) / 1e6),
+              String.format("%.2f", result.latencies().max() / 1e6),
+              String.format("%.0f", pinnedCount() - pinnedBefore)));
+
+      // then
+      assertThat(result.latencies().count()).isPositive();
+    }
+
+    rows.forEach(System.out::println);
+    Path report =
+        Path.of("build", "reports", "load", "threads-" + scenario() + "-" + mode + ".csv");
+    Files.createDirectories(report.getParent());
+    Files.write(report, rows);
+  }
+
+  private List<URI> seedCatalog() {
+    List<Product> products = new ArrayList<>(PRODUCTS);
+    for (int i = 0; i < PRODUCTS; i++) {
+      products.add(new Product(UUID.randomUUID(), "Product " + i, BigDecimal.valueOf(100 + i)));
+    }
+    assertThat(productRepositoryAdapter.saveProducts(products)).isEmpty();
+    return products.stream()
+        .map(product -> URI.create("http://localhost:" + port + path(product.getId())))
+        .toList();
+  }
+
+  // every connection sends requests back to back; only those started after the warmup count
+  private LoadResult drive(HttpClient client, List<URI> uris, int connections) {
+    LatencyHistogram latencies = new LatencyHistogram();
+    AtomicLong errors = new AtomicLong();
+    long measureFrom = System.nanoTime() + warmup.toNanos();
+    long measureUntil = measureFrom + duration.toNanos();
+
+    try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < connections; i++) {
+        clients.submit(
+            () -> {
+              long start;
+              while ((start = System.nanoTime()) < measureUntil) {
+                URI uri = uris.get(ThreadLocalRandom.current().nextInt(uris.size()));
+                boolean ok = send(client, uri);
+                if (start >= measureFrom) {
+                  if (ok) {
+                    latencies.record(System.nanoTime() - start);
+                  } else {
+                    errors.incrementAndGet();
+                  }
+                }
+              }
+            });
+      }
+    }
+    return new LoadResult(latencies, errors.get());
+  }
+
+  private static boolean send(HttpClient client, URI uri) {
+    try {
+      return client
+              .send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding())
+              .statusCode()
+          == 200;
+    } catch (IOException e) {
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private double pinnedCount() {
+    Timer pinned = meterRegistry.find("jvm.threads.virtual.pinned").timer();
+    return pinned == null ? 0 : pinned.count();
+  }
+
+  private static double seconds(Duration duration) {
+    return duration.toNanos() / 1e9;
+  }
+
+  private record LoadResult(LatencyHistogram latencies, long errors) {}
+
+  /** Lock-free latency histogram with 100 microsecond buckets up to 30 seconds. */
+  private static final class LatencyHistogram {
+
+    private static final long BUCKET_NANOS = 100_000;
+    private static final int BUCKETS = 300_000;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS + 1);
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long nanos) {
+      counts.incrementAndGet((int) Math.min(nanos / BUCKET_NANOS, BUCKETS));
+      max.accumulateAndGet(nanos, Math::max);
+    }
+
+    long count() {
+      long count = 0;
+      for (int i = 0; i <= BUCKETS; i++) {
+        count += counts.get(i);
+      }
+      return count;
+    }
+
+    // upper bound of the bucket holding the given quantile, in nanoseconds
+    long percentile(double quantile) {
+      long rank = (long) Math.ceil(count() * quantile);
+      long seen = 0;
+      for (int i = 0; i <= BUCKETS; i++) {
+        seen += counts.get(i);
+        if (seen >= rank && seen > 0) {
+          return Math.min((i + 1) * BUCKET_NANOS, max.get());
+        }
+      }
+      return 0;
+    }
+
+    long max() {
+      return max.get();
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.zen.ala.application.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link UuidV7Generator}.
+ *
+ * <p>This test class is responsible for testing the layout, ordering and uniqueness of the
+ * generated identifiers.
+ */
+class UuidV7GeneratorTest {
+
+  @Test
+  void shouldEncodeVersionVariantAndTimestamp() {
+    // given
+    long now = 1_700_000_000_123L;
+    UuidV7Generator generator = new UuidV7Generator(() -> now);
+
+    // when
+    UUID id = generator.generate();
+
+    // then
+    assertThat(id.version()).isEqualTo(7);
+    assertThat(id.variant()).isEqualTo(2);
+    assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(now);
+    assertThat(UUID.fromString(id.toString())).isEqualTo(id);
+  }
+
+  @Test
+  void shouldStayMonotonicWithinMillisecondAndWhenClockGoesBack() {
+    // given
+    AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    UuidV7Generator generator = new UuidV7Generator(clock::get);
+
+    // when
+    List<UUID> ids = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      ids.add(generator.generate());
+    }
+    clock.addAndGet(-5_000);
+    for (int i = 0; i < 100; i++) {
+      ids.add(generator.generate());
+    }
+
+    // then
+    for (int i = 1; i < ids.size(); i++) {
+      assertThat(ids.get(i)).isGreaterThan(ids.get(i - 1));
+    }
+  }
+
+  @Test
+  void shouldGenerateUniqueOrderedIdsConcurrently() throws Exception {
+    // given
+    UuidV7Generator generator = new UuidV7Generator();
+    int threads = 8;
+    int idsPerThread = 50_000;
+    Callable<List<UUID>> task =
+        () -> {
+          List<UUID> ids = new ArrayList<>(idsPerThread);
+          for (int i = 0; i < idsPerThread; i++) {
+            ids.add(generator.generate());
+          }
+          return ids;
+        };
+
+    // when
+    List<List<UUID>> results = new ArrayList<>();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<List<UUID>>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(executor.submit(task));
+      }
+      for (Future<List<UUID>> future : futures) {
+        results.add(future.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    // then
+    Set<UUID> unique = new HashSet<>();
+    for (List<UUID> ids : results) {
+      unique.addAll(ids);
+      for (int i = 1; i < ids.size(); i++) {
+        assertThat(ids.get(i)).isGreaterThan(ids.get(i - 1));
+      }
+    }
+    assertThat(unique).hasSize(threads * idsPerThread);
+  }
+}
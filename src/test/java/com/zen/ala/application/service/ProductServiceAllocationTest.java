@@ -0,0 +1,58 @@
+package com.zen.ala.application.service;
+
+import static org.mockito.Mockito.mock;
+
+import com.zen.ala.application.id.UuidV7Generator;
+import com.zen.ala.domain.port.out.ProductOutboundPort;
+import com.zen.ala.domain.service.PriceCalculatorService;
+import com.zen.ala.domain.service.discount.PercentageDiscount;
+import com.zen.ala.domain.service.discount.QuantityDiscount;
+import com.zen.ala.domain.service.discount.dict.DiscountPolicy;
+import com.zen.ala.domain.service.discount.dict.DiscountType;
+import com.zen.ala.support.AllocationBudget;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Allocation budget tests for {@link ProductService#calculateDiscountedPrice}.
+ *
+ * <p>The strategy names are resolved on every call, so the budgets add the resolved strategy to
+ * those of the {@link PriceCalculatorService}. Run with {@code ./gradlew allocationTest}.
+ */
+@Tag("allocation")
+class ProductServiceAllocationTest {
+
+  private static final BigDecimal UNIT_PRICE = new BigDecimal("1999.99");
+  private static final int QUANTITY = 25;
+
+  @ParameterizedTest
+  @EnumSource(DiscountType.class)
+  void calculateDiscountedPriceShouldStayWithinBudget(DiscountType discountType) {
+    // given
+    TreeMap<Integer, BigDecimal> thresholds = new TreeMap<>();
+    thresholds.put(10, new BigDecimal("0.05"));
+    thresholds.put(20, new BigDecimal("0.10"));
+    thresholds.put(50, new BigDecimal("0.15"));
+    PriceCalculatorService priceCalculatorService =
+        new PriceCalculatorService(
+            List.of(
+                PercentageDiscount.of(new BigDecimal("0.10")), QuantityDiscount.of(thresholds)));
+    ProductService service =
+        new ProductService(
+            mock(ProductOutboundPort.class), priceCalculatorService, new UuidV7Generator());
+    String type = discountType.name();
+
+    for (DiscountPolicy discountPolicy : DiscountPolicy.values()) {
+      String policy = discountPolicy.name();
+
+      // then
+      AllocationBudget.assertWithinBudget(
+          "ProductService.calculateDiscountedPrice." + type + "." + policy,
+          () -> service.calculateDiscountedPrice(UNIT_PRICE, QUANTITY, type, policy));
+    }
+  }
+}
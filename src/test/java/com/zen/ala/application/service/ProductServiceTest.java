@@ -0,0 +1,182 @@
+package com.zen.ala.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zen.ala.application.id.UuidV7Generator;
+import com.zen.ala.domain.model.PriceQuote;
+import com.zen.ala.domain.model.PriceQuoteRequest;
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.domain.model.ProductImportFailure;
+import com.zen.ala.domain.model.ProductImportResult;
+import com.zen.ala.domain.model.ProductImportRow;
+import com.zen.ala.domain.model.ProductLookup;
+import com.zen.ala.domain.model.ProductPage;
+import com.zen.ala.domain.port.out.ProductOutboundPort;
+import com.zen.ala.domain.service.PriceCalculatorService;
+import com.zen.ala.domain.service.discount.PercentageDiscount;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ProductService}.
+ *
+ * <p>This test class is responsible for testing the application logic of the {@link
+ * ProductService} class with a mocked {@link ProductOutboundPort}.
+ */
+class ProductServiceTest {
+
+  ProductOutboundPort productOutboundPort;
+  ProductService service;
+
+  @BeforeEach
+  void setup() {
+    productOutboundPort = mock(ProductOutboundPort.class);
+    PriceCalculatorService priceCalculatorService =
+        new PriceCalculatorService(List.of(PercentageDiscount.of(BigDecimal.valueOf(0.10))));
+    service =
+        new ProductService(productOutboundPort, priceCalculatorService, new UuidV7Generator());
+  }
+
+  @Test
+  void shouldPriceAllLinesWithSingleLookup() {
+    // given
+    List<Product> products = new ArrayList<>();
+    List<PriceQuoteRequest> requests = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      UUID id = UUID.randomUUID();
+      products.add(new Product(id, "Product" + i, BigDecimal.valueOf(100)));
+      requests.add(new PriceQuoteRequest(id, 10, "PERCENTAGE", "CUMULATIVE"));
+    }
+    when(productOutboundPort.findProductsByIds(anyCollection())).thenReturn(products);
+
+    // when
+    List<PriceQuote> quotes = service.calculateDiscountedPrices(requests);
+
+    // then
+    verify(productOutboundPort, times(1)).findProductsByIds(anyCollection());
+    assertThat(quotes).hasSize(200);
+    assertThat(quotes)
+        .allSatisfy(quote -> assertThat(quote.price()).isEqualByComparingTo("900"))
+        .extracting(PriceQuote::productId)
+        .containsExactlyElementsOf(requests.stream().map(PriceQuoteRequest::productId).toList());
+  }
+
+  @Test
+  void shouldReportPerLineErrors() {
+    // given
+    UUID knownId = UUID.randomUUID();
+    UUID unknownId = UUID.randomUUID();
+    when(productOutboundPort.findProductsByIds(anyCollection()))
+        .thenReturn(List.of(new Product(knownId, "Product", BigDecimal.valueOf(100))));
+
+    // when
+    List<PriceQuote> quotes =
+        service.calculateDiscountedPrices(
+            List.of(
+                new PriceQuoteRequest(knownId, 1, "PERCENTAGE", "HIGHEST"),
+                new PriceQuoteRequest(unknownId, 1, "PERCENTAGE", "HIGHEST"),
+                new PriceQuoteRequest(knownId, 1, "UNKNOWN", "HIGHEST")));
+
+    // then
+    assertThat(quotes.get(0).price()).isEqualByComparingTo("90");
+    assertThat(quotes.get(0).error()).isNull();
+    assertThat(quotes.get(1).price()).isNull();
+    assertThat(quotes.get(1).error()).isEqualTo("Product with id " + unknownId + " not found.");
+    assertThat(quotes.get(2).price()).isNull();
+    assertThat(quotes.get(2).error()).isEqualTo("Invalid discount type: UNKNOWN");
+  }
+
+  @Test
+  void shouldReturnLookedUpProductsInRequestOrder() {
+    // given
+    UUID id1 = UUID.randomUUID();
+    UUID id2 = UUID.randomUUID();
+    UUID missingId = UUID.randomUUID();
+    when(productOutboundPort.findProductsByIds(anyCollection()))
+        .thenReturn(
+            List.of(
+                new Product(id1, "Product1", BigDecimal.ONE),
+                new Product(id2, "Product2", BigDecimal.ONE)));
+
+    // when
+    ProductLookup lookup = service.getProductsByIds(List.of(id2, missingId, id1, id2));
+
+    // then
+    verify(productOutboundPort, times(1)).findProductsByIds(anyCollection());
+    assertThat(lookup.products()).extracting(Product::getId).containsExactly(id2, id1);
+    assertThat(lookup.missingIds()).containsExactly(missingId);
+  }
+
+  @Test
+  void shouldFetchOneExtraProductToFindNextCursor() {
+    // given
+    List<Product> products = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      products.add(new Product(UUID.randomUUID(), "Product" + i, BigDecimal.ONE));
+    }
+    when(productOutboundPort.findProductsAfter(null, 3)).thenReturn(products);
+    when(productOutboundPort.findProductsAfter(products.get(1).getId(), 3))
+        .thenReturn(products.subList(2, 3));
+
+    // when
+    ProductPage first = service.getProductPage(null, 2);
+    ProductPage last = service.getProductPage(first.nextCursor(), 2);
+
+    // then
+    assertThat(first.products()).containsExactlyElementsOf(products.subList(0, 2));
+    assertThat(first.nextCursor()).isEqualTo(products.get(1).getId());
+    assertThat(last.products()).containsExactly(products.get(2));
+    assertThat(last.nextCursor()).isNull();
+  }
+
+  @Test
+  void shouldImportInChunksAndReportFailedRows() {
+    // given
+    int rowCount = ProductService.IMPORT_CHUNK_SIZE * 2 + 1;
+    List<ProductImportRow> rows = new ArrayList<>();
+    for (int row = 1; row <= rowCount; row++) {
+      rows.add(
+          ProductImportRow.parsed(row, new Product(null, "Product" + row, BigDecimal.ONE)));
+    }
+    rows.set(1, ProductImportRow.parsed(2, new Product(null, " ", BigDecimal.ONE)));
+    rows.set(2, ProductImportRow.parsed(3, new Product(null, "Product", BigDecimal.ONE.negate())));
+    rows.set(3, ProductImportRow.unparsable(4, "Invalid price: abc"));
+
+    List<Integer> chunkSizes = new ArrayList<>();
+    when(productOutboundPort.saveProducts(anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<Product> chunk = invocation.getArgument(0);
+              chunkSizes.add(chunk.size());
+              // the repository rejects the last product of the first chunk
+              return chunkSizes.size() == 1
+                  ? Map.of(chunk.get(chunk.size() - 1).getId(), "duplicate")
+                  : Map.of();
+            });
+
+    // when
+    ProductImportResult result = service.importProducts(rows.iterator());
+
+    // then
+    assertThat(chunkSizes)
+        .containsExactly(ProductService.IMPORT_CHUNK_SIZE, ProductService.IMPORT_CHUNK_SIZE - 2);
+    assertThat(result.imported()).isEqualTo(rowCount - 4);
+    assertThat(result.failures())
+        .containsExactly(
+            new ProductImportFailure(2, "Product name cannot be empty"),
+            new ProductImportFailure(3, "Product price must be zero or positive"),
+            new ProductImportFailure(4, "Invalid price: abc"),
+            new ProductImportFailure(ProductService.IMPORT_CHUNK_SIZE + 3, "duplicate"));
+  }
+}
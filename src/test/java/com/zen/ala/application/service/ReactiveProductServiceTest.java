@@ -0,0 +1,115 @@
+package com.zen.ala.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zen.ala.application.id.UuidV7Generator;
+import com.zen.ala.domain.error.InvalidLookupRequestException;
+import com.zen.ala.domain.model.PriceQuoteRequest;
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.domain.port.out.ReactiveProductOutboundPort;
+import com.zen.ala.domain.service.PriceCalculatorService;
+import com.zen.ala.domain.service.discount.PercentageDiscount;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Test class for {@link ReactiveProductService}.
+ *
+ * <p>This test class is responsible for testing the application logic of the {@link
+ * ReactiveProductService} class with a mocked {@link ReactiveProductOutboundPort}.
+ */
+class ReactiveProductServiceTest {
+
+  ReactiveProductOutboundPort productOutboundPort;
+  ReactiveProductService service;
+
+  @BeforeEach
+  void setup() {
+    productOutboundPort = mock(ReactiveProductOutboundPort.class);
+    PriceCalculatorService priceCalculatorService =
+        new PriceCalculatorService(List.of(PercentageDiscount.of(BigDecimal.valueOf(0.10))));
+    service =
+        new ReactiveProductService(
+            productOutboundPort, priceCalculatorService, new UuidV7Generator());
+  }
+
+  @Test
+  void shouldReturnLookedUpProductsInRequestOrder() {
+    // given
+    UUID id1 = UUID.randomUUID();
+    UUID id2 = UUID.randomUUID();
+    UUID missingId = UUID.randomUUID();
+    when(productOutboundPort.findProductsByIds(anyCollection()))
+        .thenReturn(
+            Flux.just(
+                new Product(id1, "Product1", BigDecimal.ONE),
+                new Product(id2, "Product2", BigDecimal.ONE)));
+
+    // when + then
+    StepVerifier.create(service.getProductsByIds(List.of(id2, missingId, id1, id2)))
+        .assertNext(
+            lookup -> {
+              assertThat(lookup.products()).extracting(Product::getId).containsExactly(id2, id1);
+              assertThat(lookup.missingIds()).containsExactly(missingId);
+            })
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldRejectEmptyLookupWithoutQuery() {
+    // when + then
+    StepVerifier.create(service.getProductsByIds(List.of()))
+        .verifyError(InvalidLookupRequestException.class);
+    verify(productOutboundPort, never()).findProductsByIds(anyCollection());
+  }
+
+  @Test
+  void shouldValidateDiscountStrategyBeforeReadingPrice() {
+    // given
+    UUID id = UUID.randomUUID();
+    when(productOutboundPort.findPriceById(id)).thenReturn(Mono.just(BigDecimal.valueOf(100)));
+
+    // when + then
+    StepVerifier.create(service.calculateDiscountedPrice(id, 1, "PERCENTAGE", "CUMULATIVE"))
+        .assertNext(price -> assertThat(price).isEqualByComparingTo("90"))
+        .verifyComplete();
+    StepVerifier.create(service.calculateDiscountedPrice(id, 1, "UNKNOWN", "CUMULATIVE"))
+        .verifyErrorMessage("Invalid discount type: UNKNOWN");
+    verify(productOutboundPort).findPriceById(any());
+  }
+
+  @Test
+  void shouldReportPerLineErrors() {
+    // given
+    UUID knownId = UUID.randomUUID();
+    UUID unknownId = UUID.randomUUID();
+    when(productOutboundPort.findProductsByIds(anyCollection()))
+        .thenReturn(Flux.just(new Product(knownId, "Product", BigDecimal.valueOf(100))));
+
+    // when + then
+    StepVerifier.create(
+            service.calculateDiscountedPrices(
+                List.of(
+                    new PriceQuoteRequest(knownId, 1, "PERCENTAGE", "HIGHEST"),
+                    new PriceQuoteRequest(unknownId, 1, "PERCENTAGE", "HIGHEST"))))
+        .assertNext(
+            quotes -> {
+              assertThat(quotes.get(0).price()).isEqualByComparingTo("90");
+              assertThat(quotes.get(1).error())
+                  .isEqualTo("Product with id " + unknownId + " not found.");
+            })
+        .verifyComplete();
+  }
+}
@@ -2,12 +2,16 @@ package com.zen.ala.domain.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.zen.ala.domain.service.discount.Discount;
 import com.zen.ala.domain.service.discount.DiscountStrategy;
 import com.zen.ala.domain.service.discount.PercentageDiscount;
 import com.zen.ala.domain.service.discount.QuantityDiscount;
 import com.zen.ala.domain.service.discount.dict.DiscountPolicy;
 import com.zen.ala.domain.service.discount.dict.DiscountType;
+import com.zen.ala.domain.service.discount.dict.PricingMode;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.TreeMap;
@@ -24,6 +28,7 @@ import org.junit.jupiter.api.Test;
 public class PriceCalculatorServiceTest {
 
   PriceCalculatorService service;
+  List<Discount> discounts;
 
   @BeforeEach
   void setup() {
@@ -32,10 +37,11 @@ public class PriceCalculatorServiceTest {
     quantityThresholds.put(20, BigDecimal.valueOf(0.10)); // 10%
     quantityThresholds.put(50, BigDecimal.valueOf(0.15)); // 15%
 
-    QuantityDiscount quantityDiscount = new QuantityDiscount(quantityThresholds);
-    PercentageDiscount percentageDiscount = new PercentageDiscount(BigDecimal.valueOf(0.10)); // 10%
+    QuantityDiscount quantityDiscount = QuantityDiscount.of(quantityThresholds);
+    PercentageDiscount percentageDiscount = PercentageDiscount.of(BigDecimal.valueOf(0.10)); // 10%
 
-    service = new PriceCalculatorService(List.of(quantityDiscount, percentageDiscount));
+    discounts = List.of(quantityDiscount, percentageDiscount);
+    service = new PriceCalculatorService(discounts);
   }
 
   @Test
@@ -120,4 +126,182 @@ public class PriceCalculatorServiceTest {
     // -10% percentage discount => 4500
     assertThat(result).isEqualByComparingTo(BigDecimal.valueOf(4250));
   }
+
+  @Test
+  void shouldMatchPerCallDiscountSelectionForEveryStrategy() {
+    List<BigDecimal> unitPrices =
+        List.of(
+            BigDecimal.ZERO,
+            BigDecimal.ONE,
+            new BigDecimal("19.99"),
+            new BigDecimal("100"),
+            new BigDecimal("0.333"),
+            new BigDecimal("1E+3"));
+
+    for (DiscountType type : DiscountType.values()) {
+      for (DiscountPolicy policy : DiscountPolicy.values()) {
+        DiscountStrategy strategy = new DiscountStrategy(type, policy);
+        for (BigDecimal unitPrice : unitPrices) {
+          for (int quantity = 0; quantity <= 120; quantity++) {
+            // exact equality: value and scale must both be unchanged
+            assertThat(service.calculatePrice(unitPrice, quantity, strategy))
+                .as("%s/%s price=%s quantity=%d", type, policy, unitPrice, quantity)
+                .isEqualTo(referencePrice(discounts, unitPrice, quantity, strategy));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void shouldReturnUndiscountedTotalWhenNoDiscountsConfigured() {
+    PriceCalculatorService emptyService = new PriceCalculatorService(List.of());
+
+    for (DiscountType type : DiscountType.values()) {
+      for (DiscountPolicy policy : DiscountPolicy.values()) {
+        BigDecimal result =
+            emptyService.calculatePrice(
+                BigDecimal.valueOf(100), 50, new DiscountStrategy(type, policy));
+        assertThat(result).isEqualTo(BigDecimal.valueOf(5000));
+      }
+    }
+  }
+
+  @Test
+  void shouldNotBeAffectedByLaterChangesToDiscountList() {
+    List<Discount> mutableDiscounts =
+        new ArrayList<>(List.of(PercentageDiscount.of(BigDecimal.valueOf(0.10))));
+    PriceCalculatorService snapshotService = new PriceCalculatorService(mutableDiscounts);
+    mutableDiscounts.clear();
+
+    BigDecimal result =
+        snapshotService.calculatePrice(
+            BigDecimal.valueOf(100),
+            10,
+            new DiscountStrategy(DiscountType.PERCENTAGE, DiscountPolicy.CUMULATIVE));
+
+    assertThat(result).isEqualByComparingTo(BigDecimal.valueOf(900));
+  }
+
+  @Test
+  void shouldReturnSameRoundedAmountsInFixedPointMode() {
+    List<BigDecimal> unitPrices =
+        List.of(
+            BigDecimal.ZERO,
+            new BigDecimal("0.01"),
+            new BigDecimal("0.07"),
+            new BigDecimal("19.99"),
+            new BigDecimal("100"),
+            new BigDecimal("-3.35"),
+            new BigDecimal("0.333"), // more fraction digits than the scale: BigDecimal fallback
+            new BigDecimal("1E+3"));
+    List<RoundingMode> roundingModes =
+        List.of(
+            RoundingMode.HALF_EVEN,
+            RoundingMode.HALF_UP,
+            RoundingMode.HALF_DOWN,
+            RoundingMode.UP,
+            RoundingMode.DOWN,
+            RoundingMode.CEILING,
+            RoundingMode.FLOOR);
+
+    for (RoundingMode roundingMode : roundingModes) {
+      PriceCalculatorService fixedPoint =
+          new PriceCalculatorService(discounts, PricingMode.FIXED_POINT, 2, roundingMode);
+      for (DiscountType type : DiscountType.values()) {
+        for (DiscountPolicy policy : DiscountPolicy.values()) {
+          DiscountStrategy strategy = new DiscountStrategy(type, policy);
+          for (BigDecimal unitPrice : unitPrices) {
+            for (int quantity = 0; quantity <= 120; quantity++) {
+              BigDecimal expected =
+                  service.calculatePrice(unitPrice, quantity, strategy).setScale(2, roundingMode);
+              assertThat(fixedPoint.calculatePrice(unitPrice, quantity, strategy))
+                  .as(
+                      "%s %s/%s price=%s quantity=%d",
+                      roundingMode, type, policy, unitPrice, quantity)
+                  .isEqualTo(expected);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void shouldCalculatePriceOnMinorUnits() {
+    PriceCalculatorService fixedPoint =
+        new PriceCalculatorService(discounts, PricingMode.FIXED_POINT, 2, RoundingMode.HALF_EVEN);
+    DiscountStrategy strategy = new DiscountStrategy(DiscountType.BOTH, DiscountPolicy.CUMULATIVE);
+
+    // 19.99 * 50 = 999.50
+    // -15% quantity discount => 849.575
+    // -10% percentage discount => 764.6175 => 764.62
+    long result = fixedPoint.calculatePriceMinorUnits(1999, 50, strategy);
+
+    assertThat(result).isEqualTo(76462);
+  }
+
+  @Test
+  void shouldFallBackToBigDecimalWhenMinorUnitsOverflow() {
+    PriceCalculatorService fixedPoint =
+        new PriceCalculatorService(discounts, PricingMode.FIXED_POINT, 2, RoundingMode.HALF_UP);
+    DiscountStrategy strategy = new DiscountStrategy(DiscountType.BOTH, DiscountPolicy.CUMULATIVE);
+    BigDecimal unitPrice = new BigDecimal("9223372036854775.07");
+
+    BigDecimal result = fixedPoint.calculatePrice(unitPrice, 1000, strategy);
+
+    assertThat(fixedPoint.calculatePriceMinorUnits(922337203685477507L, 1000, strategy))
+        .isEqualTo(FixedPointArithmetic.UNREPRESENTABLE);
+    assertThat(result)
+        .isEqualTo(
+            service.calculatePrice(unitPrice, 1000, strategy).setScale(2, RoundingMode.HALF_UP));
+  }
+
+  @Test
+  void shouldFallBackToBigDecimalWhenRateIsNotWholeBasisPoints() {
+    PercentageDiscount preciseDiscount = PercentageDiscount.of(new BigDecimal("0.12345"));
+    PriceCalculatorService bigDecimal = new PriceCalculatorService(List.of(preciseDiscount));
+    PriceCalculatorService fixedPoint =
+        new PriceCalculatorService(
+            List.of(preciseDiscount), PricingMode.FIXED_POINT, 2, RoundingMode.HALF_EVEN);
+    DiscountStrategy strategy =
+        new DiscountStrategy(DiscountType.PERCENTAGE, DiscountPolicy.CUMULATIVE);
+
+    BigDecimal result = fixedPoint.calculatePrice(new BigDecimal("19.99"), 3, strategy);
+
+    assertThat(fixedPoint.calculatePriceMinorUnits(1999, 3, strategy))
+        .isEqualTo(FixedPointArithmetic.UNREPRESENTABLE);
+    assertThat(result)
+        .isEqualTo(
+            bigDecimal
+                .calculatePrice(new BigDecimal("19.99"), 3, strategy)
+                .setScale(2, RoundingMode.HALF_EVEN));
+  }
+
+  /** Straightforward per-call implementation used as the reference for the compiled plans. */
+  private static BigDecimal referencePrice(
+      List<Discount> discounts, BigDecimal unitPrice, int quantity, DiscountStrategy strategy) {
+    BigDecimal total = unitPrice.multiply(BigDecimal.valueOf(quantity));
+    List<Discount> selected =
+        switch (strategy.getDiscountType()) {
+          case QUANTITY -> discounts.stream().filter(d -> d instanceof QuantityDiscount).toList();
+          case PERCENTAGE ->
+              discounts.stream().filter(d -> d instanceof PercentageDiscount).toList();
+          case BOTH -> discounts;
+        };
+    return switch (strategy.getDiscountPolicy()) {
+      case CUMULATIVE -> {
+        BigDecimal result = total;
+        for (Discount discount : selected) {
+          result = discount.apply(result, quantity);
+        }
+        yield result;
+      }
+      case HIGHEST ->
+          selected.stream()
+              .map(discount -> discount.apply(total, quantity))
+              .min(BigDecimal::compareTo)
+              .orElse(total);
+    };
+  }
 }
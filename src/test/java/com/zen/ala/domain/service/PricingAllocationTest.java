@@ -0,0 +1,86 @@
+package com.zen.ala.domain.service;
+
+import com.zen.ala.domain.service.discount.DiscountStrategy;
+import com.zen.ala.domain.service.discount.PercentageDiscount;
+import com.zen.ala.domain.service.discount.QuantityDiscount;
+import com.zen.ala.domain.service.discount.dict.DiscountPolicy;
+import com.zen.ala.domain.service.discount.dict.DiscountType;
+import com.zen.ala.domain.service.discount.dict.PricingMode;
+import com.zen.ala.support.AllocationBudget;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Allocation budget tests for the pricing engine.
+ *
+ * <p>Checks the bytes allocated per call of the discounts and of {@link PriceCalculatorService}
+ * for every strategy and pricing mode against {@code allocation-budgets.properties}. Run with
+ * {@code ./gradlew allocationTest}.
+ */
+@Tag("allocation")
+class PricingAllocationTest {
+
+  private static final BigDecimal UNIT_PRICE = new BigDecimal("1999.99");
+  private static final int QUANTITY = 25;
+
+  private static final QuantityDiscount quantityDiscount = QuantityDiscount.of(thresholds());
+  private static final PercentageDiscount percentageDiscount =
+      PercentageDiscount.of(new BigDecimal("0.10"));
+
+  @Test
+  void quantityDiscountShouldStayWithinBudget() {
+    AllocationBudget.assertWithinBudget(
+        "QuantityDiscount.apply", () -> quantityDiscount.apply(UNIT_PRICE, QUANTITY));
+  }
+
+  @Test
+  void percentageDiscountShouldStayWithinBudget() {
+    AllocationBudget.assertWithinBudget(
+        "PercentageDiscount.apply", () -> percentageDiscount.apply(UNIT_PRICE, QUANTITY));
+  }
+
+  @ParameterizedTest
+  @MethodSource("strategies")
+  void calculatePriceShouldStayWithinBudget(
+      PricingMode mode, DiscountType discountType, DiscountPolicy discountPolicy) {
+    // given
+    PriceCalculatorService service =
+        new PriceCalculatorService(
+            List.of(percentageDiscount, quantityDiscount), mode, 2, RoundingMode.HALF_EVEN);
+    DiscountStrategy strategy = new DiscountStrategy(discountType, discountPolicy);
+
+    // then
+    AllocationBudget.assertWithinBudget(
+        "PriceCalculatorService.calculatePrice." + mode + "." + discountType + "." + discountPolicy,
+        () -> service.calculatePrice(UNIT_PRICE, QUANTITY, strategy));
+  }
+
+  static List<Arguments> strategies() {
+    List<Arguments> strategies = new ArrayList<>();
+    for (PricingMode mode : PricingMode.values()) {
+      for (DiscountType type : DiscountType.values()) {
+        for (DiscountPolicy policy : DiscountPolicy.values()) {
+          strategies.add(Arguments.of(mode, type, policy));
+        }
+      }
+    }
+    return strategies;
+  }
+
+  private static NavigableMap<Integer, BigDecimal> thresholds() {
+    NavigableMap<Integer, BigDecimal> thresholds = new TreeMap<>();
+    thresholds.put(10, new BigDecimal("0.05"));
+    thresholds.put(20, new BigDecimal("0.10"));
+    thresholds.put(50, new BigDecimal("0.15"));
+    return thresholds;
+  }
+}
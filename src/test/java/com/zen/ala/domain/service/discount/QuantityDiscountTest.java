@@ -0,0 +1,81 @@
+package com.zen.ala.domain.service.discount;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test class for {@link QuantityDiscount}.
+ *
+ * <p>Checks the compiled tier table against a plain {@link TreeMap} floor lookup, for tables small
+ * enough to be scanned and large enough to be binary searched, and which rates allow basis points.
+ */
+class QuantityDiscountTest {
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 3, 8, 9, 100, 10_000})
+  void shouldMatchFloorLookup(int tiers) {
+    // given
+    Random random = new Random(tiers);
+    NavigableMap<Integer, BigDecimal> thresholds = new TreeMap<>();
+    while (thresholds.size() < tiers) {
+      BigDecimal rate = BigDecimal.valueOf(random.nextInt(9999), 4);
+      thresholds.put(random.nextInt(tiers * 10 + 10) - 5, rate);
+    }
+    BasisPointDiscount discount = (BasisPointDiscount) QuantityDiscount.of(thresholds);
+    BigDecimal basePrice = new BigDecimal("19.99");
+
+    for (int quantity = -10; quantity <= tiers * 10 + 10; quantity++) {
+      // when
+      Map.Entry<Integer, BigDecimal> tier = thresholds.floorEntry(quantity);
+      BigDecimal rate = tier != null ? tier.getValue() : BigDecimal.ZERO;
+
+      // then
+      assertThat(discount.apply(basePrice, quantity))
+          .as("quantity %d", quantity)
+          .isEqualTo(basePrice.subtract(basePrice.multiply(rate)));
+      assertThat(discount.retainedBasisPoints(quantity))
+          .as("quantity %d", quantity)
+          .isEqualTo(Discount.BASIS_POINTS - rate.movePointRight(4).intValueExact());
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE})
+  void shouldHandleExtremeQuantities(int quantity) {
+    // given
+    NavigableMap<Integer, BigDecimal> thresholds = new TreeMap<>();
+    thresholds.put(0, BigDecimal.valueOf(0.05));
+    thresholds.put(Integer.MAX_VALUE, BigDecimal.valueOf(0.50));
+    QuantityDiscount discount = QuantityDiscount.of(thresholds);
+
+    // when
+    Map.Entry<Integer, BigDecimal> tier = thresholds.floorEntry(quantity);
+    BigDecimal expectedRate = tier != null ? tier.getValue() : BigDecimal.ZERO;
+
+    // then
+    assertThat(discount.apply(BigDecimal.valueOf(100), quantity))
+        .isEqualByComparingTo(
+            BigDecimal.valueOf(100).subtract(BigDecimal.valueOf(100).multiply(expectedRate)));
+  }
+
+  @Test
+  void shouldSupportBasisPointsOnlyIfEveryRateIsWhole() {
+    // given
+    NavigableMap<Integer, BigDecimal> whole = new TreeMap<>();
+    whole.put(10, new BigDecimal("0.05"));
+    NavigableMap<Integer, BigDecimal> fractional = new TreeMap<>(whole);
+    fractional.put(20, new BigDecimal("0.12345"));
+
+    // when + then
+    assertThat(QuantityDiscount.of(whole)).isInstanceOf(BasisPointDiscount.class);
+    assertThat(QuantityDiscount.of(fractional)).isNotInstanceOf(BasisPointDiscount.class);
+  }
+}
@@ -0,0 +1,174 @@
+package com.zen.ala.infrastructure.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zen.ala.domain.service.PriceCalculationEvent;
+import com.zen.ala.domain.service.PriceCalculatorService;
+import com.zen.ala.domain.service.discount.DiscountStrategy;
+import com.zen.ala.domain.service.discount.PercentageDiscount;
+import com.zen.ala.domain.service.discount.QuantityDiscount;
+import com.zen.ala.domain.service.discount.dict.DiscountPolicy;
+import com.zen.ala.domain.service.discount.dict.DiscountType;
+import com.zen.ala.infrastructure.config.FlightRecorderProperties;
+import com.zen.ala.infrastructure.diagnostics.FlightRecorderEndpoint.RecordingDescriptor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Test class for {@link FlightRecorderEndpoint}.
+ *
+ * <p>Starts, stops and dumps real flight recordings and reads the custom events back from the
+ * streamed dump, which leaves no file behind.
+ */
+class FlightRecorderEndpointTest {
+
+  private static final String DUMP_PREFIX = FlightRecorderEndpoint.RECORDING_NAME + "-";
+
+  private final FlightRecorderEndpoint endpoint =
+      new FlightRecorderEndpoint(new FlightRecorderProperties());
+
+  @TempDir Path tempDir;
+
+  @AfterEach
+  void closeRecording() {
+    endpoint.close();
+  }
+
+  @Test
+  void shouldDumpPriceCalculationsOfRunningRecording() throws IOException {
+    // given
+    TreeMap<Integer, BigDecimal> thresholds = new TreeMap<>();
+    thresholds.put(10, new BigDecimal("0.05"));
+    PriceCalculatorService service =
+        new PriceCalculatorService(
+            List.of(
+                QuantityDiscount.of(thresholds), PercentageDiscount.of(new BigDecimal("0.10"))));
+    endpoint.start(null, null);
+
+    // when
+    service.calculatePrice(
+        new BigDecimal("19.99"),
+        25,
+        new DiscountStrategy(DiscountType.BOTH, DiscountPolicy.CUMULATIVE));
+    WebEndpointResponse<Resource> dump = endpoint.dump(FlightRecorderEndpoint.RECORDING_NAME);
+
+    // then
+    assertThat(dump.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+    List<RecordedEvent> events =
+        RecordingFile.readAllEvents(save(dump)).stream()
+            .filter(event -> event.getEventType().getName().equals(PriceCalculationEvent.NAME))
+            .toList();
+    assertThat(events).hasSize(1);
+    RecordedEvent event = events.get(0);
+    assertThat(event.getString("discountType")).isEqualTo("BOTH");
+    assertThat(event.getString("discountPolicy")).isEqualTo("CUMULATIVE");
+    assertThat(event.getString("pricingMode")).isEqualTo("BIG_DECIMAL");
+    assertThat(event.getInt("quantity")).isEqualTo(25);
+    assertThat(event.getInt("discountsEvaluated")).isEqualTo(2);
+  }
+
+  @Test
+  void shouldLeaveSensitiveEventsOutOfDump() throws IOException {
+    // given
+    endpoint.start(null, null);
+
+    // when
+    WebEndpointResponse<Resource> dump = endpoint.dump(FlightRecorderEndpoint.RECORDING_NAME);
+
+    // then
+    assertThat(RecordingFile.readAllEvents(save(dump)))
+        .extracting(event -> event.getEventType().getName())
+        .isNotEmpty()
+        .doesNotContainAnyElementsOf(FlightRecorderEndpoint.SENSITIVE_EVENTS);
+  }
+
+  @Test
+  void shouldLeaveNoFileBehindWhenDumpIsNeverRead() throws IOException {
+    // given
+    endpoint.start(null, null);
+    List<Path> before = dumpFiles();
+
+    // when
+    WebEndpointResponse<Resource> dump = endpoint.dump(FlightRecorderEndpoint.RECORDING_NAME);
+
+    // then
+    assertThat(dump.getBody().contentLength()).isPositive();
+    assertThat(dumpFiles()).isEqualTo(before);
+    dump.getBody().getInputStream().close();
+  }
+
+  @Test
+  void shouldBoundRecordingByConfiguredLimits() {
+    // when
+    RecordingDescriptor started = endpoint.start(Duration.ofDays(1), DataSize.ofGigabytes(10));
+    RecordingDescriptor restarted = endpoint.start(Duration.ofMinutes(1), DataSize.ofMegabytes(1));
+
+    // then
+    assertThat(started.state()).isEqualTo("RUNNING");
+    assertThat(started.maxAge()).isEqualTo(Duration.ofMinutes(15));
+    assertThat(started.maxSizeBytes()).isEqualTo(DataSize.ofMegabytes(100).toBytes());
+    assertThat(restarted.maxAge()).isEqualTo(Duration.ofMinutes(15));
+  }
+
+  @Test
+  void shouldKeepStoppedRecordingForDump() {
+    // given
+    endpoint.start(Duration.ofMinutes(5), null);
+
+    // when
+    RecordingDescriptor stopped = endpoint.stop();
+
+    // then
+    assertThat(stopped.state()).isEqualTo("STOPPED");
+    assertThat(stopped.maxAge()).isEqualTo(Duration.ofMinutes(5));
+    assertThat(endpoint.dump(FlightRecorderEndpoint.RECORDING_NAME).getStatus())
+        .isEqualTo(WebEndpointResponse.STATUS_OK);
+  }
+
+  @Test
+  void shouldNotDumpUnknownRecording() {
+    // when
+    WebEndpointResponse<Resource> beforeStart =
+        endpoint.dump(FlightRecorderEndpoint.RECORDING_NAME);
+    endpoint.start(null, null);
+    WebEndpointResponse<Resource> otherName = endpoint.dump("other");
+
+    // then
+    assertThat(endpoint.recording().state()).isEqualTo("RUNNING");
+    assertThat(beforeStart.getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+    assertThat(otherName.getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+  }
+
+  // copies the streamed dump to a file the JFR parser can read
+  private Path save(WebEndpointResponse<Resource> dump) throws IOException {
+    Path file = tempDir.resolve("dump.jfr");
+    try (InputStream in = dump.getBody().getInputStream()) {
+      Files.copy(in, file);
+    }
+    return file;
+  }
+
+  private static List<Path> dumpFiles() throws IOException {
+    try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+      return files
+          .filter(file -> file.getFileName().toString().startsWith(DUMP_PREFIX))
+          .sorted()
+          .toList();
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.zen.ala.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Test class for {@link DatabaseWorkMetricsFilter}.
+ *
+ * <p>Covers the summaries recorded per method and URI pattern, and the bound on method tags.
+ */
+class DatabaseWorkMetricsFilterTest {
+
+  SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  DatabaseWorkMetricsFilter filter = new DatabaseWorkMetricsFilter(registry);
+
+  @Test
+  void shouldRecordEveryRequestIntoTheSummariesOfItsMethodAndUri() throws Exception {
+    // when
+    perform("GET");
+    perform("GET");
+    perform("DELETE");
+
+    // then
+    DistributionSummary get =
+        registry.get(DatabaseWorkMetricsFilter.QUERIES).tag("method", "GET").summary();
+    assertThat(registry.find(DatabaseWorkMetricsFilter.QUERIES).summaries()).hasSize(2);
+    assertThat(get.count()).isEqualTo(2);
+    assertThat(get.totalAmount()).isEqualTo(2);
+    assertThat(get.getId().getTag("uri")).isEqualTo("/api/v1/products/{id}");
+  }
+
+  @Test
+  void shouldTagNonStandardMethodsAsUnknown() throws Exception {
+    // when
+    perform("FOO");
+    perform("BAR");
+
+    // then
+    assertThat(registry.find(DatabaseWorkMetricsFilter.QUERIES).summaries())
+        .singleElement()
+        .satisfies(summary -> assertThat(summary.getId().getTag("method")).isEqualTo("UNKNOWN"))
+        .satisfies(summary -> assertThat(summary.count()).isEqualTo(2));
+  }
+
+  // a request to the product URI pattern that prepares one query
+  private void perform(String method) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v1/products/1");
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/products/{id}");
+    MockFilterChain chain =
+        new MockFilterChain(
+            new HttpServlet() {
+              @Override
+              protected void service(HttpServletRequest request, HttpServletResponse response) {
+                DatabaseWork.statement("select * from products where id = ?");
+              }
+            });
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+  }
+}
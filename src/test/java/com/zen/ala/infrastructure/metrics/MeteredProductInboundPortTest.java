@@ -0,0 +1,103 @@
+package com.zen.ala.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.zen.ala.domain.error.ProductNotFoundException;
+import com.zen.ala.domain.model.PriceQuoteRequest;
+import com.zen.ala.domain.port.in.ProductInboundPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link MeteredProductInboundPort}.
+ *
+ * <p>Covers the per-method timers, failed calls included, and the price quote counters per
+ * discount strategy.
+ */
+class MeteredProductInboundPortTest {
+
+  ProductInboundPort delegate;
+  SimpleMeterRegistry registry;
+  MeteredProductInboundPort port;
+
+  @BeforeEach
+  void setup() {
+    delegate = mock(ProductInboundPort.class);
+    registry = new SimpleMeterRegistry();
+    port = new MeteredProductInboundPort(delegate, registry);
+  }
+
+  @Test
+  void shouldRegisterAllMetersUpFront() {
+    // then
+    assertThat(registry.find(PortTimers.INBOUND).timers())
+        .hasSize(ProductInboundPort.class.getMethods().length);
+    assertThat(registry.find(MeteredProductInboundPort.QUOTES).counters()).hasSize(3 * 2 + 1);
+  }
+
+  @Test
+  void shouldTimeSuccessfulAndFailedCalls() {
+    // given
+    UUID id = UUID.randomUUID();
+    when(delegate.getProductPrice(id))
+        .thenReturn(BigDecimal.TEN)
+        .thenThrow(new ProductNotFoundException(id));
+
+    // when
+    BigDecimal price = port.getProductPrice(id);
+
+    // then
+    assertThat(price).isEqualTo(BigDecimal.TEN);
+    assertThatThrownBy(() -> port.getProductPrice(id))
+        .isInstanceOf(ProductNotFoundException.class);
+    assertThat(timerCount("getProductPrice")).isEqualTo(2);
+    assertThat(timerCount("getProductById")).isZero();
+  }
+
+  @Test
+  void shouldCountQuotesPerDiscountStrategy() {
+    // given
+    UUID id = UUID.randomUUID();
+    List<PriceQuoteRequest> requests =
+        Arrays.asList(
+            new PriceQuoteRequest(id, 1, "BOTH", "HIGHEST"),
+            new PriceQuoteRequest(id, 1, "QUANTITY", "CUMULATIVE"),
+            new PriceQuoteRequest(id, 1, "BOTH", null),
+            new PriceQuoteRequest(id, 1, "UNKNOWN", "HIGHEST"));
+
+    // when
+    port.calculateDiscountedPrice(BigDecimal.TEN, 5, "BOTH", "HIGHEST");
+    port.calculateDiscountedPrices(requests);
+
+    // then
+    assertThat(quoteCount("BOTH", "HIGHEST")).isEqualTo(2);
+    assertThat(quoteCount("QUANTITY", "CUMULATIVE")).isEqualTo(1);
+    assertThat(quoteCount("PERCENTAGE", "HIGHEST")).isZero();
+    assertThat(
+            quoteCount(MeteredProductInboundPort.INVALID, MeteredProductInboundPort.INVALID))
+        .isEqualTo(2);
+    assertThat(timerCount("calculateDiscountedPrice")).isEqualTo(1);
+    assertThat(timerCount("calculateDiscountedPrices")).isEqualTo(1);
+  }
+
+  private long timerCount(String method) {
+    return registry.get(PortTimers.INBOUND).tag("method", method).timer().count();
+  }
+
+  private double quoteCount(String type, String policy) {
+    return registry
+        .get(MeteredProductInboundPort.QUOTES)
+        .tag("discount.type", type)
+        .tag("discount.policy", policy)
+        .counter()
+        .count();
+  }
+}
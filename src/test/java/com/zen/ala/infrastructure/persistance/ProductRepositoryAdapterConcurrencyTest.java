@@ -0,0 +1,200 @@
+package com.zen.ala.infrastructure.persistance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.infrastructure.config.ProductCacheProperties;
+import com.zen.ala.infrastructure.config.ProductIdFilterProperties;
+import com.zen.ala.infrastructure.persistance.cache.ProductCache;
+import com.zen.ala.infrastructure.persistance.cache.ProductVersionTracker;
+import com.zen.ala.infrastructure.persistance.entity.ProductEntity;
+import com.zen.ala.infrastructure.persistance.filter.ProductIdFilter;
+import com.zen.ala.infrastructure.persistance.mapper.ProductEntityMapperImpl;
+import com.zen.ala.infrastructure.persistance.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Concurrency tests for the reads of {@link ProductRepositoryAdapter}.
+ *
+ * <p>The repository holds every query open until all concurrent callers are waiting, then checks
+ * that each burst of reads of one product, with the product cache on and off, and of one price
+ * issued a single query, and that a failed query leaves no flight behind.
+ */
+class ProductRepositoryAdapterConcurrencyTest {
+
+  private static final int CALLERS = 32;
+
+  private final ProductRepository productRepository = mock(ProductRepository.class);
+  private final UUID id = UUID.randomUUID();
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldQueryProductOncePerBurst(boolean cacheEnabled) throws Exception {
+    // given
+    ProductRepositoryAdapter adapter = adapter(cacheEnabled);
+    when(productRepository.findById(id))
+        .thenAnswer(
+            invocation -> {
+              await(release);
+              return Optional.of(new ProductEntity(id, "Product", BigDecimal.TEN, 1L));
+            });
+
+    // when
+    List<Future<Product>> results = burst(() -> adapter.findProductById(id));
+
+    // then
+    verify(productRepository, times(1)).findById(id);
+    for (Future<Product> result : results) {
+      assertThat(result.get().getId()).isEqualTo(id);
+    }
+  }
+
+  @Test
+  void shouldQueryPriceOncePerBurst() throws Exception {
+    // given
+    ProductRepositoryAdapter adapter = adapter(true);
+    when(productRepository.findPriceById(id))
+        .thenAnswer(
+            invocation -> {
+              await(release);
+              return Optional.of(BigDecimal.TEN);
+            });
+
+    // when
+    List<Future<BigDecimal>> results = burst(() -> adapter.findPriceById(id));
+
+    // then
+    verify(productRepository, times(1)).findPriceById(id);
+    for (Future<BigDecimal> result : results) {
+      assertThat(result.get()).isEqualTo(BigDecimal.TEN);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldShareFailedProductQueryAndLoadAfreshAfterIt(boolean cacheEnabled) throws Exception {
+    // given
+    ProductRepositoryAdapter adapter = adapter(cacheEnabled);
+    IllegalStateException failure = new IllegalStateException("database down");
+    when(productRepository.findById(id))
+        .thenAnswer(
+            invocation -> {
+              await(release);
+              throw failure;
+            })
+        .thenReturn(Optional.of(new ProductEntity(id, "Product", BigDecimal.TEN, 1L)));
+
+    // when
+    List<Future<Product>> results = burst(() -> adapter.findProductById(id));
+
+    // then
+    for (Future<Product> result : results) {
+      assertThatThrownBy(result::get)
+          .isInstanceOf(ExecutionException.class)
+          .cause()
+          .isSameAs(failure);
+    }
+    assertThat(adapter.findProductById(id).getId()).isEqualTo(id);
+    verify(productRepository, times(2)).findById(id);
+  }
+
+  @Test
+  void shouldShareFailedPriceQueryAndLoadAfreshAfterIt() throws Exception {
+    // given
+    ProductRepositoryAdapter adapter = adapter(true);
+    IllegalStateException failure = new IllegalStateException("database down");
+    when(productRepository.findPriceById(id))
+        .thenAnswer(
+            invocation -> {
+              await(release);
+              throw failure;
+            })
+        .thenReturn(Optional.of(BigDecimal.TEN));
+
+    // when
+    List<Future<BigDecimal>> results = burst(() -> adapter.findPriceById(id));
+
+    // then
+    for (Future<BigDecimal> result : results) {
+      assertThatThrownBy(result::get)
+          .isInstanceOf(ExecutionException.class)
+          .cause()
+          .isSameAs(failure);
+    }
+    assertThat(adapter.findPriceById(id)).isEqualTo(BigDecimal.TEN);
+    verify(productRepository, times(2)).findPriceById(id);
+  }
+
+  private ProductRepositoryAdapter adapter(boolean cacheEnabled) {
+    ProductCacheProperties cacheProperties = new ProductCacheProperties();
+    cacheProperties.setEnabled(cacheEnabled);
+    return new ProductRepositoryAdapter(
+        productRepository,
+        new ProductEntityMapperImpl(),
+        new ProductCache(cacheProperties),
+        new ProductIdFilter(new ProductIdFilterProperties()),
+        new ProductVersionTracker(cacheProperties),
+        mock(EntityManager.class),
+        mock(TransactionTemplate.class));
+  }
+
+  // starts all callers and releases the query once every caller is parked, either inside the
+  // query or waiting for it
+  private <T> List<Future<T>> burst(Supplier<T> call) throws InterruptedException {
+    List<Thread> threads = new ArrayList<>();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            CALLERS,
+            runnable -> {
+              Thread thread = new Thread(runnable);
+              threads.add(thread);
+              return thread;
+            });
+    try {
+      List<Future<T>> results = new ArrayList<>();
+      for (int i = 0; i < CALLERS; i++) {
+        results.add(executor.submit(call::get));
+      }
+      while (threads.size() < CALLERS
+          || !threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+        Thread.sleep(1);
+      }
+      release.countDown();
+      return results;
+    } finally {
+      executor.shutdown();
+      assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package com.zen.ala.infrastructure.persistance;
+
+import static com.zen.ala.support.StatementCounts.assertStatements;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.zen.ala.domain.error.ProductVersionConflictException;
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.infrastructure.config.ProductCacheProperties;
+import com.zen.ala.infrastructure.config.ProductIdFilterProperties;
+import com.zen.ala.infrastructure.persistance.cache.ProductCache;
+import com.zen.ala.infrastructure.persistance.cache.ProductVersionTracker;
+import com.zen.ala.infrastructure.persistance.filter.ProductIdFilter;
+import com.zen.ala.infrastructure.persistance.mapper.ProductEntityMapperImpl;
+import com.zen.ala.infrastructure.persistance.repository.ProductRepository;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Statement budget of every {@link ProductRepositoryAdapter} operation.
+ *
+ * <p>Each operation runs in its own transaction, as it does behind the API, and must execute
+ * exactly the counted queries and updates. A select before an update or a query per row of a bulk
+ * path fails here before it reaches production.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+  ProductRepositoryAdapter.class,
+  ProductEntityMapperImpl.class,
+  ProductCache.class,
+  ProductCacheProperties.class,
+  ProductVersionTracker.class,
+  ProductIdFilter.class,
+  ProductIdFilterProperties.class
+})
+class ProductRepositoryAdapterStatementsTest {
+
+  @Autowired private ProductRepositoryAdapter adapter;
+  @Autowired private ProductRepository productRepository;
+  @Autowired private ProductCache productCache;
+
+  @AfterEach
+  void deleteProducts() {
+    productRepository.deleteAllInBatch();
+    productCache.invalidateAll();
+  }
+
+  @Test
+  void shouldInsertNewProductWithoutSelect() {
+    assertStatements(0, 1, () -> adapter.saveProduct(product()));
+  }
+
+  @Test
+  void shouldInsertProductsInOneBatch() {
+    List<Product> products = List.of(product(), product(), product());
+
+    assertStatements(0, 1, () -> adapter.saveProducts(products));
+  }
+
+  @Test
+  void shouldFindProductWithOneQueryOnlyOnCacheMiss() {
+    // given
+    Product product = adapter.saveProduct(product());
+    productCache.invalidate(product.getId());
+
+    // when / then
+    assertStatements(1, 0, () -> adapter.findProductById(product.getId()));
+    assertStatements(0, 0, () -> adapter.findProductById(product.getId()));
+  }
+
+  @Test
+  void shouldFindPriceWithOneQueryOnlyOnCacheMiss() {
+    // given
+    Product product = adapter.saveProduct(product());
+    productCache.invalidate(product.getId());
+
+    // when / then
+    assertStatements(1, 0, () -> adapter.findPriceById(product.getId()));
+    adapter.findProductById(product.getId());
+    assertStatements(0, 0, () -> adapter.findPriceById(product.getId()));
+  }
+
+  @Test
+  void shouldFindProductsByIdsWithOneQueryPerInClauseChunk() {
+    // given
+    List<Product> products = new ArrayList<>();
+    for (int i = 0; i <= ProductRepositoryAdapter.IN_CLAUSE_CHUNK_SIZE; i++) {
+      products.add(product());
+    }
+    adapter.saveProducts(products);
+    List<UUID> ids = products.stream().map(Product::getId).toList();
+
+    // when / then
+    assertStatements(2, 0, () -> adapter.findProductsByIds(ids));
+    assertStatements(0, 0, () -> adapter.findProductsByIds(ids));
+  }
+
+  @Test
+  void shouldReadCatalogWithOneQuery() {
+    // given
+    adapter.saveProducts(List.of(product(), product(), product()));
+
+    // when / then
+    assertStatements(1, 0, adapter::findAllProducts);
+    assertStatements(1, 0, () -> adapter.findProductsAfter(null, 2));
+    assertStatements(1, 0, () -> adapter.forEachProduct(product -> {}));
+  }
+
+  @Test
+  void shouldUpdateProductWithoutSelect() {
+    // given
+    Product product = adapter.saveProduct(product());
+
+    // when / then
+    assertStatements(0, 1, () -> adapter.updateProduct(renamed(product, null)));
+    assertStatements(0, 1, () -> adapter.updateProduct(renamed(product, 1L)));
+  }
+
+  @Test
+  void shouldOnlyQueryOnVersionConflict() {
+    // given
+    Product product = adapter.saveProduct(product());
+
+    // when / then
+    assertStatements(
+        1,
+        1,
+        () ->
+            assertThatThrownBy(() -> adapter.updateProduct(renamed(product, 7L)))
+                .isInstanceOf(ProductVersionConflictException.class));
+  }
+
+  @Test
+  void shouldDeleteProductWithoutSelect() {
+    // given
+    Product product = adapter.saveProduct(product());
+
+    // when / then
+    assertStatements(0, 1, () -> adapter.deleteProduct(product.getId()));
+  }
+
+  @Test
+  void shouldAnswerVersionsWithoutStatements() {
+    // given
+    Product product = adapter.saveProduct(product());
+
+    // when / then
+    assertStatements(0, 0, () -> adapter.findKnownVersion(product.getId()));
+    assertStatements(0, 0, adapter::findCatalogVersion);
+  }
+
+  private static Product product() {
+    return new Product(UUID.randomUUID(), "Product", BigDecimal.valueOf(100));
+  }
+
+  private static Product renamed(Product product, Long version) {
+    return new Product(product.getId(), "Renamed", product.getPrice(), version);
+  }
+}
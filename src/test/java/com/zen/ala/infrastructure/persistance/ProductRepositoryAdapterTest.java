@@ -1,16 +1,38 @@
 package com.zen.ala.infrastructure.persistance;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
+import com.zen.ala.domain.error.ProductNotFoundException;
+import com.zen.ala.domain.error.ProductVersionConflictException;
 import com.zen.ala.domain.model.Product;
+import com.zen.ala.infrastructure.config.ProductCacheProperties;
+import com.zen.ala.infrastructure.config.ProductIdFilterProperties;
+import com.zen.ala.infrastructure.metrics.DatabaseWork;
+import com.zen.ala.infrastructure.persistance.cache.ProductCache;
+import com.zen.ala.infrastructure.persistance.cache.ProductVersionTracker;
+import com.zen.ala.infrastructure.persistance.filter.ProductIdFilter;
 import com.zen.ala.infrastructure.persistance.mapper.ProductEntityMapperImpl;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 /**
@@ -20,12 +42,22 @@ import org.testcontainers.junit.jupiter.Testcontainers;
  * ProductRepositoryAdapter} class. It includes various test cases to ensure that the product
  * repository adapter works as expected with different product operations.
  */
-@DataJpaTest
+@DataJpaTest(properties = "catalog.id-filter.enabled=true")
 @Testcontainers
-@Import({ProductRepositoryAdapter.class, ProductEntityMapperImpl.class})
+@Import({
+  ProductRepositoryAdapter.class,
+  ProductEntityMapperImpl.class,
+  ProductCache.class,
+  ProductCacheProperties.class,
+  ProductVersionTracker.class,
+  ProductIdFilter.class,
+  ProductIdFilterProperties.class
+})
 class ProductRepositoryAdapterTest {
 
   @Autowired private ProductRepositoryAdapter adapter;
+  @Autowired private ProductCache productCache;
+  @Autowired private ProductIdFilter productIdFilter;
 
   @Test
   void shouldFindSingleProduct() {
@@ -44,6 +76,28 @@ class ProductRepositoryAdapterTest {
     assertThat(found.getPrice()).isEqualByComparingTo(BigDecimal.valueOf(100));
   }
 
+  @Test
+  void shouldRejectUnknownIdsWithoutQueryOnceFilterIsBuilt() {
+    // given
+    UUID id = UUID.randomUUID();
+    productIdFilter.rebuild(0, consumer -> {});
+    adapter.saveProduct(new Product(id, "Product", BigDecimal.valueOf(100)));
+    productCache.invalidateAll();
+    long rejections = productIdFilter.getRejections();
+
+    // when
+    Product found = adapter.findProductById(id);
+    for (int i = 0; i < 20; i++) {
+      assertThatThrownBy(() -> adapter.findProductById(UUID.randomUUID()))
+          .isInstanceOf(ProductNotFoundException.class);
+    }
+
+    // then
+    assertThat(found.getId()).isEqualTo(id);
+    // a few unknown ids may be false positives that are looked up in the database
+    assertThat(productIdFilter.getRejections() - rejections).isGreaterThanOrEqualTo(15);
+  }
+
   @Test
   void shouldFindAllProducts() {
     // given
@@ -57,6 +111,132 @@ class ProductRepositoryAdapterTest {
     assertThat(products).hasSizeGreaterThanOrEqualTo(2);
   }
 
+  @Test
+  void shouldFindPriceWithoutLoadingProduct() {
+    // given
+    UUID id = UUID.randomUUID();
+    adapter.saveProduct(new Product(id, "Product", BigDecimal.valueOf(100)));
+    productCache.invalidateAll();
+
+    // when
+    BigDecimal price = adapter.findPriceById(id);
+
+    // then
+    assertThat(price).isEqualByComparingTo(BigDecimal.valueOf(100));
+    assertThatThrownBy(() -> adapter.findPriceById(UUID.randomUUID()))
+        .isInstanceOf(ProductNotFoundException.class);
+  }
+
+  @Test
+  void shouldFindProductsByIds() {
+    // given
+    UUID id1 = UUID.randomUUID();
+    UUID id2 = UUID.randomUUID();
+    adapter.saveProduct(new Product(id1, "Product1", BigDecimal.valueOf(100)));
+    adapter.saveProduct(new Product(id2, "Product2", BigDecimal.valueOf(200)));
+
+    // when
+    List<Product> products = adapter.findProductsByIds(List.of(id1, id2, UUID.randomUUID()));
+
+    // then
+    assertThat(products).extracting(Product::getId).containsExactlyInAnyOrder(id1, id2);
+  }
+
+  @Test
+  void shouldFindProductsAcrossInClauseChunks() {
+    // given
+    List<Product> products = new ArrayList<>();
+    for (int i = 0; i < ProductRepositoryAdapter.IN_CLAUSE_CHUNK_SIZE + 500; i++) {
+      products.add(new Product(UUID.randomUUID(), "Product" + i, BigDecimal.ONE));
+    }
+    adapter.saveProducts(products);
+    List<UUID> ids = new ArrayList<>(products.stream().map(Product::getId).toList());
+    for (int i = 0; i < ProductRepositoryAdapter.IN_CLAUSE_CHUNK_SIZE; i++) {
+      ids.add(UUID.randomUUID());
+    }
+
+    // when
+    List<Product> found = adapter.findProductsByIds(ids);
+
+    // then
+    assertThat(found).hasSize(products.size());
+  }
+
+  @Test
+  void shouldStreamEveryProduct() {
+    // given
+    UUID id1 = UUID.randomUUID();
+    UUID id2 = UUID.randomUUID();
+    adapter.saveProduct(new Product(id1, "Product1", BigDecimal.valueOf(100)));
+    adapter.saveProduct(new Product(id2, "Product2", BigDecimal.valueOf(200)));
+
+    // when
+    List<Product> products = new ArrayList<>();
+    adapter.forEachProduct(products::add);
+
+    // then
+    assertThat(products).extracting(Product::getId).containsExactlyInAnyOrder(id1, id2);
+  }
+
+  @Test
+  void shouldSaveProductsInBatch() {
+    // given
+    List<Product> products = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      products.add(new Product(UUID.randomUUID(), "Product" + i, BigDecimal.valueOf(i)));
+    }
+
+    // when
+    Map<UUID, String> errors = adapter.saveProducts(products);
+
+    // then
+    assertThat(errors).isEmpty();
+    assertThat(adapter.findProductsByIds(products.stream().map(Product::getId).toList()))
+        .hasSize(10);
+  }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  void shouldRetryFailedBatchRowByRow() {
+    // given
+    UUID existingId = UUID.randomUUID();
+    adapter.saveProducts(List.of(new Product(existingId, "Existing", BigDecimal.ONE)));
+    UUID newId = UUID.randomUUID();
+
+    // when
+    Map<UUID, String> errors =
+        adapter.saveProducts(
+            List.of(
+                new Product(newId, "New", BigDecimal.ONE),
+                new Product(existingId, "Duplicate", BigDecimal.ONE)));
+
+    // then
+    assertThat(errors).containsOnlyKeys(existingId);
+    assertThat(adapter.findProductsByIds(List.of(newId))).hasSize(1);
+  }
+
+  @Test
+  void shouldPageThroughProductsInIdOrder() {
+    // given
+    Set<UUID> ids = new HashSet<>();
+    for (int i = 0; i < 7; i++) {
+      UUID id = UUID.randomUUID();
+      ids.add(id);
+      adapter.saveProduct(new Product(id, "Product" + i, BigDecimal.valueOf(100)));
+    }
+
+    // when
+    List<UUID> seen = new ArrayList<>();
+    List<Product> page = adapter.findProductsAfter(null, 3);
+    while (!page.isEmpty()) {
+      page.forEach(product -> seen.add(product.getId()));
+      page = adapter.findProductsAfter(page.get(page.size() - 1).getId(), 3);
+    }
+
+    // then
+    assertThat(seen).doesNotHaveDuplicates().containsAll(ids);
+  }
+
   @Test
   void shouldUpdateProduct() {
     // given
@@ -67,15 +247,66 @@ class ProductRepositoryAdapterTest {
     product = adapter.saveProduct(product);
     product.setName("Updated Product");
     product.setPrice(BigDecimal.valueOf(200));
-    adapter.updateProduct(product);
+    Product updated = adapter.updateProduct(product);
 
     Product found = adapter.findProductById(id);
 
     // then
+    assertThat(updated.getVersion()).isEqualTo(1L);
     assertThat(found).isNotNull();
     assertThat(found.getId()).isEqualTo(id);
     assertThat(found.getName()).isEqualTo("Updated Product");
     assertThat(found.getPrice()).isEqualByComparingTo(BigDecimal.valueOf(200));
+    assertThat(found.getVersion()).isEqualTo(1L);
+  }
+
+  @Test
+  void shouldRejectUpdateBasedOnStaleVersion() {
+    // given
+    UUID id = UUID.randomUUID();
+    Product saved = adapter.saveProduct(new Product(id, "Product", BigDecimal.valueOf(100)));
+    long version = saved.getVersion();
+
+    // when
+    adapter.updateProduct(new Product(id, "First writer", BigDecimal.valueOf(110), version));
+
+    // then
+    assertThatThrownBy(
+            () ->
+                adapter.updateProduct(
+                    new Product(id, "Second writer", BigDecimal.valueOf(120), version)))
+        .isInstanceOf(ProductVersionConflictException.class);
+    assertThat(adapter.findProductById(id).getName()).isEqualTo("First writer");
+    assertThatThrownBy(
+            () ->
+                adapter.updateProduct(
+                    new Product(UUID.randomUUID(), "Missing", BigDecimal.ONE, version)))
+        .isInstanceOf(ProductNotFoundException.class);
+  }
+
+  @Test
+  void shouldTrackVersionsAndCatalogVersionOnWrites() {
+    // given
+    UUID id = UUID.randomUUID();
+    String catalogVersion = adapter.findCatalogVersion();
+
+    // when
+    Product saved = adapter.saveProduct(new Product(id, "Product", BigDecimal.valueOf(100)));
+    Long savedVersion = adapter.findKnownVersion(id);
+    adapter.updateProduct(new Product(id, "Updated", BigDecimal.valueOf(110), saved.getVersion()));
+    Long updatedVersion = adapter.findKnownVersion(id);
+    adapter.updateProduct(new Product(id, "Overwritten", BigDecimal.valueOf(120)));
+    Long overwrittenVersion = adapter.findKnownVersion(id);
+    Long reloadedVersion = adapter.findProductById(id).getVersion();
+    adapter.deleteProduct(id);
+
+    // then
+    assertThat(savedVersion).isEqualTo(saved.getVersion());
+    assertThat(updatedVersion).isEqualTo(saved.getVersion() + 1);
+    assertThat(overwrittenVersion).isNull();
+    assertThat(adapter.findKnownVersion(id)).isNull();
+    assertThat(reloadedVersion).isEqualTo(saved.getVersion() + 2);
+    assertThat(adapter.findCatalogVersion()).isNotEqualTo(catalogVersion);
   }
 
   @Test
@@ -91,4 +322,88 @@ class ProductRepositoryAdapterTest {
     // then
     assertThat(products.stream().anyMatch(p -> p.getId().equals(id))).isFalse();
   }
+
+  @Test
+  void shouldServeCachedProductAndEvictItOnDelete() {
+    // given
+    UUID id = UUID.randomUUID();
+    adapter.saveProduct(new Product(id, "Product", BigDecimal.valueOf(100)));
+
+    // when
+    Product cached = productCache.getIfPresent(id);
+    adapter.deleteProduct(id);
+
+    // then
+    assertThat(cached).isNotNull();
+    assertThat(productCache.getIfPresent(id)).isNull();
+    assertThatThrownBy(() -> adapter.findProductById(id)).isInstanceOf(RuntimeException.class);
+  }
+
+  @Test
+  void shouldCountRoundTripsAndMappedRowsOfCurrentRequest() {
+    // given
+    List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    for (UUID id : ids) {
+      adapter.saveProduct(new Product(id, "Product", BigDecimal.valueOf(100)));
+    }
+    // flushes the pending inserts before counting
+    adapter.findAllProducts();
+    productCache.invalidateAll();
+
+    // when
+    DatabaseWork work = DatabaseWork.begin();
+    try {
+      adapter.findProductsByIds(ids);
+    } finally {
+      work.end();
+    }
+    productCache.invalidateAll();
+    adapter.findProductsByIds(ids);
+
+    // then
+    assertThat(work.getRoundTrips()).isEqualTo(1);
+    assertThat(work.getRowsMapped()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldEmitRepositoryEventsWhileRecorded() throws IOException {
+    // given
+    List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    for (UUID id : ids) {
+      adapter.saveProduct(new Product(id, "Product", BigDecimal.valueOf(100)));
+    }
+    productCache.invalidate(ids.get(0));
+
+    // when
+    List<RecordedEvent> events;
+    try (Recording recording = new Recording()) {
+      recording.enable(ProductRepositoryEvent.NAME);
+      recording.start();
+      adapter.findProductsByIds(ids);
+      adapter.findProductById(ids.get(1));
+      assertThatThrownBy(() -> adapter.findPriceById(UUID.randomUUID()))
+          .isInstanceOf(ProductNotFoundException.class);
+      recording.stop();
+      Path file = Files.createTempFile("repository-events", ".jfr");
+      try {
+        recording.dump(file);
+        events = RecordingFile.readAllEvents(file);
+      } finally {
+        Files.delete(file);
+      }
+    }
+
+    // then
+    assertThat(events)
+        .extracting(
+            event -> event.getString("operation"),
+            event -> event.getInt("rows"),
+            event -> event.getInt("cacheHits"),
+            event -> event.getInt("cacheMisses"))
+        .startsWith(tuple("findProductsByIds", 3, 2, 1), tuple("findProductById", 1, 1, 0));
+    // a price that is not found reports no row, whether the id filter or the database rejected it
+    assertThat(events).hasSize(3);
+    assertThat(events.get(2).getString("operation")).isEqualTo("findPriceById");
+    assertThat(events.get(2).getInt("rows")).isZero();
+  }
 }
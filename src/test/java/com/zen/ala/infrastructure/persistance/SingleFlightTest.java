@@ -0,0 +1,130 @@
+package com.zen.ala.infrastructure.persistance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link SingleFlight}.
+ *
+ * <p>Holds a load open until every concurrent caller is waiting, then checks that the burst was
+ * served by a single load and that no flight is left behind.
+ */
+class SingleFlightTest {
+
+  private static final int CALLERS = 64;
+
+  @Test
+  void shouldShareOneLoadAcrossConcurrentCallers() throws Exception {
+    // given
+    SingleFlight<UUID, String> singleFlight = new SingleFlight<>();
+    UUID id = UUID.randomUUID();
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+
+    // when
+    List<Future<String>> results =
+        burst(
+            () ->
+                singleFlight.load(
+                    id,
+                    key -> {
+                      loads.incrementAndGet();
+                      await(release);
+                      return "product " + key;
+                    }),
+            release);
+
+    // then
+    assertThat(loads).hasValue(1);
+    for (Future<String> result : results) {
+      assertThat(result.get()).isEqualTo("product " + id);
+    }
+    assertThat(singleFlight.inFlight()).isZero();
+  }
+
+  @Test
+  void shouldShareFailureAndReleaseKey() throws Exception {
+    // given
+    SingleFlight<UUID, String> singleFlight = new SingleFlight<>();
+    UUID id = UUID.randomUUID();
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    IllegalStateException failure = new IllegalStateException("database down");
+
+    // when
+    List<Future<String>> results =
+        burst(
+            () ->
+                singleFlight.load(
+                    id,
+                    key -> {
+                      loads.incrementAndGet();
+                      await(release);
+                      throw failure;
+                    }),
+            release);
+
+    // then
+    assertThat(loads).hasValue(1);
+    for (Future<String> result : results) {
+      assertThatThrownBy(result::get)
+          .isInstanceOf(ExecutionException.class)
+          .cause()
+          .isSameAs(failure);
+    }
+    assertThat(singleFlight.inFlight()).isZero();
+    assertThat(singleFlight.load(id, key -> "reloaded")).isEqualTo("reloaded");
+  }
+
+  // starts all callers and releases the load once every caller is parked, either inside the load
+  // or waiting for it
+  private static List<Future<String>> burst(Supplier<String> call, CountDownLatch release)
+      throws InterruptedException {
+    List<Thread> threads = new ArrayList<>();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            CALLERS,
+            runnable -> {
+              Thread thread = new Thread(runnable);
+              threads.add(thread);
+              return thread;
+            });
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < CALLERS; i++) {
+        results.add(executor.submit(call::get));
+      }
+      while (threads.size() < CALLERS
+          || !threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+        Thread.sleep(1);
+      }
+      release.countDown();
+      return results;
+    } finally {
+      executor.shutdown();
+      assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package com.zen.ala.infrastructure.persistance.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.infrastructure.config.ProductCacheProperties;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ProductCache}.
+ *
+ * <p>Covers read-through loading outside the entry lock, copy semantics, the size bound and
+ * disabling the cache.
+ */
+class ProductCacheTest {
+
+  @Test
+  void shouldLoadOnceAndServeCopies() {
+    // given
+    ProductCache cache = new ProductCache(new ProductCacheProperties());
+    UUID id = UUID.randomUUID();
+    AtomicInteger loads = new AtomicInteger();
+
+    // when
+    Product first = cache.get(id, key -> load(loads, key));
+    first.setName("Changed by caller");
+    Product second = cache.get(id, key -> load(loads, key));
+
+    // then
+    assertThat(loads).hasValue(1);
+    assertThat(second.getName()).isEqualTo("Product");
+    assertThat(cache.getNativeCache().stats().hitCount()).isEqualTo(1);
+    assertThat(cache.getNativeCache().stats().missCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldBulkLoadOnlyMisses() {
+    // given
+    ProductCache cache = new ProductCache(new ProductCacheProperties());
+    UUID cachedId = UUID.randomUUID();
+    UUID missedId = UUID.randomUUID();
+    UUID unknownId = UUID.randomUUID();
+    cache.put(new Product(cachedId, "Cached", BigDecimal.ONE));
+    AtomicInteger loads = new AtomicInteger();
+
+    // when
+    Map<UUID, Product> products =
+        cache.getAll(
+            List.of(cachedId, missedId, unknownId),
+            ids -> {
+              assertThat(ids).containsExactly(missedId, unknownId);
+              return Map.of(missedId, load(loads, missedId));
+            });
+
+    // then
+    assertThat(products).containsOnlyKeys(cachedId, missedId);
+    assertThat(cache.getIfPresent(missedId)).isNotNull();
+    assertThat(cache.getIfPresent(unknownId)).isNull();
+  }
+
+  @Test
+  void shouldNotCacheBulkLoadRacingWithInvalidation() {
+    // given
+    ProductCache cache = new ProductCache(new ProductCacheProperties());
+    UUID id = UUID.randomUUID();
+    UUID otherId = UUID.randomUUID();
+
+    // when
+    Map<UUID, Product> products =
+        cache.getAll(
+            List.of(id),
+            ids -> {
+              Map<UUID, Product> loaded = new HashMap<>();
+              loaded.put(id, new Product(id, "Stale", BigDecimal.ONE));
+              // a writer updates some product while the bulk load is in flight
+              cache.invalidate(otherId);
+              return loaded;
+            });
+
+    // then
+    assertThat(products).containsOnlyKeys(id);
+    assertThat(cache.getIfPresent(id)).isNull();
+  }
+
+  @Test
+  void shouldLoadOutsideTheEntryLockAndNotCacheLoadRacingWithInvalidation() {
+    // given
+    ProductCache cache = new ProductCache(new ProductCacheProperties());
+    UUID id = UUID.randomUUID();
+
+    // when
+    Product product =
+        cache.get(
+            id,
+            key -> {
+              // a writer invalidating the same product must not wait for the load to finish
+              CompletableFuture.runAsync(() -> cache.invalidate(key))
+                  .orTimeout(5, TimeUnit.SECONDS)
+                  .join();
+              return new Product(key, "Stale", BigDecimal.ONE);
+            });
+
+    // then
+    assertThat(product.getName()).isEqualTo("Stale");
+    assertThat(cache.getIfPresent(id)).isNull();
+  }
+
+  @Test
+  void shouldNotExceedMaximumSize() {
+    // given
+    ProductCacheProperties properties = new ProductCacheProperties();
+    properties.setMaximumSize(100);
+    ProductCache cache = new ProductCache(properties);
+
+    // when
+    for (int i = 0; i < 10_000; i++) {
+      cache.put(new Product(UUID.randomUUID(), "Product" + i, BigDecimal.ONE));
+    }
+    cache.getNativeCache().cleanUp();
+
+    // then
+    assertThat(cache.getNativeCache().estimatedSize()).isLessThanOrEqualTo(100);
+    assertThat(cache.getNativeCache().stats().evictionCount()).isGreaterThanOrEqualTo(9_900);
+  }
+
+  @Test
+  void shouldAlwaysLoadWhenDisabled() {
+    // given
+    ProductCacheProperties properties = new ProductCacheProperties();
+    properties.setEnabled(false);
+    ProductCache cache = new ProductCache(properties);
+    UUID id = UUID.randomUUID();
+    AtomicInteger loads = new AtomicInteger();
+
+    // when
+    cache.get(id, key -> load(loads, key));
+    cache.get(id, key -> load(loads, key));
+
+    // then
+    assertThat(loads).hasValue(2);
+    assertThat(cache.getIfPresent(id)).isNull();
+  }
+
+  private static Product load(AtomicInteger loads, UUID id) {
+    loads.incrementAndGet();
+    return new Product(id, "Product", BigDecimal.valueOf(100));
+  }
+}
@@ -0,0 +1,88 @@
+package com.zen.ala.infrastructure.persistance.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zen.ala.infrastructure.config.ProductCacheProperties;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ProductVersionTracker}.
+ *
+ * <p>Covers reads racing writes and deletes, and when the catalog version changes.
+ */
+class ProductVersionTrackerTest {
+
+  @Test
+  void shouldNotMoveVersionBackForStaleRead() {
+    // given
+    ProductVersionTracker tracker = new ProductVersionTracker(new ProductCacheProperties());
+    UUID id = UUID.randomUUID();
+    long stamp = tracker.stamp();
+
+    // when
+    tracker.written(id, 4L);
+    tracker.loaded(id, 3L, stamp);
+
+    // then
+    assertThat(tracker.getVersion(id)).isEqualTo(4L);
+  }
+
+  @Test
+  void shouldIgnoreReadStartedBeforeWriteWithUnknownVersion() {
+    // given
+    ProductVersionTracker tracker = new ProductVersionTracker(new ProductCacheProperties());
+    UUID id = UUID.randomUUID();
+    long stamp = tracker.stamp();
+
+    // when
+    tracker.written(id, null);
+    tracker.loaded(id, 3L, stamp);
+    UUID otherId = UUID.randomUUID();
+    tracker.loaded(otherId, 1L, tracker.stamp());
+
+    // then
+    assertThat(tracker.getVersion(id)).isNull();
+    assertThat(tracker.getVersion(otherId)).isEqualTo(1L);
+  }
+
+  @Test
+  void shouldNotReviveDeletedProduct() {
+    // given
+    ProductVersionTracker tracker = new ProductVersionTracker(new ProductCacheProperties());
+    UUID id = UUID.randomUUID();
+    long stamp = tracker.stamp();
+    tracker.written(id, 0L);
+
+    // when
+    tracker.deleted(id);
+    tracker.loaded(id, 0L, stamp);
+
+    // then
+    assertThat(tracker.getVersion(id)).isNull();
+  }
+
+  @Test
+  void shouldChangeCatalogVersionOnWritesAndAfterExpiry() throws InterruptedException {
+    // given
+    ProductCacheProperties properties = new ProductCacheProperties();
+    ProductVersionTracker tracker = new ProductVersionTracker(properties);
+    properties.setExpireAfterWrite(Duration.ofMillis(20));
+    ProductVersionTracker expiring = new ProductVersionTracker(properties);
+
+    // when
+    String before = tracker.getCatalogVersion();
+    String unchanged = tracker.getCatalogVersion();
+    tracker.written(UUID.randomUUID(), 0L);
+    String expiringBefore = expiring.getCatalogVersion();
+    Thread.sleep(50);
+
+    // then
+    assertThat(unchanged).isEqualTo(before);
+    assertThat(tracker.getCatalogVersion()).isNotEqualTo(before);
+    assertThat(expiring.getCatalogVersion()).isNotEqualTo(expiringBefore);
+    assertThat(new ProductVersionTracker(new ProductCacheProperties()).getCatalogVersion())
+        .isNotEqualTo(before);
+  }
+}
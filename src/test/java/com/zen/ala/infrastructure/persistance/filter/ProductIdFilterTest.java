@@ -0,0 +1,148 @@
+package com.zen.ala.infrastructure.persistance.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zen.ala.infrastructure.config.ProductIdFilterProperties;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ProductIdFilter}.
+ *
+ * <p>Covers the false positive rate, ids written during a rebuild or committed after its scan,
+ * recently created ids and the staleness triggers.
+ */
+class ProductIdFilterTest {
+
+  @Test
+  void shouldKeepEveryStoredIdAndRejectMostUnknownOnes() {
+    // given
+    ProductIdFilter filter = new ProductIdFilter(properties(10_000));
+    List<UUID> stored = randomIds(10_000);
+
+    // when
+    filter.rebuild(stored.size(), consumer -> stored.forEach(consumer));
+    long falsePositives = randomIds(10_000).stream().filter(filter::mightContain).count();
+
+    // then
+    assertThat(stored).allMatch(filter::mightContain);
+    assertThat(falsePositives).isLessThan(300);
+    assertThat(filter.getRejections()).isEqualTo(10_000 - falsePositives);
+  }
+
+  @Test
+  void shouldAcceptEveryIdUntilBuilt() {
+    // given
+    ProductIdFilter filter = new ProductIdFilter(properties(1_000));
+
+    // when + then
+    assertThat(randomIds(100)).allMatch(filter::mightContain);
+    assertThat(filter.isStale()).isTrue();
+  }
+
+  @Test
+  void shouldKeepIdsAddedDuringRebuild() {
+    // given
+    ProductIdFilter filter = new ProductIdFilter(properties(1_000));
+    UUID addedDuring = UUID.randomUUID();
+
+    // when
+    filter.rebuild(0, consumer -> filter.add(addedDuring));
+
+    // then
+    assertThat(filter.mightContain(addedDuring)).isTrue();
+    assertThat(filter.isStale()).isFalse();
+  }
+
+  @Test
+  void shouldKeepRandomIdsAddedBeforeRebuildButCommittedAfterItsScan() {
+    // given
+    ProductIdFilter filter = new ProductIdFilter(properties(1_000));
+    filter.rebuild(0, consumer -> {});
+    UUID committedDuringScan = UUID.randomUUID();
+    UUID committedAfterRebuild = UUID.randomUUID();
+    filter.add(committedDuringScan);
+    filter.add(committedAfterRebuild);
+
+    // when
+    filter.rebuild(0, consumer -> filter.committed(List.of(committedDuringScan)));
+    filter.committed(List.of(committedAfterRebuild));
+
+    // then
+    assertThat(committedDuringScan.version()).isEqualTo(4);
+    assertThat(filter.mightContain(committedDuringScan)).isTrue();
+    assertThat(filter.mightContain(committedAfterRebuild)).isTrue();
+  }
+
+  @Test
+  void shouldNotCountCommittedIdsTwice() {
+    // given
+    ProductIdFilter filter = new ProductIdFilter(properties(100));
+    filter.rebuild(0, consumer -> {});
+    List<UUID> ids = randomIds(100);
+
+    // when
+    ids.forEach(filter::add);
+    filter.committed(ids);
+
+    // then
+    assertThat(filter.isStale()).isFalse();
+  }
+
+  @Test
+  void shouldNotRejectRecentlyCreatedIdsItHasNotSeen() {
+    // given
+    ProductIdFilter filter = new ProductIdFilter(properties(1_000));
+    long now = System.currentTimeMillis();
+    UUID recent = uuidV7(now);
+    UUID old = uuidV7(now - Duration.ofHours(1).toMillis());
+
+    // when
+    filter.rebuild(0, consumer -> {});
+
+    // then
+    assertThat(filter.mightContain(recent)).isTrue();
+    assertThat(filter.mightContain(old)).isFalse();
+  }
+
+  @Test
+  void shouldBecomeStaleWhenFullOrAfterManyDeletions() {
+    // given
+    ProductIdFilter full = new ProductIdFilter(properties(100));
+    ProductIdFilter deleted = new ProductIdFilter(properties(100));
+    full.rebuild(0, consumer -> {});
+    deleted.rebuild(0, consumer -> {});
+
+    // when
+    randomIds(101).forEach(full::add);
+    randomIds(11).forEach(deleted::remove);
+
+    // then
+    assertThat(full.isStale()).isTrue();
+    assertThat(deleted.isStale()).isTrue();
+  }
+
+  private static ProductIdFilterProperties properties(long expectedProducts) {
+    ProductIdFilterProperties properties = new ProductIdFilterProperties();
+    properties.setEnabled(true);
+    properties.setExpectedProducts(expectedProducts);
+    return properties;
+  }
+
+  private static UUID uuidV7(long unixMillis) {
+    long random = ThreadLocalRandom.current().nextLong();
+    return new UUID((unixMillis << 16) | 0x7000L, (random >>> 2) | 0x8000_0000_0000_0000L);
+  }
+
+  private static List<UUID> randomIds(int count) {
+    List<UUID> ids = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      ids.add(UUID.randomUUID());
+    }
+    return ids;
+  }
+}
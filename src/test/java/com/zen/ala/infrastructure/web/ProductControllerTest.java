@@ -1,7 +1,12 @@
 package com.zen.ala.infrastructure.web;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -9,22 +14,51 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.zen.ala.application.service.ProductService;
 import com.zen.ala.domain.error.InvalidDiscountStrategyException;
 import com.zen.ala.domain.error.ProductNotFoundException;
+import com.zen.ala.domain.error.ProductVersionConflictException;
+import com.zen.ala.domain.model.PriceQuote;
+import com.zen.ala.domain.model.PriceQuoteRequest;
 import com.zen.ala.domain.model.Product;
+import com.zen.ala.domain.model.ProductImportFailure;
+import com.zen.ala.domain.model.ProductImportResult;
+import com.zen.ala.domain.model.ProductImportRow;
+import com.zen.ala.domain.model.ProductLookup;
+import com.zen.ala.domain.model.ProductPage;
+import com.zen.ala.infrastructure.config.BinaryWireFormatConfig;
+import com.zen.ala.infrastructure.config.ProductHttpCacheConfig;
+import com.zen.ala.infrastructure.config.ProductHttpCacheProperties;
+import com.zen.ala.infrastructure.config.ProductJsonCacheProperties;
 import com.zen.ala.infrastructure.persistance.ProductRepositoryAdapter;
+import com.zen.ala.infrastructure.web.binary.ProductBinaryCodec;
 import com.zen.ala.infrastructure.web.controller.ProductController;
+import com.zen.ala.infrastructure.web.dto.PriceQuoteRequestDto;
+import com.zen.ala.infrastructure.web.dto.PriceQuoteResponseDto;
+import com.zen.ala.infrastructure.web.dto.ProductImportResponseDto;
+import com.zen.ala.infrastructure.web.dto.ProductRequestDto;
 import com.zen.ala.infrastructure.web.dto.ProductResponseDto;
 import com.zen.ala.infrastructure.web.exception.ProductExceptionHandler;
+import com.zen.ala.infrastructure.web.json.ProductJsonCache;
+import com.zen.ala.infrastructure.web.mapper.PriceQuoteDtoMapperImpl;
+import com.zen.ala.infrastructure.web.mapper.ProductImportDtoMapperImpl;
+import com.zen.ala.infrastructure.web.mapper.ProductLookupDtoMapperImpl;
 import com.zen.ala.infrastructure.web.mapper.ProductRequestDtoMapper;
 import com.zen.ala.infrastructure.web.mapper.ProductRequestDtoMapperImpl;
 import com.zen.ala.infrastructure.web.mapper.ProductResponseDtoMapper;
 import com.zen.ala.infrastructure.web.mapper.ProductResponseDtoMapperImpl;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
@@ -34,7 +68,15 @@ import org.springframework.test.web.servlet.MockMvc;
 @Import({
   ProductRequestDtoMapperImpl.class,
   ProductResponseDtoMapperImpl.class,
-  ProductExceptionHandler.class
+  PriceQuoteDtoMapperImpl.class,
+  ProductImportDtoMapperImpl.class,
+  ProductLookupDtoMapperImpl.class,
+  ProductExceptionHandler.class,
+  ProductHttpCacheConfig.class,
+  ProductHttpCacheProperties.class,
+  ProductJsonCache.class,
+  ProductJsonCacheProperties.class,
+  BinaryWireFormatConfig.class
 })
 class ProductControllerTest {
 
@@ -64,6 +106,82 @@ class ProductControllerTest {
         .andExpect(jsonPath("$.price").value(100));
   }
 
+  @Test
+  void shouldAnswerConditionalGetFromKnownVersionWithoutLoading() throws Exception {
+    // given
+    UUID productId = UUID.randomUUID();
+
+    // when
+    when(productService.getKnownProductVersion(productId)).thenReturn(3L);
+
+    // then
+    mockMvc
+        .perform(get(PRODUCTS + "/" + productId).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+        .andExpect(content().string(""));
+    verify(productService, never()).getProductById(any());
+  }
+
+  @Test
+  void shouldReturnETagOfLoadedVersionAndHonourItWithoutKnownVersion() throws Exception {
+    // given
+    UUID productId = UUID.randomUUID();
+    Product product = new Product(productId, "Product", BigDecimal.valueOf(100), 2L);
+
+    // when
+    when(productService.getKnownProductVersion(productId)).thenReturn(null);
+    when(productService.getProductById(productId)).thenReturn(product);
+
+    // then
+    mockMvc
+        .perform(get(PRODUCTS + "/" + productId).header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+        .andExpect(jsonPath("$.version").value(2));
+    mockMvc
+        .perform(get(PRODUCTS + "/" + productId).header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void shouldServeCachedJsonOfKnownVersionWithoutLoading() throws Exception {
+    // given
+    UUID productId = UUID.randomUUID();
+    Product product = new Product(productId, "Product", BigDecimal.valueOf(100), 5L);
+
+    // when
+    when(productService.getKnownProductVersion(productId)).thenReturn(5L);
+    when(productService.getProductById(productId)).thenReturn(product);
+
+    // then
+    for (int i = 0; i < 3; i++) {
+      mockMvc
+          .perform(get(PRODUCTS + "/" + productId).accept(MediaType.APPLICATION_JSON))
+          .andExpect(status().isOk())
+          .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+          .andExpect(header().string(HttpHeaders.ETAG, "\"5\""))
+          .andExpect(jsonPath("$.name").value("Product"))
+          .andExpect(jsonPath("$.version").value(5));
+    }
+    verify(productService, times(1)).getProductById(productId);
+  }
+
+  @Test
+  void shouldAnswerConditionalListingFromCatalogVersion() throws Exception {
+    // when
+    when(productService.getCatalogVersion()).thenReturn("abc-7");
+
+    // then
+    mockMvc
+        .perform(get(PRODUCTS).header(HttpHeaders.IF_NONE_MATCH, "\"abc-7\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"abc-7\""));
+    verify(productService, never()).getProductPage(any(), anyInt());
+  }
+
   @Test
   void shouldReturnListOfProducts() throws Exception {
     // given
@@ -74,17 +192,129 @@ class ProductControllerTest {
     Product product2 = new Product(id2, "Product 2", BigDecimal.valueOf(200));
 
     // when
-    when(productService.getAllProducts()).thenReturn(List.of(product1, product2));
+    when(productService.getProductPage(isNull(), eq(100)))
+        .thenReturn(new ProductPage(List.of(product1, product2), null));
 
     // then
     mockMvc
         .perform(get(PRODUCTS).accept(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(ProductController.NEXT_CURSOR_HEADER))
         .andExpect(jsonPath("$.length()").value(2))
         .andExpect(jsonPath("$[0].name").value("Product 1"))
         .andExpect(jsonPath("$[1].name").value("Product 2"));
   }
 
+  @Test
+  void shouldReturnNextCursorAndAcceptItBack() throws Exception {
+    // given
+    UUID id1 = UUID.randomUUID();
+    UUID id2 = UUID.randomUUID();
+    Product product1 = new Product(id1, "Product 1", BigDecimal.valueOf(100));
+    Product product2 = new Product(id2, "Product 2", BigDecimal.valueOf(200));
+
+    when(productService.getProductPage(isNull(), eq(1)))
+        .thenReturn(new ProductPage(List.of(product1), id1));
+    when(productService.getProductPage(eq(id1), eq(1)))
+        .thenReturn(new ProductPage(List.of(product2), null));
+
+    // when
+    String cursor =
+        mockMvc
+            .perform(get(PRODUCTS).param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].name").value("Product 1"))
+            .andReturn()
+            .getResponse()
+            .getHeader(ProductController.NEXT_CURSOR_HEADER);
+
+    // then
+    mockMvc
+        .perform(get(PRODUCTS).param("limit", "1").param("cursor", cursor))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(ProductController.NEXT_CURSOR_HEADER))
+        .andExpect(jsonPath("$[0].name").value("Product 2"));
+  }
+
+  @Test
+  void shouldReturn400WhenInvalidPageRequest() throws Exception {
+    mockMvc
+        .perform(get(PRODUCTS).param("limit", "0"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status").value(400));
+
+    mockMvc
+        .perform(get(PRODUCTS).param("cursor", "not-a-cursor"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Invalid cursor: not-a-cursor"));
+  }
+
+  @Test
+  void shouldReturnProductsByIdsInRequestOrder() throws Exception {
+    // given
+    UUID id1 = UUID.randomUUID();
+    UUID id2 = UUID.randomUUID();
+    UUID missingId = UUID.randomUUID();
+    ProductLookup lookup =
+        new ProductLookup(
+            List.of(
+                new Product(id2, "Product 2", BigDecimal.valueOf(200)),
+                new Product(id1, "Product 1", BigDecimal.valueOf(100))),
+            List.of(missingId));
+
+    // when
+    when(productService.getProductsByIds(List.of(id2, missingId, id1))).thenReturn(lookup);
+
+    // then
+    mockMvc
+        .perform(get(PRODUCTS).param("ids", id2 + "," + missingId + "," + id1))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.products[0].id").value(id2.toString()))
+        .andExpect(jsonPath("$.products[1].id").value(id1.toString()))
+        .andExpect(jsonPath("$.missingIds[0]").value(missingId.toString()));
+
+    mockMvc
+        .perform(
+            post(PRODUCTS + "/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    String.format(
+                        "{\"ids\": [\"%s\", \"%s\", \"%s\"]}", id2, missingId, id1)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.products.length()").value(2))
+        .andExpect(jsonPath("$.missingIds[0]").value(missingId.toString()));
+  }
+
+  @Test
+  void shouldExportProductsAsNdjson() throws Exception {
+    // given
+    Product product1 = new Product(UUID.randomUUID(), "Product 1", BigDecimal.valueOf(100), 0L);
+    Product product2 = new Product(UUID.randomUUID(), "Product 2", BigDecimal.valueOf(200), 3L);
+
+    // when
+    doAnswer(
+            invocation -> {
+              Consumer<Product> consumer = invocation.getArgument(0);
+              consumer.accept(product1);
+              consumer.accept(product2);
+              return null;
+            })
+        .when(productService)
+        .exportProducts(any());
+
+    // then
+    String expected =
+        String.format(
+            "{\"id\":\"%s\",\"name\":\"Product 1\",\"price\":100,\"version\":0}\n"
+                + "{\"id\":\"%s\",\"name\":\"Product 2\",\"price\":200,\"version\":3}\n",
+            product1.getId(), product2.getId());
+    mockMvc
+        .perform(get(PRODUCTS + "/export"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+        .andExpect(content().string(expected));
+  }
+
   @Test
   void shouldCreateNewProduct() throws Exception {
     // given
@@ -108,6 +338,80 @@ class ProductControllerTest {
         .andExpect(jsonPath("$.price").value(100));
   }
 
+  @Test
+  void shouldImportProductsFromJsonArray() throws Exception {
+    // given
+    String requestBody =
+        """
+        [
+          { "name": "Product 1", "price": 100 },
+          { "name": "Product 2", "price": "abc" },
+          { "name": "Product 3", "price": 300 }
+        ]
+        """;
+
+    // when
+    doAnswer(invocation -> importResult(invocation.getArgument(0)))
+        .when(productService)
+        .importProducts(any());
+
+    // then
+    mockMvc
+        .perform(
+            post(PRODUCTS + "/bulk").contentType(MediaType.APPLICATION_JSON).content(requestBody))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.imported").value(2))
+        .andExpect(jsonPath("$.failures.length()").value(1))
+        .andExpect(jsonPath("$.failures[0].row").value(2));
+  }
+
+  @Test
+  void shouldImportProductsFromCsv() throws Exception {
+    // given
+    String requestBody =
+        """
+        name,price
+        Product 1,100
+        "Product 2, large",200
+
+        Product 3,abc
+        """;
+
+    // when
+    doAnswer(invocation -> importResult(invocation.getArgument(0)))
+        .when(productService)
+        .importProducts(any());
+
+    // then
+    mockMvc
+        .perform(
+            post(PRODUCTS + "/bulk")
+                .contentType(ProductController.TEXT_CSV_VALUE)
+                .content(requestBody))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.imported").value(2))
+        .andExpect(jsonPath("$.failures[0].row").value(5))
+        .andExpect(jsonPath("$.failures[0].error").value("Invalid price: abc"));
+  }
+
+  @Test
+  void shouldReturn400WhenImportPayloadIsInvalid() throws Exception {
+    mockMvc
+        .perform(
+            post(PRODUCTS + "/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Product\"}"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Payload must be a JSON array of products"));
+
+    mockMvc
+        .perform(
+            post(PRODUCTS + "/bulk")
+                .contentType(ProductController.TEXT_CSV_VALUE)
+                .content("title,cost\nProduct,100\n"))
+        .andExpect(status().isBadRequest());
+  }
+
   @Test
   void shouldUpdateProduct() throws Exception {
     // given
@@ -116,8 +420,7 @@ class ProductControllerTest {
 
     // when
     when(productService.getProductById(eq(productId))).thenReturn(existingProduct);
-    when(productRepositoryAdapter.saveProduct(any()))
-        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(productService.updateProduct(any())).thenAnswer(invocation -> invocation.getArgument(0));
     when(productResponseDtoMapper.toDto(any()))
         .thenReturn(new ProductResponseDto(productId, "Updated Product", BigDecimal.valueOf(150)));
 
@@ -130,12 +433,124 @@ class ProductControllerTest {
                     """
                 {
                     "name": "Updated Product",
-                    "price": 150
+                    "price": 150,
+                    "version": 2
                 }
                 """))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.name").value("Updated Product"))
         .andExpect(jsonPath("$.price").value(150));
+    verify(productService).updateProduct(argThat(product -> product.getVersion() == 2L));
+  }
+
+  @Test
+  void shouldUpdateProductAtTheVersionOfIfMatch() throws Exception {
+    // given
+    UUID productId = UUID.randomUUID();
+
+    // when
+    when(productService.updateProduct(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    // then
+    mockMvc
+        .perform(
+            put(PRODUCTS + "/" + productId)
+                .header(HttpHeaders.IF_MATCH, "\"7-binary\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Updated Product\", \"price\": 150}"))
+        .andExpect(status().isOk());
+    verify(productService).updateProduct(argThat(product -> product.getVersion() == 7L));
+  }
+
+  @Test
+  void shouldOverwriteLatestVersionOnlyWithIfMatchAny() throws Exception {
+    // given
+    UUID productId = UUID.randomUUID();
+
+    // when
+    when(productService.updateProduct(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    // then
+    mockMvc
+        .perform(
+            put(PRODUCTS + "/" + productId)
+                .header(HttpHeaders.IF_MATCH, "*")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Updated Product\", \"price\": 150}"))
+        .andExpect(status().isOk());
+    verify(productService).updateProduct(argThat(product -> product.getVersion() == null));
+  }
+
+  @Test
+  void shouldReturn428WhenUpdatingWithoutVersion() throws Exception {
+    // given
+    UUID productId = UUID.randomUUID();
+
+    // when
+    mockMvc
+        .perform(
+            put(PRODUCTS + "/" + productId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Updated Product\", \"price\": 150}"))
+        .andExpect(status().isPreconditionRequired())
+        .andExpect(jsonPath("$.status").value(428));
+
+    // then
+    verify(productService, never()).updateProduct(any());
+  }
+
+  @Test
+  void shouldReturn400WhenIfMatchIsMalformedOrDisagreesWithTheBody() throws Exception {
+    // given
+    UUID productId = UUID.randomUUID();
+
+    // when
+    mockMvc
+        .perform(
+            put(PRODUCTS + "/" + productId)
+                .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Updated Product\", \"price\": 150}"))
+        .andExpect(status().isBadRequest());
+    mockMvc
+        .perform(
+            put(PRODUCTS + "/" + productId)
+                .header(HttpHeaders.IF_MATCH, "\"4\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Updated Product\", \"price\": 150, \"version\": 3}"))
+        .andExpect(status().isBadRequest());
+
+    // then
+    verify(productService, never()).updateProduct(any());
+  }
+
+  @Test
+  void shouldReturn409WhenUpdatingStaleVersion() throws Exception {
+    // given
+    UUID productId = UUID.randomUUID();
+
+    // when
+    when(productService.updateProduct(any()))
+        .thenThrow(new ProductVersionConflictException(productId, 3));
+
+    // then
+    mockMvc
+        .perform(
+            put(PRODUCTS + "/" + productId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    """
+                {
+                    "name": "Updated Product",
+                    "price": 150,
+                    "version": 3
+                }
+                """))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.status").value(409))
+        .andExpect(
+            jsonPath("$.message")
+                .value("Product with id " + productId + " is no longer at version 3."));
   }
 
   @Test
@@ -154,10 +569,10 @@ class ProductControllerTest {
   void shouldReturnCalculatedPrice() throws Exception {
     // given
     UUID productId = UUID.randomUUID();
-    Product product = new Product(productId, "Product", BigDecimal.valueOf(100));
 
-    when(productService.getProductById(any())).thenReturn(product);
-    when(productService.calculateDiscountedPrice(any(), eq(1), any(), any()))
+    when(productService.getProductPrice(productId)).thenReturn(BigDecimal.valueOf(100));
+    when(productService.calculateDiscountedPrice(
+            eq(BigDecimal.valueOf(100)), eq(1), any(), any()))
         .thenReturn(BigDecimal.valueOf(500));
 
     // when + then
@@ -172,6 +587,48 @@ class ProductControllerTest {
         .andExpect(content().string(BigDecimal.valueOf(500).toString()));
   }
 
+  @Test
+  void shouldReturnPriceQuotesPerLine() throws Exception {
+    // given
+    UUID knownId = UUID.randomUUID();
+    UUID unknownId = UUID.randomUUID();
+
+    when(productService.calculateDiscountedPrices(any()))
+        .thenReturn(
+            List.of(
+                new PriceQuote(knownId, 10, "BOTH", "CUMULATIVE", BigDecimal.valueOf(855), null),
+                new PriceQuote(
+                    unknownId,
+                    1,
+                    "QUANTITY",
+                    "HIGHEST",
+                    null,
+                    "Product with id " + unknownId + " not found.")));
+
+    // when + then
+    mockMvc
+        .perform(
+            post(PRODUCTS + "/calculate-prices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    String.format(
+                        """
+                        [
+                          {"productId": "%s", "quantity": 10,
+                           "discountType": "BOTH", "discountPolicy": "CUMULATIVE"},
+                          {"productId": "%s", "quantity": 1,
+                           "discountType": "QUANTITY", "discountPolicy": "HIGHEST"}
+                        ]
+                        """,
+                        knownId, unknownId)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(jsonPath("$[0].productId").value(knownId.toString()))
+        .andExpect(jsonPath("$[0].price").value(855))
+        .andExpect(jsonPath("$[1].price").doesNotExist())
+        .andExpect(jsonPath("$[1].error").value("Product with id " + unknownId + " not found."));
+  }
+
   @Test
   void shouldReturn404WhenProductNotFound() throws Exception {
     // given
@@ -188,14 +645,31 @@ class ProductControllerTest {
         .andExpect(jsonPath("$.message").value("Product with id " + productId + " not found."));
   }
 
+  @Test
+  void shouldReturn404WhenPricingUnknownProduct() throws Exception {
+    // given
+    UUID productId = UUID.randomUUID();
+    when(productService.getProductPrice(productId))
+        .thenThrow(new ProductNotFoundException(productId));
+
+    // when + then
+    mockMvc
+        .perform(
+            get(PRODUCTS + "/" + productId + "/calculate-price")
+                .param("quantity", "1")
+                .param("discountType", "QUANTITY")
+                .param("discountPolicy", "CUMULATIVE"))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.message").value("Product with id " + productId + " not found."));
+  }
+
   @Test
   void shouldReturn400WhenInvalidDiscountStrategy() throws Exception {
     // given
     UUID productId = UUID.randomUUID();
 
     // when
-    when(productService.getProductById(productId))
-        .thenReturn(new Product(productId, "Test", BigDecimal.valueOf(100)));
+    when(productService.getProductPrice(productId)).thenReturn(BigDecimal.valueOf(100));
     when(productService.calculateDiscountedPrice(
             any(BigDecimal.class), anyInt(), anyString(), anyString()))
         .thenThrow(
@@ -231,4 +705,169 @@ class ProductControllerTest {
         .andExpect(jsonPath("$.status").value(500))
         .andExpect(jsonPath("$.message").value("Unexpected error occurred."));
   }
+
+  @Test
+  void shouldTagBinaryAndJsonRepresentationsApart() throws Exception {
+    // given
+    UUID productId = UUID.randomUUID();
+    Product product = new Product(productId, "Product", BigDecimal.valueOf(100), 3L);
+    when(productService.getKnownProductVersion(productId)).thenReturn(3L);
+    when(productService.getProductById(productId)).thenReturn(product);
+    when(productService.getCatalogVersion()).thenReturn("abc-7");
+    when(productService.getProductPage(isNull(), eq(100)))
+        .thenReturn(new ProductPage(List.of(product), null));
+
+    // when / then
+    mockMvc
+        .perform(get(PRODUCTS + "/" + productId).accept(ProductBinaryCodec.MEDIA_TYPE))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"3-binary\""))
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    mockMvc
+        .perform(
+            get(PRODUCTS + "/" + productId)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3-binary\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    mockMvc
+        .perform(
+            get(PRODUCTS)
+                .accept(ProductBinaryCodec.MEDIA_TYPE)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"abc-7\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"abc-7-binary\""));
+    mockMvc
+        .perform(
+            get(PRODUCTS)
+                .accept(ProductBinaryCodec.MEDIA_TYPE)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"abc-7-binary\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+  }
+
+  @Test
+  void shouldReturnProductsInBinaryFormatOnlyWhenAsked() throws Exception {
+    // given
+    UUID productId = UUID.randomUUID();
+    Product product = new Product(productId, "Product", new BigDecimal("100.50"), 4L);
+    when(productService.getProductById(productId)).thenReturn(product);
+    when(productService.getProductPage(isNull(), eq(100)))
+        .thenReturn(new ProductPage(List.of(product), null));
+
+    // when
+    byte[] single =
+        mockMvc
+            .perform(get(PRODUCTS + "/" + productId).accept(ProductBinaryCodec.MEDIA_TYPE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(ProductBinaryCodec.MEDIA_TYPE))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+    byte[] page =
+        mockMvc
+            .perform(get(PRODUCTS).accept(ProductBinaryCodec.MEDIA_TYPE))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    // then
+    ProductResponseDto expected =
+        new ProductResponseDto(productId, "Product", new BigDecimal("100.50"), 4L);
+    assertThat(ProductBinaryCodec.readProduct(binary(single))).isEqualTo(expected);
+    assertThat(ProductBinaryCodec.readProducts(binary(page))).containsExactly(expected);
+    mockMvc
+        .perform(get(PRODUCTS + "/" + productId).accept(MediaType.ALL))
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+  }
+
+  @Test
+  void shouldQuotePricesInBinaryFormat() throws Exception {
+    // given
+    UUID productId = UUID.randomUUID();
+    ByteArrayOutputStream request = new ByteArrayOutputStream();
+    ProductBinaryCodec.writePriceQuoteRequests(
+        new DataOutputStream(request),
+        List.of(new PriceQuoteRequestDto(productId, 10, "BOTH", "CUMULATIVE")));
+    when(productService.calculateDiscountedPrices(any()))
+        .thenAnswer(
+            invocation -> {
+              List<PriceQuoteRequest> lines = invocation.getArgument(0);
+              assertThat(lines).extracting(PriceQuoteRequest::productId).containsExactly(productId);
+              return List.of(
+                  new PriceQuote(
+                      productId, 10, "BOTH", "CUMULATIVE", BigDecimal.valueOf(855), null));
+            });
+
+    // when
+    byte[] response =
+        mockMvc
+            .perform(
+                post(PRODUCTS + "/calculate-prices")
+                    .contentType(ProductBinaryCodec.MEDIA_TYPE)
+                    .accept(ProductBinaryCodec.MEDIA_TYPE)
+                    .content(request.toByteArray()))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    // then
+    assertThat(ProductBinaryCodec.readPriceQuoteResponses(binary(response)))
+        .containsExactly(
+            new PriceQuoteResponseDto(
+                productId, 10, "BOTH", "CUMULATIVE", BigDecimal.valueOf(855), null));
+  }
+
+  @Test
+  void shouldImportProductsInBinaryFormat() throws Exception {
+    // given
+    ByteArrayOutputStream request = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(request);
+    ProductBinaryCodec.writeProductRequest(out, new ProductRequestDto("Product 1", BigDecimal.ONE));
+    ProductBinaryCodec.writeProductRequest(out, new ProductRequestDto("Product 2", BigDecimal.TEN));
+    out.write(new byte[] {(byte) 0x8A});
+    doAnswer(invocation -> importResult(invocation.getArgument(0)))
+        .when(productService)
+        .importProducts(any());
+
+    // when
+    byte[] response =
+        mockMvc
+            .perform(
+                post(PRODUCTS + "/bulk")
+                    .contentType(ProductBinaryCodec.MEDIA_TYPE)
+                    .accept(ProductBinaryCodec.MEDIA_TYPE)
+                    .content(request.toByteArray()))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    // then
+    ProductImportResponseDto result = ProductBinaryCodec.readImportResponse(binary(response));
+    assertThat(result.imported()).isEqualTo(2);
+    assertThat(result.failures()).hasSize(1);
+    assertThat(result.failures().get(0).row()).isEqualTo(3);
+  }
+
+  private static DataInputStream binary(byte[] bytes) {
+    return new DataInputStream(new ByteArrayInputStream(bytes));
+  }
+
+  private static ProductImportResult importResult(Iterator<ProductImportRow> rows) {
+    long imported = 0;
+    List<ProductImportFailure> failures = new ArrayList<>();
+    while (rows.hasNext()) {
+      ProductImportRow row = rows.next();
+      if (row.error() == null) {
+        imported++;
+      } else {
+        failures.add(new ProductImportFailure(row.row(), row.error()));
+      }
+    }
+    return new ProductImportResult(imported, failures);
+  }
 }
@@ -0,0 +1,109 @@
+package com.zen.ala.infrastructure.web.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.zen.ala.infrastructure.web.dto.PriceQuoteRequestDto;
+import com.zen.ala.infrastructure.web.dto.PriceQuoteResponseDto;
+import com.zen.ala.infrastructure.web.dto.ProductImportFailureDto;
+import com.zen.ala.infrastructure.web.dto.ProductImportResponseDto;
+import com.zen.ala.infrastructure.web.dto.ProductResponseDto;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ProductBinaryCodec}.
+ *
+ * <p>Covers round trips of every message, the size of a typical product and truncated input.
+ */
+class ProductBinaryCodecTest {
+
+  @Test
+  void shouldRoundTripProductsIncludingNullsAndExtremeValues() throws IOException {
+    // given
+    List<ProductResponseDto> products =
+        List.of(
+            new ProductResponseDto(UUID.randomUUID(), "Żółw", new BigDecimal("100.00"), 3L),
+            new ProductResponseDto(UUID.randomUUID(), null, null, null),
+            new ProductResponseDto(
+                UUID.randomUUID(), "", new BigDecimal("-1E-400"), Long.MAX_VALUE - 1));
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    // when
+    ProductBinaryCodec.writeProducts(new DataOutputStream(bytes), products);
+    List<ProductResponseDto> read = ProductBinaryCodec.readProducts(input(bytes.toByteArray()));
+
+    // then
+    assertThat(read).isEqualTo(products);
+  }
+
+  @Test
+  void shouldEncodeTypicalProductCompactly() throws IOException {
+    // given
+    ProductResponseDto product =
+        new ProductResponseDto(UUID.randomUUID(), "Product", new BigDecimal("1999.99"), 12L);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    // when
+    ProductBinaryCodec.writeProduct(new DataOutputStream(bytes), product);
+
+    // then
+    // 16 id, 1 + 7 name, 1 + 3 + 1 price, 1 version
+    assertThat(bytes.size()).isEqualTo(30);
+  }
+
+  @Test
+  void shouldRoundTripPriceQuotesAndImportResult() throws IOException {
+    // given
+    UUID productId = UUID.randomUUID();
+    List<PriceQuoteRequestDto> requests =
+        List.of(new PriceQuoteRequestDto(productId, -5, "BOTH", null));
+    List<PriceQuoteResponseDto> responses =
+        List.of(
+            new PriceQuoteResponseDto(
+                productId, 10, "BOTH", "HIGHEST", new BigDecimal("9.5"), null),
+            new PriceQuoteResponseDto(productId, 1, null, null, null, "Product not found"));
+    ProductImportResponseDto result =
+        new ProductImportResponseDto(3, List.of(new ProductImportFailureDto(2, "Invalid price")));
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+
+    // when
+    ProductBinaryCodec.writePriceQuoteRequests(out, requests);
+    ProductBinaryCodec.writePriceQuoteResponses(out, responses);
+    ProductBinaryCodec.writeImportResponse(out, result);
+    DataInputStream in = input(bytes.toByteArray());
+
+    // then
+    assertThat(ProductBinaryCodec.readPriceQuoteRequests(in)).isEqualTo(requests);
+    assertThat(ProductBinaryCodec.readPriceQuoteResponses(in)).isEqualTo(responses);
+    assertThat(ProductBinaryCodec.readImportResponse(in)).isEqualTo(result);
+  }
+
+  @Test
+  void shouldRejectTruncatedInput() throws IOException {
+    // given
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ProductBinaryCodec.writeProducts(
+        new DataOutputStream(bytes),
+        List.of(new ProductResponseDto(UUID.randomUUID(), "Product", BigDecimal.ONE, 0L)));
+    byte[] truncated = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 3);
+
+    // when + then
+    assertThatThrownBy(() -> ProductBinaryCodec.readProducts(input(truncated)))
+        .isInstanceOf(EOFException.class);
+  }
+
+  private static DataInputStream input(byte[] bytes) {
+    return new DataInputStream(new ByteArrayInputStream(bytes));
+  }
+}
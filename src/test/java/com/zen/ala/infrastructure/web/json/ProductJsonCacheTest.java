@@ -0,0 +1,99 @@
+package com.zen.ala.infrastructure.web.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zen.ala.domain.model.Product;
+import com.zen.ala.infrastructure.config.ProductJsonCacheProperties;
+import com.zen.ala.infrastructure.web.dto.ProductResponseDto;
+import com.zen.ala.infrastructure.web.mapper.ProductResponseDtoMapper;
+import com.zen.ala.infrastructure.web.mapper.ProductResponseDtoMapperImpl;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Test class for {@link ProductJsonCache}.
+ *
+ * <p>Covers version matching, array assembly, off-heap buffers and the size bound.
+ */
+class ProductJsonCacheTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ProductResponseDtoMapper mapper = new ProductResponseDtoMapperImpl();
+
+  @Test
+  void shouldServeCachedJsonOnlyForItsVersion() throws IOException {
+    // given
+    ProductJsonCache cache = cache(new ProductJsonCacheProperties());
+    UUID id = UUID.randomUUID();
+    Product product = new Product(id, "Product", BigDecimal.valueOf(100), 1L);
+
+    // when
+    String encoded = write(cache.encode(product));
+    EncodedJson sameVersion = cache.getIfPresent(id, 1L);
+    EncodedJson otherVersion = cache.getIfPresent(id, 2L);
+
+    // then
+    assertThat(encoded).isEqualTo(objectMapper.writeValueAsString(mapper.toDto(product)));
+    assertThat(sameVersion).isNotNull();
+    assertThat(write(sameVersion)).isEqualTo(encoded);
+    assertThat(otherVersion).isNull();
+  }
+
+  @Test
+  void shouldAssembleArrayFromOffHeapFragments() throws IOException {
+    // given
+    ProductJsonCacheProperties properties = new ProductJsonCacheProperties();
+    properties.setOffHeap(true);
+    ProductJsonCache cache = cache(properties);
+    List<Product> products =
+        List.of(
+            new Product(UUID.randomUUID(), "First", BigDecimal.ONE, 0L),
+            new Product(UUID.randomUUID(), "Second", BigDecimal.TEN, null));
+    List<ProductResponseDto> dtos = products.stream().map(mapper::toDto).toList();
+
+    // when
+    cache.encode(products.get(0));
+    EncodedJson array = cache.encodeAll(products);
+    String written = write(array);
+
+    // then
+    assertThat(written).isEqualTo(objectMapper.writeValueAsString(dtos));
+    assertThat(array.contentLength()).isEqualTo(written.getBytes(StandardCharsets.UTF_8).length);
+    assertThat(write(array)).isEqualTo(written);
+    assertThat(write(EncodedJson.array(List.of()))).isEqualTo("[]");
+  }
+
+  @Test
+  void shouldStayWithinMaximumSize() {
+    // given
+    ProductJsonCacheProperties properties = new ProductJsonCacheProperties();
+    properties.setMaximumSize(DataSize.ofKilobytes(8));
+    ProductJsonCache cache = cache(properties);
+
+    // when
+    for (int i = 0; i < 1000; i++) {
+      cache.encode(new Product(UUID.randomUUID(), "Product" + i, BigDecimal.ONE, 0L));
+    }
+
+    // then
+    assertThat(cache.getNativeCache().estimatedSize()).isLessThan(100);
+    assertThat(cache.getNativeCache().stats().evictionCount()).isGreaterThan(900);
+  }
+
+  private ProductJsonCache cache(ProductJsonCacheProperties properties) {
+    return new ProductJsonCache(properties, objectMapper, mapper);
+  }
+
+  private static String write(EncodedJson json) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    json.writeTo(out);
+    return out.toString(StandardCharsets.UTF_8);
+  }
+}
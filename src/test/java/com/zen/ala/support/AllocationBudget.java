@@ -0,0 +1,144 @@
+package com.zen.ala.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * Measures the bytes an operation allocates on the calling thread and checks them against a
+ * budget.
+ *
+ * <p>Budgets are the bytes per operation measured when the path was last tuned, kept in {@code
+ * allocation-budgets.properties} on the test classpath by operation name. The operation is first
+ * run {@value #WARMUP_OPERATIONS} times so the JIT compiles it, then allocation is read from {@link
+ * com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()} around {@value #ROUNDS}
+ * rounds of {@value #ROUND_OPERATIONS} operations, and the lowest round is kept so a
+ * recompilation or a safepoint in one round does not count. Results are kept as retained by the
+ * operation; escape analysis can only lower them, so the budgets hold from the first compilation
+ * tier on.
+ *
+ * <p>Allocation differs slightly between JDK builds and JIT decisions, so an operation may exceed
+ * its budget by {@code allocation.tolerance-percent} percent (10 by default), and by at least
+ * {@value #MIN_TOLERANCE_BYTES} bytes, the size of the smallest object.
+ *
+ * <p>Every measured operation is listed with its budget (before), allowed bytes and measured bytes
+ * (after) in {@code build/reports/allocation/allocation-budgets.csv}. When a change lowers the
+ * allocation of an operation, lower its budget along with it.
+ */
+public final class AllocationBudget {
+
+  private static final int WARMUP_OPERATIONS = 100_000;
+  private static final int ROUNDS = 5;
+  private static final int ROUND_OPERATIONS = 10_000;
+  private static final long MIN_TOLERANCE_BYTES = 16;
+  private static final long TOLERANCE_PERCENT = Long.getLong("allocation.tolerance-percent", 10);
+
+  private static final String BUDGETS = "/allocation-budgets.properties";
+  private static final Path REPORT =
+      Path.of("build", "reports", "allocation", "allocation-budgets.csv");
+
+  private static final com.sun.management.ThreadMXBean THREADS =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+  private static final Properties budgets = loadBudgets();
+  private static final Map<String, String> reportRows = new ConcurrentSkipListMap<>();
+
+  // every result is published here, so the JIT cannot drop the allocations of the operation
+  private static volatile Object sink;
+
+  private AllocationBudget() {}
+
+  /**
+   * Fails if the operation allocates more bytes per call than its budget and tolerance.
+   *
+   * @param operation the name of the operation in {@code allocation-budgets.properties}
+   * @param body runs the operation once and returns its result
+   */
+  public static void assertWithinBudget(String operation, Supplier<?> body) {
+    String budgetValue = budgets.getProperty(operation);
+    assertThat(budgetValue).as("allocation budget of %s in %s", operation, BUDGETS).isNotNull();
+    long budget = Long.parseLong(budgetValue.trim());
+
+    long allowed = budget + Math.max(MIN_TOLERANCE_BYTES, budget * TOLERANCE_PERCENT / 100);
+    long measured = bytesPerOperation(body);
+    boolean withinBudget = measured <= allowed;
+    report(operation, budget, allowed, measured, withinBudget);
+
+    if (!withinBudget) {
+      fail(
+          "%s allocates more than its budget: before %d bytes/op (%d allowed), after %d bytes/op",
+          operation, budget, allowed, measured);
+    }
+  }
+
+  /**
+   * Measures the bytes allocated by one call of an operation on the calling thread.
+   *
+   * @param body runs the operation once and returns its result
+   * @return the bytes allocated per call, rounded up
+   */
+  public static long bytesPerOperation(Supplier<?> body) {
+    assertThat(THREADS.isThreadAllocatedMemorySupported())
+        .as("thread allocation measurement")
+        .isTrue();
+    THREADS.setThreadAllocatedMemoryEnabled(true);
+
+    for (int i = 0; i < WARMUP_OPERATIONS; i++) {
+      sink = body.get();
+    }
+    long lowest = Long.MAX_VALUE;
+    for (int round = 0; round < ROUNDS; round++) {
+      long before = THREADS.getCurrentThreadAllocatedBytes();
+      for (int i = 0; i < ROUND_OPERATIONS; i++) {
+        sink = body.get();
+      }
+      lowest = Math.min(lowest, THREADS.getCurrentThreadAllocatedBytes() - before);
+    }
+    return (lowest + ROUND_OPERATIONS - 1) / ROUND_OPERATIONS;
+  }
+
+  private static void report(
+      String operation, long budget, long allowed, long measured, boolean withinBudget) {
+    reportRows.put(
+        operation,
+        String.join(
+            ",",
+            operation,
+            String.valueOf(budget),
+            String.valueOf(allowed),
+            String.valueOf(measured),
+            withinBudget ? "ok" : "over budget"));
+    List<String> rows = new ArrayList<>();
+    rows.add("operation,budget_bytes,allowed_bytes,measured_bytes,result");
+    rows.addAll(reportRows.values());
+    try {
+      Files.createDirectories(REPORT.getParent());
+      Files.write(REPORT, rows);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static Properties loadBudgets() {
+    Properties properties = new Properties();
+    try (InputStream in = AllocationBudget.class.getResourceAsStream(BUDGETS)) {
+      if (in != null) {
+        properties.load(in);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return properties;
+  }
+}
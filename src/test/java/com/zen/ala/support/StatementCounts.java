@@ -0,0 +1,44 @@
+package com.zen.ala.support;
+
+import static org.assertj.core.api.Assertions.fail;
+
+import com.zen.ala.infrastructure.metrics.DatabaseWork;
+
+/**
+ * Asserts the exact number of SQL statements an operation executes.
+ *
+ * <p>Statements are counted by the {@code DatabaseStatementInspector} registered in {@code
+ * application.yaml}, so the operation must run on the calling thread and commit its own
+ * transaction; pending writes of an enclosing test transaction would be flushed, and counted, by a
+ * later operation. A failure lists the SQL of every counted statement,
+ * which shows a select sneaking in before an update or a query repeated per row.
+ */
+public final class StatementCounts {
+
+  private StatementCounts() {}
+
+  /**
+   * Fails unless the operation executes exactly the given number of queries and updates.
+   *
+   * @param queries the expected number of selects
+   * @param updates the expected number of inserts, updates and deletes, a JDBC batch counting once
+   * @param operation the operation to run once
+   */
+  public static void assertStatements(int queries, int updates, Runnable operation) {
+    DatabaseWork work = DatabaseWork.beginWithStatements();
+    try {
+      operation.run();
+    } finally {
+      work.end();
+    }
+    if (work.getQueries() != queries || work.getUpdates() != updates) {
+      fail(
+          "expected %d queries and %d updates, executed %d queries and %d updates:%n%s",
+          queries,
+          updates,
+          work.getQueries(),
+          work.getUpdates(),
+          String.join(System.lineSeparator(), work.getStatements()));
+    }
+  }
+}